@@ -0,0 +1,72 @@
+package com.gymapp.backend.aop;
+
+import com.gymapp.backend.exceptions.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class OptimisticRetryAspect {
+    static final String CONFLICTS_METRIC = "gymapp.optimistic.conflicts";
+    static final String OUTCOMES_METRIC = "gymapp.optimistic.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // The enclosing transaction owns the stale state, so only its boundary can retry.
+            return joinPoint.proceed();
+        }
+
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        int maxAttempts = Math.max(1, retryOnConflict.maxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                outcome(operation, attempt == 1 ? "success" : "retried").increment();
+                return result;
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                conflicts(operation).increment();
+                if (attempt >= maxAttempts) {
+                    outcome(operation, "exhausted").increment();
+                    log.warn("{} still conflicting after {} attempts", operation, attempt);
+                    throw new ConcurrentUpdateException(operation, attempt);
+                }
+                log.debug("{} hit an optimistic lock conflict on attempt {}, retrying", operation, attempt);
+                Thread.sleep(backoff(retryOnConflict.backoffMillis(), attempt));
+            }
+        }
+    }
+
+    private static long backoff(long baseMillis, int attempt) {
+        long ceiling = baseMillis << Math.min(attempt - 1, 10);
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private Counter conflicts(String operation) {
+        return meterRegistry.counter(CONFLICTS_METRIC, "method", operation);
+    }
+
+    private Counter outcome(String operation, String outcome) {
+        return meterRegistry.counter(OUTCOMES_METRIC, "method", operation, "outcome", outcome);
+    }
+}
@@ -0,0 +1,159 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import com.gymapp.backend.mappers.GymClassMapper;
+import com.gymapp.backend.repositories.GymClassRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class AvailableClassIndex {
+    private final GymClassRepository classRepository;
+    private final GymClassMapper classMapper;
+    private final Clock clock;
+    private final ScheduledExecutorService evictionTimer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("available-class-eviction").daemon().factory());
+
+    private final NavigableMap<ClassSlot, GymClassResponse> openClasses = new TreeMap<>();
+    private final Map<UUID, ClassSlot> slotsById = new HashMap<>();
+    private final Map<UUID, ClassVersion> versionsById = new HashMap<>();
+    private volatile List<GymClassResponse> snapshot;
+    private ScheduledFuture<?> nextEviction;
+    private LocalDateTime nextEvictionAt;
+
+    @Autowired
+    public AvailableClassIndex(GymClassRepository classRepository, GymClassMapper classMapper) {
+        this(classRepository, classMapper, Clock.systemDefaultZone());
+    }
+
+    AvailableClassIndex(GymClassRepository classRepository, GymClassMapper classMapper, Clock clock) {
+        this.classRepository = classRepository;
+        this.classMapper = classMapper;
+        this.clock = clock;
+    }
+
+    public List<GymClassResponse> current() {
+        List<GymClassResponse> classes = snapshot;
+        if (classes == null) {
+            classes = load();
+        }
+        return upcoming(classes, LocalDateTime.now(clock));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onClassChanged(GymClassChangedEvent event) {
+        if (snapshot == null) {
+            return;
+        }
+        GymClassResponse gymClass = event.gymClass();
+        if (ClassVersion.isStale(event, versionsById.get(gymClass.getId()))) {
+            log.debug("Ignoring stale change for class {} at version {}", gymClass.getId(), event.version());
+            return;
+        }
+        versionsById.put(gymClass.getId(), ClassVersion.of(gymClass));
+        ClassSlot previous = slotsById.remove(gymClass.getId());
+        if (previous != null) {
+            openClasses.remove(previous);
+        }
+        if (isOpen(gymClass, LocalDateTime.now(clock))) {
+            put(gymClass);
+        }
+        publish();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictionTimer.shutdownNow();
+    }
+
+    private synchronized List<GymClassResponse> load() {
+        if (snapshot == null) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            classRepository.findAvailableClasses(now).stream()
+                    .map(classMapper::toResponse)
+                    .filter(gymClass -> isOpen(gymClass, now))
+                    .forEach(this::put);
+            publish();
+            log.info("Available class index loaded with {} open classes", openClasses.size());
+        }
+        return snapshot;
+    }
+
+    private synchronized void evictStarted() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int evicted = 0;
+        while (!openClasses.isEmpty() && !openClasses.firstKey().scheduledAt().isAfter(now)) {
+            slotsById.remove(openClasses.pollFirstEntry().getValue().getId());
+            evicted++;
+        }
+        versionsById.values().removeIf(known -> !known.scheduledAt().isAfter(now));
+        nextEviction = null;
+        nextEvictionAt = null;
+        publish();
+        log.debug("Evicted {} started classes from the available class index", evicted);
+    }
+
+    private void put(GymClassResponse gymClass) {
+        ClassSlot slot = new ClassSlot(gymClass.getScheduledAt(), gymClass.getId());
+        openClasses.put(slot, gymClass);
+        slotsById.put(gymClass.getId(), slot);
+        versionsById.put(gymClass.getId(), ClassVersion.of(gymClass));
+    }
+
+    private void publish() {
+        snapshot = List.copyOf(openClasses.values());
+        armEviction();
+    }
+
+    private void armEviction() {
+        LocalDateTime head = openClasses.isEmpty() ? null : openClasses.firstKey().scheduledAt();
+        if (head == null ? nextEvictionAt == null : head.equals(nextEvictionAt)) {
+            return;
+        }
+        if (nextEviction != null) {
+            nextEviction.cancel(false);
+        }
+        nextEvictionAt = head;
+        nextEviction = head == null ? null : evictionTimer.schedule(this::evictStarted,
+                Math.max(0, Duration.between(LocalDateTime.now(clock), head).toMillis()), TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isOpen(GymClassResponse gymClass, LocalDateTime now) {
+        return gymClass.isActive()
+                && gymClass.getCurrentEnrollment() < gymClass.getMaxCapacity()
+                && gymClass.getScheduledAt().isAfter(now);
+    }
+
+    private static List<GymClassResponse> upcoming(List<GymClassResponse> classes, LocalDateTime now) {
+        int low = 0;
+        int high = classes.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (classes.get(mid).getScheduledAt().isAfter(now)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low == 0 ? classes : classes.subList(low, classes.size());
+    }
+}
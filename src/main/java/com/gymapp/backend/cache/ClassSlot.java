@@ -0,0 +1,21 @@
+package com.gymapp.backend.cache;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+
+record ClassSlot(LocalDateTime scheduledAt, UUID classId) implements Comparable<ClassSlot> {
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private static final Comparator<ClassSlot> ORDER = Comparator.comparing(ClassSlot::scheduledAt)
+            .thenComparing(ClassSlot::classId);
+
+    static ClassSlot lowerBound(LocalDateTime scheduledAt) {
+        return new ClassSlot(scheduledAt, MIN_ID);
+    }
+
+    @Override
+    public int compareTo(ClassSlot other) {
+        return ORDER.compare(this, other);
+    }
+}
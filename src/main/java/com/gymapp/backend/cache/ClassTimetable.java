@@ -0,0 +1,155 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.entities.GymClass;
+import com.gymapp.backend.enums.ClassType;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import com.gymapp.backend.mappers.GymClassMapper;
+import com.gymapp.backend.repositories.GymClassRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Slf4j
+@Component
+public class ClassTimetable {
+    private final GymClassRepository classRepository;
+    private final GymClassMapper classMapper;
+    private final Clock clock;
+    private final int retentionDays;
+
+    private final NavigableMap<ClassSlot, GymClassResponse> allClasses = new ConcurrentSkipListMap<>();
+    private final Map<ClassType, NavigableMap<ClassSlot, GymClassResponse>> classesByType = createTypeIndex();
+    private final Map<UUID, GymClassResponse> classesById = new ConcurrentHashMap<>();
+    private final Map<UUID, ClassVersion> versionsById = new HashMap<>();
+    private volatile LocalDateTime floor;
+    private volatile boolean loaded;
+
+    @Autowired
+    public ClassTimetable(GymClassRepository classRepository, GymClassMapper classMapper,
+                          @Value("${gymapp.timetable.retention-days:7}") int retentionDays) {
+        this(classRepository, classMapper, Clock.systemDefaultZone(), retentionDays);
+    }
+
+    ClassTimetable(GymClassRepository classRepository, GymClassMapper classMapper, Clock clock, int retentionDays) {
+        this.classRepository = classRepository;
+        this.classMapper = classMapper;
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+    }
+
+    public List<GymClassResponse> between(LocalDateTime from, LocalDateTime to, ClassType classType) {
+        ensureLoaded();
+        if (from.isBefore(floor)) {
+            return classRepository.findClassesBetweenDates(from, to).stream()
+                    .filter(gymClass -> gymClass.getScheduledAt().isBefore(to))
+                    .filter(gymClass -> classType == null || gymClass.getClassType() == classType)
+                    .sorted(Comparator.comparing(GymClass::getScheduledAt).thenComparing(GymClass::getId))
+                    .map(classMapper::toResponse)
+                    .toList();
+        }
+        NavigableMap<ClassSlot, GymClassResponse> index = classType != null ? classesByType.get(classType) : allClasses;
+        return new ArrayList<>(index.subMap(ClassSlot.lowerBound(from), true, ClassSlot.lowerBound(to), false).values());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onClassChanged(GymClassChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        UUID id = event.gymClass().getId();
+        if (ClassVersion.isStale(event, versionsById.get(id))) {
+            log.debug("Ignoring stale change for class {} at version {}", id, event.version());
+            return;
+        }
+        apply(event.gymClass());
+    }
+
+    @Scheduled(cron = "${gymapp.timetable.evict-cron:0 5 0 * * *}")
+    public synchronized void evictPast() {
+        if (!loaded) {
+            return;
+        }
+        floor = currentFloor();
+        List<UUID> past = allClasses.headMap(ClassSlot.lowerBound(floor)).values().stream()
+                .map(GymClassResponse::getId)
+                .toList();
+        past.forEach(this::remove);
+        versionsById.values().removeIf(known -> known.scheduledAt().isBefore(floor));
+        log.debug("Evicted {} past classes from the class timetable", past.size());
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                floor = currentFloor();
+                classRepository.findByActiveTrue().stream()
+                        .map(classMapper::toResponse)
+                        .filter(gymClass -> !gymClass.getScheduledAt().isBefore(floor))
+                        .forEach(this::apply);
+                loaded = true;
+                log.info("Class timetable loaded with {} classes", classesById.size());
+            }
+        }
+    }
+
+    private void apply(GymClassResponse gymClass) {
+        remove(gymClass.getId());
+        if (gymClass.getScheduledAt().isBefore(floor)) {
+            versionsById.remove(gymClass.getId());
+            return;
+        }
+        versionsById.put(gymClass.getId(), ClassVersion.of(gymClass));
+        if (gymClass.isActive()) {
+            put(gymClass);
+        }
+    }
+
+    private LocalDateTime currentFloor() {
+        return LocalDate.now(clock).minusDays(retentionDays).atStartOfDay();
+    }
+
+    private void put(GymClassResponse gymClass) {
+        ClassSlot slot = new ClassSlot(gymClass.getScheduledAt(), gymClass.getId());
+        allClasses.put(slot, gymClass);
+        classesByType.get(gymClass.getClassType()).put(slot, gymClass);
+        classesById.put(gymClass.getId(), gymClass);
+    }
+
+    private void remove(UUID id) {
+        GymClassResponse previous = classesById.remove(id);
+        if (previous != null) {
+            ClassSlot slot = new ClassSlot(previous.getScheduledAt(), id);
+            allClasses.remove(slot);
+            classesByType.get(previous.getClassType()).remove(slot);
+        }
+    }
+
+    private static Map<ClassType, NavigableMap<ClassSlot, GymClassResponse>> createTypeIndex() {
+        Map<ClassType, NavigableMap<ClassSlot, GymClassResponse>> index = new EnumMap<>(ClassType.class);
+        for (ClassType classType : ClassType.values()) {
+            index.put(classType, new ConcurrentSkipListMap<>());
+        }
+        return index;
+    }
+}
@@ -0,0 +1,16 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.events.GymClassChangedEvent;
+
+import java.time.LocalDateTime;
+
+record ClassVersion(long version, LocalDateTime scheduledAt) {
+    static ClassVersion of(GymClassResponse gymClass) {
+        return new ClassVersion(gymClass.getVersion() != null ? gymClass.getVersion() : 0L, gymClass.getScheduledAt());
+    }
+
+    static boolean isStale(GymClassChangedEvent event, ClassVersion known) {
+        return known != null && event.version() < known.version();
+    }
+}
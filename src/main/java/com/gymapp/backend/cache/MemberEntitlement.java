@@ -0,0 +1,17 @@
+package com.gymapp.backend.cache;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record MemberEntitlement(
+        UUID memberId,
+        String planName,
+        boolean personalTraining,
+        boolean groupClasses,
+        Integer maxClassesPerMonth,
+        LocalDate endDate) {
+
+    public boolean isActiveOn(LocalDate date) {
+        return !date.isAfter(endDate);
+    }
+}
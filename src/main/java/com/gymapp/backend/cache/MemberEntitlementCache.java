@@ -0,0 +1,82 @@
+package com.gymapp.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gymapp.backend.events.MembershipPlanChangedEvent;
+import com.gymapp.backend.events.SubscriptionChangedEvent;
+import com.gymapp.backend.repositories.SubscriptionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class MemberEntitlementCache {
+    private final SubscriptionRepository subscriptionRepository;
+    private final Cache<UUID, Optional<MemberEntitlement>> entitlements;
+    private final Cache<UUID, Long> invalidatedAt;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long allInvalidatedAt;
+
+    public MemberEntitlementCache(
+            SubscriptionRepository subscriptionRepository,
+            @Value("${gymapp.entitlements.ttl:10m}") Duration ttl,
+            @Value("${gymapp.entitlements.max-entries:100000}") long maxEntries) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.entitlements = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public Optional<MemberEntitlement> findActive(UUID memberId) {
+        Optional<MemberEntitlement> entitlement = entitlements.getIfPresent(memberId);
+        if (entitlement == null) {
+            entitlement = load(memberId);
+        }
+        return entitlement.filter(active -> active.isActiveOn(LocalDate.now()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        log.debug("Invalidating entitlement snapshot for member {}", event.memberId());
+        invalidatedAt.put(event.memberId(), generation.incrementAndGet());
+        entitlements.invalidate(event.memberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlanChanged(MembershipPlanChangedEvent event) {
+        log.debug("Invalidating all entitlement snapshots after change to plan {}", event.planId());
+        allInvalidatedAt = generation.incrementAndGet();
+        entitlements.invalidateAll();
+    }
+
+    private Optional<MemberEntitlement> load(UUID memberId) {
+        long startedAt = generation.get();
+        Optional<MemberEntitlement> loaded = subscriptionRepository.findActiveEntitlement(memberId);
+        // A snapshot read before the latest invalidation may predate the change, so it is served but not cached
+        entitlements.asMap().compute(memberId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return invalidatedSince(id, startedAt) ? null : loaded;
+        });
+        return loaded;
+    }
+
+    private boolean invalidatedSince(UUID memberId, long startedAt) {
+        Long memberInvalidatedAt = invalidatedAt.getIfPresent(memberId);
+        return allInvalidatedAt > startedAt || (memberInvalidatedAt != null && memberInvalidatedAt > startedAt);
+    }
+}
@@ -0,0 +1,117 @@
+package com.gymapp.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.gymapp.backend.dtos.responses.MemberVisitHistoryResponse;
+import com.gymapp.backend.dtos.responses.VisitResponse;
+import com.gymapp.backend.events.VisitRecordedEvent;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class MemberVisitIndex {
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveRepository archiveRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Cache<UUID, VisitHistory> histories;
+
+    public MemberVisitIndex(
+            AttendanceRepository attendanceRepository,
+            AttendanceArchiveRepository archiveRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${gymapp.visits.index.max-visits:5000000}") long maxVisits,
+            @Value("${gymapp.visits.index.ttl:1h}") Duration ttl) {
+        this.attendanceRepository = attendanceRepository;
+        this.archiveRepository = archiveRepository;
+        // Not read-only, so the routing data source sends loads to the primary: a history cached from a lagging
+        // replica would miss visits whose events were already applied and never see them until it expires.
+        // One transaction also reads both tables from the same snapshot while the archiver moves rows.
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        // Weighed by visit count so the bound is roughly maxVisits * 8 bytes, whatever the member mix.
+        this.histories = Caffeine.newBuilder()
+                .maximumWeight(maxVisits)
+                .weigher((UUID memberId, VisitHistory history) -> Math.max(1, history.size()))
+                // Counted from the load, not the last visit applied, so missed changes age out even for busy members.
+                .expireAfter(Expiry.creating((UUID memberId, VisitHistory history) -> ttl))
+                .build();
+    }
+
+    public MemberVisitHistoryResponse getHistory(UUID memberId, int limit) {
+        VisitHistory history = histories.get(memberId, id -> loadTransaction.execute(status -> load(id)));
+        VisitHistory.Stats stats = history.stats();
+        List<VisitResponse> recentVisits = new ArrayList<>();
+        for (long visit : history.latest(limit)) {
+            int checkOut = VisitHistory.checkOut(visit);
+            recentVisits.add(VisitResponse.builder()
+                    .checkInTime(toDateTime(VisitHistory.checkIn(visit)))
+                    .checkOutTime(checkOut == VisitHistory.OPEN ? null : toDateTime(checkOut))
+                    .durationMinutes(checkOut == VisitHistory.OPEN ? null : (long) checkOut - VisitHistory.checkIn(visit))
+                    .build());
+        }
+        return MemberVisitHistoryResponse.builder()
+                .memberId(memberId)
+                .totalVisits(stats.visits())
+                .completedVisits(stats.completed())
+                .totalMinutes(stats.totalMinutes())
+                .averageMinutes(stats.completed() == 0 ? 0 : stats.totalMinutes() / stats.completed())
+                .longestMinutes(stats.longestMinutes())
+                .lastCheckIn(stats.visits() == 0 ? null : toDateTime(stats.lastCheckIn()))
+                .recentVisits(recentVisits)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVisitRecorded(VisitRecordedEvent event) {
+        int checkIn = toMinute(event.checkInTime());
+        int checkOut = event.checkOutTime() == null ? VisitHistory.OPEN : toMinute(event.checkOutTime());
+        // compute, unlike computeIfPresent, waits for an in-flight load that may have read before this visit
+        // committed; replays are idempotent. Returning the history also reweighs it after record() grows the array.
+        histories.asMap().compute(event.memberId(), (memberId, history) -> {
+            if (history != null) {
+                history.record(checkIn, checkOut);
+            }
+            return history;
+        });
+    }
+
+    private VisitHistory load(UUID memberId) {
+        List<Object[]> hot = attendanceRepository.findVisitTimesByMemberId(memberId);
+        List<Object[]> archived = archiveRepository.findVisitTimesByMemberId(memberId);
+        long[] visits = new long[hot.size() + archived.size()];
+        int i = 0;
+        for (List<Object[]> rows : List.of(hot, archived)) {
+            for (Object[] row : rows) {
+                LocalDateTime checkOut = (LocalDateTime) row[1];
+                visits[i++] = VisitHistory.pack(toMinute((LocalDateTime) row[0]),
+                        checkOut == null ? VisitHistory.OPEN : toMinute(checkOut));
+            }
+        }
+        Arrays.sort(visits);
+        log.debug("Loaded {} visits into the visit index for member {}", visits.length, memberId);
+        return new VisitHistory(visits);
+    }
+
+    private static int toMinute(LocalDateTime time) {
+        return (int) (time.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    private static LocalDateTime toDateTime(int minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60L, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,59 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.dtos.responses.MembershipPlanResponse;
+import com.gymapp.backend.events.MembershipPlanChangedEvent;
+import com.gymapp.backend.mappers.MembershipPlanMapper;
+import com.gymapp.backend.repositories.MembershipPlanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanCatalog {
+    private final MembershipPlanRepository planRepository;
+    private final MembershipPlanMapper planMapper;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            return current != null ? current : rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPlanChanged(MembershipPlanChangedEvent event) {
+        log.debug("Rebuilding plan catalog after change to plan {}", event.planId());
+        rebuild();
+    }
+
+    synchronized Snapshot rebuild() {
+        List<MembershipPlanResponse> plans = planRepository.findByActiveTrueOrderByPriceAsc().stream()
+                .map(planMapper::toResponse)
+                .toList();
+        byte[] json = objectMapper.writeValueAsBytes(plans);
+        Snapshot next = new Snapshot(plans, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+        snapshot.set(next);
+        log.info("Plan catalog rebuilt with {} active plans", plans.size());
+        return next;
+    }
+
+    public record Snapshot(List<MembershipPlanResponse> plans, byte[] json, String etag) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.gymapp.backend.cache;
+
+import java.util.Arrays;
+
+// One long per visit: check-in epoch minute in the high half, check-out epoch minute (0 while open) in the low half.
+// Sorting the packed values therefore sorts the visits by check-in.
+final class VisitHistory {
+    static final int OPEN = 0;
+
+    private long[] visits;
+    private int size;
+
+    VisitHistory(long[] sortedVisits) {
+        this.visits = sortedVisits;
+        this.size = sortedVisits.length;
+    }
+
+    static long pack(int checkIn, int checkOut) {
+        return ((long) checkIn << 32) | (checkOut & 0xFFFFFFFFL);
+    }
+
+    static int checkIn(long visit) {
+        return (int) (visit >>> 32);
+    }
+
+    static int checkOut(long visit) {
+        return (int) visit;
+    }
+
+    // Keyed on the check-in minute, so replaying a visit the history already holds only fills in its check-out.
+    synchronized void record(int checkIn, int checkOut) {
+        int index = search(checkIn);
+        if (index < size && checkIn(visits[index]) == checkIn) {
+            if (checkOut != OPEN) {
+                visits[index] = pack(checkIn, checkOut);
+            }
+            return;
+        }
+        if (size == visits.length) {
+            visits = Arrays.copyOf(visits, Math.max(8, size + (size >> 1)));
+        }
+        System.arraycopy(visits, index, visits, index + 1, size - index);
+        visits[index] = pack(checkIn, checkOut);
+        size++;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized Stats stats() {
+        int completed = 0;
+        long totalMinutes = 0;
+        int longestMinutes = 0;
+        for (int i = 0; i < size; i++) {
+            int checkOut = checkOut(visits[i]);
+            if (checkOut != OPEN) {
+                int minutes = checkOut - checkIn(visits[i]);
+                completed++;
+                totalMinutes += minutes;
+                longestMinutes = Math.max(longestMinutes, minutes);
+            }
+        }
+        return new Stats(size, completed, totalMinutes, longestMinutes,
+                size == 0 ? OPEN : checkIn(visits[size - 1]));
+    }
+
+    synchronized long[] latest(int limit) {
+        int count = Math.min(limit, size);
+        long[] latest = new long[count];
+        for (int i = 0; i < count; i++) {
+            latest[i] = visits[size - 1 - i];
+        }
+        return latest;
+    }
+
+    private int search(int checkIn) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (checkIn(visits[mid]) < checkIn) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    record Stats(int visits, int completed, long totalMinutes, int longestMinutes, int lastCheckIn) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.gymapp.backend.columnar;
+
+public enum ColumnEncoding {
+    UUID_PLAIN,
+    UUID_DICTIONARY,
+    STRING_DICTIONARY,
+    TIMESTAMP_DELTA,
+    DATE_DELTA,
+    INT_PLAIN
+}
@@ -0,0 +1,10 @@
+package com.gymapp.backend.columnar;
+
+import java.util.function.Function;
+
+public record ColumnSpec<T>(String name, ColumnEncoding encoding, Function<T, ?> value) {
+
+    public static <T> ColumnSpec<T> of(String name, ColumnEncoding encoding, Function<T, ?> value) {
+        return new ColumnSpec<>(name, encoding, value);
+    }
+}
@@ -0,0 +1,137 @@
+package com.gymapp.backend.columnar;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class ColumnarReader {
+    private final Path file;
+    private final List<String> columnNames = new ArrayList<>();
+    private final List<ColumnEncoding> encodings = new ArrayList<>();
+    private final List<long[]> rowGroups = new ArrayList<>();
+
+    public ColumnarReader(Path file) throws IOException {
+        this.file = file;
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            int trailer = 4 + ColumnarWriter.MAGIC.length;
+            if (raf.length() < ColumnarWriter.MAGIC.length + trailer) {
+                throw new IOException("Not a columnar file: " + file);
+            }
+            raf.seek(raf.length() - trailer);
+            int footerLength = raf.readInt();
+            byte[] magic = new byte[ColumnarWriter.MAGIC.length];
+            raf.readFully(magic);
+            if (!Arrays.equals(magic, ColumnarWriter.MAGIC)) {
+                throw new IOException("Not a columnar file: " + file);
+            }
+            byte[] footer = new byte[footerLength];
+            raf.seek(raf.length() - trailer - footerLength);
+            raf.readFully(footer);
+            readFooter(new DataInputStream(new ByteArrayInputStream(footer)));
+        }
+    }
+
+    public List<String> columnNames() {
+        return columnNames;
+    }
+
+    public long rowCount() {
+        return rowGroups.stream().mapToLong(rowGroup -> rowGroup[0]).sum();
+    }
+
+    public void forEachRow(Consumer<Object[]> action) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            raf.seek(ColumnarWriter.MAGIC.length);
+            for (long[] rowGroup : rowGroups) {
+                int rows = (int) rowGroup[0];
+                Object[][] columns = new Object[encodings.size()][];
+                for (int c = 0; c < encodings.size(); c++) {
+                    byte[] chunk = new byte[(int) rowGroup[c + 1]];
+                    raf.readFully(chunk);
+                    columns[c] = decode(encodings.get(c), rows, new DataInputStream(new ByteArrayInputStream(chunk)));
+                }
+                for (int r = 0; r < rows; r++) {
+                    Object[] row = new Object[columns.length];
+                    for (int c = 0; c < columns.length; c++) {
+                        row[c] = columns[c][r];
+                    }
+                    action.accept(row);
+                }
+            }
+        }
+    }
+
+    private void readFooter(DataInputStream in) throws IOException {
+        int version = in.readByte();
+        if (version != ColumnarWriter.VERSION) {
+            throw new IOException("Unsupported columnar file version " + version);
+        }
+        long columnCount = VarInts.readUnsigned(in);
+        for (int i = 0; i < columnCount; i++) {
+            columnNames.add(in.readUTF());
+            encodings.add(ColumnEncoding.values()[in.readByte()]);
+        }
+        long rowGroupCount = VarInts.readUnsigned(in);
+        for (int g = 0; g < rowGroupCount; g++) {
+            long[] rowGroup = new long[encodings.size() + 1];
+            for (int i = 0; i < rowGroup.length; i++) {
+                rowGroup[i] = VarInts.readUnsigned(in);
+            }
+            rowGroups.add(rowGroup);
+        }
+    }
+
+    private static Object[] decode(ColumnEncoding encoding, int rows, DataInputStream in) throws IOException {
+        BitSet nulls = new BitSet();
+        if (VarInts.readUnsigned(in) > 0) {
+            byte[] bitmap = new byte[(int) VarInts.readUnsigned(in)];
+            in.readFully(bitmap);
+            nulls = BitSet.valueOf(bitmap);
+        }
+        List<Object> dictionary = new ArrayList<>();
+        if (encoding == ColumnEncoding.UUID_DICTIONARY || encoding == ColumnEncoding.STRING_DICTIONARY) {
+            long size = VarInts.readUnsigned(in);
+            for (int i = 0; i < size; i++) {
+                dictionary.add(encoding == ColumnEncoding.UUID_DICTIONARY ? readUuid(in) : in.readUTF());
+            }
+        }
+
+        Object[] values = new Object[rows];
+        long previous = 0;
+        for (int r = 0; r < rows; r++) {
+            if (nulls.get(r)) {
+                continue;
+            }
+            values[r] = switch (encoding) {
+                case UUID_PLAIN -> readUuid(in);
+                case UUID_DICTIONARY, STRING_DICTIONARY -> dictionary.get((int) VarInts.readUnsigned(in));
+                case TIMESTAMP_DELTA -> {
+                    previous += VarInts.readSigned(in);
+                    yield LocalDateTime.ofEpochSecond(Math.floorDiv(previous, 1_000_000),
+                            (int) Math.floorMod(previous, 1_000_000) * 1_000, ZoneOffset.UTC);
+                }
+                case DATE_DELTA -> {
+                    previous += VarInts.readSigned(in);
+                    yield LocalDate.ofEpochDay(previous);
+                }
+                case INT_PLAIN -> (int) VarInts.readSigned(in);
+            };
+        }
+        return values;
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
@@ -0,0 +1,181 @@
+package com.gymapp.backend.columnar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// File layout: MAGIC, row groups of column chunks back to back, footer, footer length, MAGIC.
+// Each chunk carries its own null bitmap and dictionary, and delta columns restart from zero per chunk,
+// so a reader only ever needs one row group in memory.
+public class ColumnarWriter<T> implements Closeable {
+    static final byte[] MAGIC = {'G', 'C', 'O', 'L'};
+    static final int VERSION = 1;
+
+    private final OutputStream out;
+    private final List<ColumnSpec<T>> columns;
+    private final List<ColumnChunk> chunks = new ArrayList<>();
+    private final List<long[]> rowGroups = new ArrayList<>();
+    private final int rowGroupSize;
+    private int groupRows;
+    private long rowCount;
+
+    public ColumnarWriter(OutputStream out, List<ColumnSpec<T>> columns, int rowGroupSize) throws IOException {
+        this.out = out;
+        this.columns = columns;
+        this.rowGroupSize = rowGroupSize;
+        for (ColumnSpec<T> column : columns) {
+            chunks.add(new ColumnChunk(column.encoding()));
+        }
+        out.write(MAGIC);
+    }
+
+    public void write(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            chunks.get(i).add(columns.get(i).value().apply(row));
+        }
+        rowCount++;
+        if (++groupRows == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushRowGroup();
+            ByteArrayOutputStream footer = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(footer);
+            data.writeByte(VERSION);
+            VarInts.writeUnsigned(data, columns.size());
+            for (ColumnSpec<T> column : columns) {
+                data.writeUTF(column.name());
+                data.writeByte(column.encoding().ordinal());
+            }
+            VarInts.writeUnsigned(data, rowGroups.size());
+            for (long[] rowGroup : rowGroups) {
+                for (long value : rowGroup) {
+                    VarInts.writeUnsigned(data, value);
+                }
+            }
+            footer.writeTo(out);
+            new DataOutputStream(out).writeInt(footer.size());
+            out.write(MAGIC);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (groupRows == 0) {
+            return;
+        }
+        long[] rowGroup = new long[columns.size() + 1];
+        rowGroup[0] = groupRows;
+        for (int i = 0; i < chunks.size(); i++) {
+            rowGroup[i + 1] = chunks.get(i).writeTo(out);
+        }
+        rowGroups.add(rowGroup);
+        groupRows = 0;
+    }
+
+    static long toEpochMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+
+    private static final class ColumnChunk {
+        private final ColumnEncoding encoding;
+        private final BitSet nulls = new BitSet();
+        private final Map<Object, Integer> dictionary = new LinkedHashMap<>();
+        private final ByteArrayOutputStream values = new ByteArrayOutputStream();
+        private int rows;
+        private long previous;
+
+        private ColumnChunk(ColumnEncoding encoding) {
+            this.encoding = encoding;
+        }
+
+        void add(Object value) throws IOException {
+            if (value == null) {
+                nulls.set(rows++);
+                return;
+            }
+            rows++;
+            switch (encoding) {
+                case UUID_PLAIN -> writeUuid(new DataOutputStream(values), (UUID) value);
+                case UUID_DICTIONARY -> VarInts.writeUnsigned(values, dictionaryIndex(value));
+                case STRING_DICTIONARY -> VarInts.writeUnsigned(values, dictionaryIndex(value.toString()));
+                case TIMESTAMP_DELTA -> delta(toEpochMicros((LocalDateTime) value));
+                case DATE_DELTA -> delta(((LocalDate) value).toEpochDay());
+                case INT_PLAIN -> VarInts.writeSigned(values, ((Number) value).longValue());
+            }
+        }
+
+        long writeTo(OutputStream out) throws IOException {
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(header);
+            VarInts.writeUnsigned(data, nulls.cardinality());
+            if (!nulls.isEmpty()) {
+                byte[] bitmap = nulls.toByteArray();
+                VarInts.writeUnsigned(data, bitmap.length);
+                data.write(bitmap);
+            }
+            if (encoding == ColumnEncoding.UUID_DICTIONARY || encoding == ColumnEncoding.STRING_DICTIONARY) {
+                VarInts.writeUnsigned(data, dictionary.size());
+                for (Object entry : dictionary.keySet()) {
+                    if (entry instanceof UUID uuid) {
+                        writeUuid(data, uuid);
+                    } else {
+                        data.writeUTF((String) entry);
+                    }
+                }
+            }
+            header.writeTo(out);
+            values.writeTo(out);
+            long length = header.size() + values.size();
+            reset();
+            return length;
+        }
+
+        private int dictionaryIndex(Object value) {
+            Integer index = dictionary.get(value);
+            if (index == null) {
+                index = dictionary.size();
+                dictionary.put(value, index);
+            }
+            return index;
+        }
+
+        private void delta(long value) throws IOException {
+            VarInts.writeSigned(values, value - previous);
+            previous = value;
+        }
+
+        private void reset() {
+            nulls.clear();
+            dictionary.clear();
+            values.reset();
+            rows = 0;
+            previous = 0;
+        }
+
+        private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+}
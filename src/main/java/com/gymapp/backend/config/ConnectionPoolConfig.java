@@ -0,0 +1,29 @@
+package com.gymapp.backend.config;
+
+import com.gymapp.backend.datasource.ConnectionHoldTracker;
+import com.gymapp.backend.datasource.TrackingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class ConnectionPoolConfig {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor connectionHoldTrackingPostProcessor(ObjectProvider<ConnectionHoldTracker> tracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof TrackingDataSource)) {
+                    return new TrackingDataSource(dataSource, tracker);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.gymapp.backend.config;
+
+import com.gymapp.backend.repositories.IdempotencyRecordRepository;
+import com.gymapp.backend.web.IdempotencyFilter;
+import com.gymapp.backend.web.IdempotencyStore;
+import com.gymapp.backend.web.InMemoryIdempotencyStore;
+import com.gymapp.backend.web.JpaIdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "gymapp.idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(
+            @Value("${gymapp.idempotency.ttl:24h}") Duration ttl,
+            @Value("${gymapp.idempotency.max-size:256MB}") DataSize maxSize) {
+        return new InMemoryIdempotencyStore(ttl, maxSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gymapp.idempotency.store", havingValue = "jpa")
+    public IdempotencyStore jpaIdempotencyStore(
+            IdempotencyRecordRepository recordRepository,
+            @Value("${gymapp.idempotency.ttl:24h}") Duration ttl) {
+        return new JpaIdempotencyStore(recordRepository, ttl);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${gymapp.idempotency.in-flight-timeout:10s}") Duration inFlightTimeout) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore, objectMapper, inFlightTimeout));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
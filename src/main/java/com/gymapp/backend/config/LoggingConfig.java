@@ -0,0 +1,26 @@
+package com.gymapp.backend.config;
+
+import com.gymapp.backend.web.LoggingOverheadFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<LoggingOverheadFilter> loggingOverheadFilter(MeterRegistry meterRegistry) {
+        Timer overhead = Timer.builder("gymapp.logging.overhead")
+                .description("Time each request spent handing log events to the async appender")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        FilterRegistrationBean<LoggingOverheadFilter> registration =
+                new FilterRegistrationBean<>(new LoggingOverheadFilter(overhead));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
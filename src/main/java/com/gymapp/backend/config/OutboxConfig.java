@@ -0,0 +1,23 @@
+package com.gymapp.backend.config;
+
+import com.gymapp.backend.outbox.NdjsonFileOutboxSink;
+import com.gymapp.backend.outbox.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink ndjsonFileOutboxSink(
+            @Value("${gymapp.outbox.file-sink.path:outbox/events.ndjson}") Path file,
+            ObjectMapper objectMapper) {
+        return new NdjsonFileOutboxSink(file, objectMapper);
+    }
+}
@@ -1,8 +1,12 @@
 package com.gymapp.backend.controllers;
 
+import com.gymapp.backend.dtos.requests.BatchAttendanceRequest;
 import com.gymapp.backend.dtos.requests.CheckInRequest;
 import com.gymapp.backend.dtos.responses.AttendanceReportResponse;
 import com.gymapp.backend.dtos.responses.AttendanceResponse;
+import com.gymapp.backend.dtos.responses.BatchAttendanceResponse;
+import com.gymapp.backend.dtos.responses.MemberVisitHistoryResponse;
+import com.gymapp.backend.services.AttendanceBatchService;
 import com.gymapp.backend.services.AttendanceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,6 +32,7 @@ import java.util.UUID;
 @Tag(name = "Attendance", description = "Attendance tracking endpoints")
 public class AttendanceController {
     private final AttendanceService attendanceService;
+    private final AttendanceBatchService attendanceBatchService;
 
     @PostMapping("/check-in")
     @Operation(summary = "Member check-in", description = "Records a member's gym entry")
@@ -43,6 +48,18 @@ public class AttendanceController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Ingest turnstile events",
+            description = "Records an ordered batch of offline check-in/check-out scans and returns a result per event")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid batch")
+    })
+    public ResponseEntity<BatchAttendanceResponse> ingestBatch(
+            @Valid @RequestBody BatchAttendanceRequest request) {
+        return ResponseEntity.ok(attendanceBatchService.ingest(request));
+    }
+
     @PutMapping("/{id}/check-out")
     @Operation(summary = "Member check-out", description = "Records a member's gym exit")
     @ApiResponses(value = {
@@ -74,6 +91,16 @@ public class AttendanceController {
         return ResponseEntity.ok(attendanceService.getMemberAttendancePaged(memberId, pageable));
     }
 
+    @GetMapping("/member/{memberId}/visits")
+    @Operation(summary = "Get member's visit history",
+            description = "Returns the member's most recent visits with visit and duration totals")
+    public ResponseEntity<MemberVisitHistoryResponse> getMemberVisitHistory(
+            @Parameter(description = "Member UUID") @PathVariable UUID memberId,
+            @Parameter(description = "Number of recent visits to return (max 500)")
+            @RequestParam(defaultValue = "30") int limit) {
+        return ResponseEntity.ok(attendanceService.getMemberVisitHistory(memberId, limit));
+    }
+
     @GetMapping("/report")
     @Operation(summary = "Get attendance report", description = "Generates an attendance report for a date range")
     public ResponseEntity<AttendanceReportResponse> getAttendanceReport(
@@ -0,0 +1,83 @@
+package com.gymapp.backend.controllers;
+
+import com.gymapp.backend.dtos.requests.CreateClassScheduleRequest;
+import com.gymapp.backend.dtos.responses.ClassScheduleResponse;
+import com.gymapp.backend.dtos.responses.ScheduleMaterializationResponse;
+import com.gymapp.backend.services.ClassScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/class-schedules")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Class Schedules", description = "Recurring class template endpoints")
+public class ClassScheduleController {
+    private final ClassScheduleService scheduleService;
+
+    @PostMapping
+    @Operation(summary = "Create a recurring schedule", description = "Creates a weekly recurring class template")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Schedule created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    public ResponseEntity<ClassScheduleResponse> createSchedule(
+            @Valid @RequestBody CreateClassScheduleRequest request) {
+        ClassScheduleResponse response = scheduleService.createSchedule(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get schedule by ID", description = "Retrieves a recurring class template by its UUID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Schedule found"),
+            @ApiResponse(responseCode = "404", description = "Schedule not found")
+    })
+    public ResponseEntity<ClassScheduleResponse> getScheduleById(
+            @Parameter(description = "Schedule UUID") @PathVariable UUID id) {
+        return ResponseEntity.ok(scheduleService.getScheduleById(id));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get active schedules", description = "Retrieves all active recurring class templates")
+    public ResponseEntity<List<ClassScheduleResponse>> getActiveSchedules() {
+        return ResponseEntity.ok(scheduleService.getActiveSchedules());
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Deactivate schedule", description = "Stops a template from producing new classes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Schedule deactivated"),
+            @ApiResponse(responseCode = "404", description = "Schedule not found")
+    })
+    public ResponseEntity<Void> deactivateSchedule(
+            @Parameter(description = "Schedule UUID") @PathVariable UUID id) {
+        scheduleService.deactivateSchedule(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/materialize")
+    @Operation(summary = "Materialize schedules", description = "Creates concrete classes for all active schedules up to the horizon")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Schedules materialized"),
+            @ApiResponse(responseCode = "400", description = "Horizon outside 1-90 days")
+    })
+    public ResponseEntity<ScheduleMaterializationResponse> materialize(
+            @Parameter(description = "Days ahead to materialize") @RequestParam(defaultValue = "28") @Min(1) @Max(90) int horizonDays) {
+        return ResponseEntity.ok(scheduleService.materializeOccurrences(horizonDays));
+    }
+}
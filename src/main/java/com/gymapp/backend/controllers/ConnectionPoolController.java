@@ -0,0 +1,38 @@
+package com.gymapp.backend.controllers;
+
+import com.gymapp.backend.dtos.requests.ResizeConnectionPoolRequest;
+import com.gymapp.backend.dtos.responses.ConnectionPoolResponse;
+import com.gymapp.backend.services.ConnectionPoolService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/pool")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "Operational endpoints")
+public class ConnectionPoolController {
+    private final ConnectionPoolService connectionPoolService;
+
+    @GetMapping
+    @Operation(summary = "Get connection pool status",
+            description = "Pool saturation, per-endpoint connection hold times and suspected leaks")
+    public ResponseEntity<ConnectionPoolResponse> getPoolStatus() {
+        return ResponseEntity.ok(connectionPoolService.getPoolStatus());
+    }
+
+    @PutMapping
+    @Operation(summary = "Resize connection pool", description = "Changes pool limits at runtime without a restart")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pool resized"),
+            @ApiResponse(responseCode = "400", description = "Invalid pool limits")
+    })
+    public ResponseEntity<ConnectionPoolResponse> resizePool(@Valid @RequestBody ResizeConnectionPoolRequest request) {
+        return ResponseEntity.ok(connectionPoolService.resizePool(request));
+    }
+}
@@ -0,0 +1,82 @@
+package com.gymapp.backend.controllers;
+
+import com.gymapp.backend.enums.ExportFormat;
+import com.gymapp.backend.services.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Tag(name = "Export", description = "Bulk data export endpoints")
+public class ExportController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    @GetMapping("/members")
+    @Operation(summary = "Export members", description = "Streams all members as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @Parameter(description = "Output format (NDJSON or CSV)") @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @Parameter(description = "Gzip the output") @RequestParam(defaultValue = "false") boolean gzip) {
+        return stream("members", format, gzip, exportService::exportMembers);
+    }
+
+    @GetMapping("/attendance")
+    @Operation(summary = "Export attendance", description = "Streams all attendance records as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportAttendance(
+            @Parameter(description = "Output format (NDJSON or CSV)") @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @Parameter(description = "Gzip the output") @RequestParam(defaultValue = "false") boolean gzip) {
+        return stream("attendance", format, gzip, exportService::exportAttendance);
+    }
+
+    @GetMapping("/sessions")
+    @Operation(summary = "Export training sessions", description = "Streams all training sessions as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportSessions(
+            @Parameter(description = "Output format (NDJSON or CSV)") @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @Parameter(description = "Gzip the output") @RequestParam(defaultValue = "false") boolean gzip) {
+        return stream("sessions", format, gzip, exportService::exportSessions);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String dataset, ExportFormat format, boolean gzip,
+                                                         BiConsumer<ExportFormat, OutputStream> exporter) {
+        String extension = format == ExportFormat.CSV ? ".csv" : ".ndjson";
+        String filename = dataset + "-" + LocalDate.now() + extension + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? GZIP : format == ExportFormat.CSV ? CSV : NDJSON;
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(StreamUtils.nonClosing(out), GZIP_BUFFER_SIZE);
+                exporter.accept(format, gzipOut);
+                // Closed only on success: closing writes the trailer, which would pass a failed export off as a
+                // complete archive. A failed stream's deflater is released by its cleaner instead.
+                gzipOut.close();
+            } else {
+                exporter.accept(format, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -7,8 +7,14 @@ import com.gymapp.backend.dtos.responses.ClassEnrollmentResponse;
 import com.gymapp.backend.dtos.responses.GymClassResponse;
 import com.gymapp.backend.enums.ClassType;
 import com.gymapp.backend.services.GymClassService;
+import com.gymapp.backend.web.ConditionalRequests;
+import com.gymapp.backend.web.JsonArrayStreamer;
+import com.gymapp.backend.web.SeatAvailabilityBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,10 +23,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +42,8 @@ import java.util.UUID;
 @Tag(name = "Gym Classes", description = "Group fitness class management endpoints")
 public class GymClassController {
     private final GymClassService classService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final SeatAvailabilityBroadcaster seatBroadcaster;
 
     @PostMapping
     @Operation(summary = "Create a new gym class", description = "Creates a new group fitness class")
@@ -46,11 +60,14 @@ public class GymClassController {
     @Operation(summary = "Get class by ID", description = "Retrieves a gym class by its UUID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Class found"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the supplied validators"),
             @ApiResponse(responseCode = "404", description = "Class not found")
     })
     public ResponseEntity<GymClassResponse> getClassById(
-            @Parameter(description = "Class UUID") @PathVariable UUID id) {
-        return ResponseEntity.ok(classService.getClassById(id));
+            @Parameter(description = "Class UUID") @PathVariable UUID id,
+            WebRequest request) {
+        return ConditionalRequests.ifModified(request, classService.getClassLastModified(id),
+                () -> classService.getClassById(id));
     }
 
     @GetMapping
@@ -62,8 +79,10 @@ public class GymClassController {
 
     @GetMapping("/list")
     @Operation(summary = "Get all active classes", description = "Retrieves all active gym classes as a list")
-    public ResponseEntity<List<GymClassResponse>> getAllActiveClasses() {
-        return ResponseEntity.ok(classService.getAllActiveClasses());
+    @ApiResponse(responseCode = "200", description = "Active classes",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = GymClassResponse.class))))
+    public ResponseEntity<StreamingResponseBody> getAllActiveClasses() {
+        return jsonArrayStreamer.stream(classService::forEachActiveClass);
     }
 
     @GetMapping("/available")
@@ -72,6 +91,21 @@ public class GymClassController {
         return ResponseEntity.ok(classService.getAvailableClasses());
     }
 
+    @GetMapping("/calendar")
+    @Operation(summary = "Get class calendar", description = "Retrieves active classes scheduled within a date range, optionally filtered by type")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Classes in range ordered by start time"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    public ResponseEntity<List<GymClassResponse>> getCalendar(
+            @Parameter(description = "First day (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Class type") @RequestParam(required = false) ClassType type) {
+        return ResponseEntity.ok(classService.getCalendar(from, to, type));
+    }
+
     @GetMapping("/type/{classType}")
     @Operation(summary = "Get classes by type", description = "Retrieves classes of a specific type")
     public ResponseEntity<List<GymClassResponse>> getClassesByType(
@@ -111,6 +145,18 @@ public class GymClassController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping(value = "/{id}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream seat availability",
+            description = "Server-Sent Events stream of available spots, sent on subscribe and whenever enrollment changes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "404", description = "Class not found")
+    })
+    public SseEmitter streamSeatAvailability(
+            @Parameter(description = "Class UUID") @PathVariable UUID id) {
+        return seatBroadcaster.subscribe(id, () -> classService.getClassById(id));
+    }
+
     @PostMapping("/{id}/enroll")
     @Operation(summary = "Enroll in class", description = "Enrolls a member in a gym class")
     @ApiResponses(value = {
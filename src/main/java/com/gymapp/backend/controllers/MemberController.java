@@ -2,8 +2,13 @@ package com.gymapp.backend.controllers;
 
 import com.gymapp.backend.dtos.requests.CreateMemberRequest;
 import com.gymapp.backend.dtos.requests.UpdateMemberRequest;
+import com.gymapp.backend.dtos.responses.MemberDashboardResponse;
+import com.gymapp.backend.dtos.responses.MemberOverviewResponse;
 import com.gymapp.backend.dtos.responses.MemberResponse;
+import com.gymapp.backend.services.MemberDashboardService;
+import com.gymapp.backend.services.MemberOverviewService;
 import com.gymapp.backend.services.MemberService;
+import com.gymapp.backend.web.ConditionalRequests;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +22,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -26,6 +32,8 @@ import java.util.UUID;
 @Tag(name = "Members", description = "Member management endpoints")
 public class MemberController {
     private final MemberService memberService;
+    private final MemberDashboardService memberDashboardService;
+    private final MemberOverviewService memberOverviewService;
 
     @PostMapping
     @Operation(summary = "Register a new member", description = "Creates a new gym member account")
@@ -44,11 +52,40 @@ public class MemberController {
     @Operation(summary = "Get member by ID", description = "Retrieves a member's details by their UUID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Member found"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the supplied validators"),
             @ApiResponse(responseCode = "404", description = "Member not found")
     })
     public ResponseEntity<MemberResponse> getMemberById(
+            @Parameter(description = "Member UUID") @PathVariable UUID id,
+            WebRequest request) {
+        return ConditionalRequests.ifModified(request, memberService.getMemberLastModified(id),
+                () -> memberService.getMemberById(id));
+    }
+
+    @GetMapping("/{id}/dashboard")
+    @Operation(summary = "Get member dashboard",
+            description = "Returns the member's profile, subscription, active enrollments, upcoming sessions and visits this month")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Dashboard found"),
+            @ApiResponse(responseCode = "404", description = "Member not found")
+    })
+    public ResponseEntity<MemberDashboardResponse> getMemberDashboard(
+            @Parameter(description = "Member UUID") @PathVariable UUID id) {
+        return ResponseEntity.ok(memberDashboardService.getDashboard(id));
+    }
+
+    @GetMapping("/{id}/overview")
+    @Operation(summary = "Get member overview",
+            description = "Fetches the member, subscription, active enrollments, upcoming sessions and visits this month "
+                    + "in parallel; sections that time out are listed under 'unavailable'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Overview assembled, possibly partial"),
+            @ApiResponse(responseCode = "404", description = "Member not found"),
+            @ApiResponse(responseCode = "503", description = "Member lookup timed out")
+    })
+    public ResponseEntity<MemberOverviewResponse> getMemberOverview(
             @Parameter(description = "Member UUID") @PathVariable UUID id) {
-        return ResponseEntity.ok(memberService.getMemberById(id));
+        return ResponseEntity.ok(memberOverviewService.getOverview(id));
     }
 
     @GetMapping
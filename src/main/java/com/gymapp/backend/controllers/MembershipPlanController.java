@@ -1,21 +1,30 @@
 package com.gymapp.backend.controllers;
 
+import com.gymapp.backend.cache.PlanCatalog;
 import com.gymapp.backend.dtos.requests.CreateMembershipPlanRequest;
 import com.gymapp.backend.dtos.requests.UpdateMembershipPlanRequest;
 import com.gymapp.backend.dtos.responses.MembershipPlanResponse;
 import com.gymapp.backend.services.MembershipPlanService;
+import com.gymapp.backend.web.ConditionalRequests;
+import com.gymapp.backend.web.JsonArrayStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -24,6 +33,7 @@ import java.util.UUID;
 @Tag(name = "Membership Plans", description = "Membership plan management endpoints")
 public class MembershipPlanController {
     private final MembershipPlanService planService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping
     @Operation(summary = "Create a new membership plan", description = "Creates a new membership plan")
@@ -42,23 +52,38 @@ public class MembershipPlanController {
     @Operation(summary = "Get plan by ID", description = "Retrieves a membership plan by its UUID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Plan found"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the supplied validators"),
             @ApiResponse(responseCode = "404", description = "Plan not found")
     })
     public ResponseEntity<MembershipPlanResponse> getPlanById(
-            @Parameter(description = "Plan UUID") @PathVariable UUID id) {
-        return ResponseEntity.ok(planService.getPlanById(id));
+            @Parameter(description = "Plan UUID") @PathVariable UUID id,
+            WebRequest request) {
+        return ConditionalRequests.ifModified(request, planService.getPlanLastModified(id),
+                () -> planService.getPlanById(id));
     }
 
     @GetMapping
     @Operation(summary = "Get all active plans", description = "Retrieves all active membership plans")
-    public ResponseEntity<List<MembershipPlanResponse>> getAllActivePlans() {
-        return ResponseEntity.ok(planService.getAllActivePlans());
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active plans",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = MembershipPlanResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the supplied ETag")
+    })
+    public ResponseEntity<byte[]> getAllActivePlans() {
+        PlanCatalog.Snapshot catalog = planService.getActivePlanCatalog();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(catalog.json());
     }
 
     @GetMapping("/all")
     @Operation(summary = "Get all plans", description = "Retrieves all membership plans including inactive")
-    public ResponseEntity<List<MembershipPlanResponse>> getAllPlans() {
-        return ResponseEntity.ok(planService.getAllPlans());
+    @ApiResponse(responseCode = "200", description = "All plans",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = MembershipPlanResponse.class))))
+    public ResponseEntity<StreamingResponseBody> getAllPlans() {
+        return jsonArrayStreamer.stream(planService::forEachPlan);
     }
 
     @PutMapping("/{id}")
@@ -2,12 +2,19 @@ package com.gymapp.backend.controllers;
 
 import com.gymapp.backend.dtos.requests.CreateTrainerRequest;
 import com.gymapp.backend.dtos.requests.UpdateTrainerRequest;
+import com.gymapp.backend.dtos.responses.TrainerAnalyticsResponse;
 import com.gymapp.backend.dtos.responses.TrainerResponse;
 import com.gymapp.backend.dtos.responses.TrainingSessionResponse;
+import com.gymapp.backend.services.TrainerAnalyticsService;
 import com.gymapp.backend.services.TrainerService;
 import com.gymapp.backend.services.TrainingSessionService;
+import com.gymapp.backend.web.ConditionalRequests;
+import com.gymapp.backend.web.JsonArrayStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,10 +23,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +41,8 @@ import java.util.UUID;
 public class TrainerController {
     private final TrainerService trainerService;
     private final TrainingSessionService sessionService;
+    private final TrainerAnalyticsService analyticsService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping
     @Operation(summary = "Create a new trainer", description = "Registers a new trainer")
@@ -48,11 +61,14 @@ public class TrainerController {
     @Operation(summary = "Get trainer by ID", description = "Retrieves a trainer by their UUID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Trainer found"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the supplied validators"),
             @ApiResponse(responseCode = "404", description = "Trainer not found")
     })
     public ResponseEntity<TrainerResponse> getTrainerById(
-            @Parameter(description = "Trainer UUID") @PathVariable UUID id) {
-        return ResponseEntity.ok(trainerService.getTrainerById(id));
+            @Parameter(description = "Trainer UUID") @PathVariable UUID id,
+            WebRequest request) {
+        return ConditionalRequests.ifModified(request, trainerService.getTrainerLastModified(id),
+                () -> trainerService.getTrainerById(id));
     }
 
     @GetMapping
@@ -64,8 +80,10 @@ public class TrainerController {
 
     @GetMapping("/list")
     @Operation(summary = "Get all active trainers", description = "Retrieves all active trainers as a list")
-    public ResponseEntity<List<TrainerResponse>> getAllActiveTrainers() {
-        return ResponseEntity.ok(trainerService.getAllActiveTrainers());
+    @ApiResponse(responseCode = "200", description = "Active trainers",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TrainerResponse.class))))
+    public ResponseEntity<StreamingResponseBody> getAllActiveTrainers() {
+        return jsonArrayStreamer.stream(trainerService::forEachActiveTrainer);
     }
 
     @GetMapping("/search")
@@ -76,6 +94,21 @@ public class TrainerController {
         return ResponseEntity.ok(trainerService.searchTrainers(query, pageable));
     }
 
+    @GetMapping("/analytics")
+    @Operation(summary = "Get trainer analytics",
+            description = "Booked hours, completion and no-show rates and revenue per trainer for a date range")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Analytics computed"),
+            @ApiResponse(responseCode = "400", description = "End date before start date")
+    })
+    public ResponseEntity<TrainerAnalyticsResponse> getTrainerAnalytics(
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (yyyy-MM-dd), inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getAnalytics(from, to));
+    }
+
     @GetMapping("/specialization/{specialization}")
     @Operation(summary = "Get trainers by specialization", description = "Retrieves trainers with a specific specialization")
     public ResponseEntity<List<TrainerResponse>> getTrainersBySpecialization(
@@ -0,0 +1,201 @@
+package com.gymapp.backend.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class ConnectionHoldTracker {
+    static final String BACKGROUND = "background";
+    static final String UNMAPPED = "unmapped";
+
+    private final MeterRegistry meterRegistry;
+    private final long leakThresholdNanos;
+    private final boolean captureStacks;
+    private final Counter leakCounter;
+    private final AtomicLong nextLeaseId = new AtomicLong();
+    private final ConcurrentMap<Long, Lease> openLeases = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public ConnectionHoldTracker(MeterRegistry meterRegistry,
+                                 @Value("${gymapp.pool.leak-threshold:20s}") Duration leakThreshold,
+                                 @Value("${gymapp.pool.capture-stacks:false}") boolean captureStacks) {
+        this.meterRegistry = meterRegistry;
+        this.leakThresholdNanos = leakThreshold.toNanos();
+        this.captureStacks = captureStacks;
+        this.leakCounter = meterRegistry.counter("gymapp.db.connection.leaks");
+    }
+
+    public Lease acquire() {
+        Thread thread = Thread.currentThread();
+        Lease lease = new Lease(nextLeaseId.incrementAndGet(), currentEndpoint(), thread.getName(), System.nanoTime(),
+                captureStacks ? thread.getStackTrace() : null);
+        openLeases.put(lease.id, lease);
+        return lease;
+    }
+
+    public void release(Lease lease) {
+        if (!lease.released.compareAndSet(false, true)) {
+            return;
+        }
+        openLeases.remove(lease.id);
+        long heldNanos = System.nanoTime() - lease.acquiredAtNanos;
+        endpoints.computeIfAbsent(lease.endpoint, this::newStats).record(heldNanos);
+        if (lease.reportedAsLeak.get()) {
+            log.info("Connection suspected as leaked from {} was returned after {} ms",
+                    lease.endpoint, TimeUnit.NANOSECONDS.toMillis(heldNanos));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gymapp.pool.leak-check-interval:10s}")
+    public int detectLeaks() {
+        int reported = 0;
+        for (Lease lease : suspectedLeaks()) {
+            if (lease.reportedAsLeak.compareAndSet(false, true)) {
+                leakCounter.increment();
+                reported++;
+                log.warn("Connection held for {} ms by {} on thread {}; acquired at:{}",
+                        lease.heldMillis(), lease.endpoint, lease.threadName, formatStack(lease.acquiredAt));
+            }
+        }
+        return reported;
+    }
+
+    public List<Lease> suspectedLeaks() {
+        long now = System.nanoTime();
+        return openLeases.values().stream()
+                .filter(lease -> now - lease.acquiredAtNanos >= leakThresholdNanos)
+                .sorted(Comparator.comparingLong(lease -> lease.acquiredAtNanos))
+                .toList();
+    }
+
+    public int openConnections() {
+        return openLeases.size();
+    }
+
+    public List<EndpointStats> endpointStats() {
+        return endpoints.values().stream()
+                .sorted(Comparator.comparingLong(EndpointStats::totalMillis).reversed())
+                .toList();
+    }
+
+    private EndpointStats newStats(String endpoint) {
+        Timer timer = Timer.builder("gymapp.db.connection.hold")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return new EndpointStats(endpoint, timer);
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return BACKGROUND;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED);
+    }
+
+    private static String formatStack(StackTraceElement[] stack) {
+        if (stack == null) {
+            return " (stack capture disabled)";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (StackTraceElement element : stack) {
+            builder.append(System.lineSeparator()).append("\tat ").append(element);
+        }
+        return builder.toString();
+    }
+
+    public static final class Lease {
+        private final long id;
+        private final String endpoint;
+        private final String threadName;
+        private final long acquiredAtNanos;
+        private final StackTraceElement[] acquiredAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final AtomicBoolean reportedAsLeak = new AtomicBoolean();
+
+        private Lease(long id, String endpoint, String threadName, long acquiredAtNanos, StackTraceElement[] acquiredAt) {
+            this.id = id;
+            this.endpoint = endpoint;
+            this.threadName = threadName;
+            this.acquiredAtNanos = acquiredAtNanos;
+            this.acquiredAt = acquiredAt;
+        }
+
+        public String endpoint() {
+            return endpoint;
+        }
+
+        public String threadName() {
+            return threadName;
+        }
+
+        public long heldMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - acquiredAtNanos);
+        }
+
+        public List<String> acquiredAt() {
+            return acquiredAt == null ? List.of() : Arrays.stream(acquiredAt).map(String::valueOf).toList();
+        }
+    }
+
+    public static final class EndpointStats {
+        private final String endpoint;
+        private final Timer timer;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private EndpointStats(String endpoint, Timer timer) {
+            this.endpoint = endpoint;
+            this.timer = timer;
+        }
+
+        private void record(long heldNanos) {
+            count.increment();
+            totalNanos.add(heldNanos);
+            maxNanos.accumulate(heldNanos);
+            timer.record(heldNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public String endpoint() {
+            return endpoint;
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long totalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+        }
+
+        public long maxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+    }
+}
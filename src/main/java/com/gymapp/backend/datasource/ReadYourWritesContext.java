@@ -0,0 +1,29 @@
+package com.gymapp.backend.datasource;
+
+public final class ReadYourWritesContext {
+    private static final ThreadLocal<Long> PRIMARY_PINNED_UNTIL = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void pinPrimaryUntil(long epochMillis) {
+        Long current = PRIMARY_PINNED_UNTIL.get();
+        if (current == null || current < epochMillis) {
+            PRIMARY_PINNED_UNTIL.set(epochMillis);
+        }
+    }
+
+    public static boolean isPrimaryPinned(long nowMillis) {
+        Long pinnedUntil = PRIMARY_PINNED_UNTIL.get();
+        return pinnedUntil != null && pinnedUntil > nowMillis;
+    }
+
+    public static long pinnedUntil() {
+        Long pinnedUntil = PRIMARY_PINNED_UNTIL.get();
+        return pinnedUntil != null ? pinnedUntil : 0L;
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED_UNTIL.remove();
+    }
+}
@@ -0,0 +1,100 @@
+package com.gymapp.backend.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String SELECT_BEAT = "SELECT beat_millis FROM replica_heartbeat WHERE id = 1";
+    private static final String UPDATE_BEAT = "UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1";
+    private static final String INSERT_BEAT = "INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, ?)";
+    private static final long UNKNOWN_LAG = -1;
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> lagMillis = new LinkedHashMap<>();
+    private final long maxLagMillis;
+    private final Clock clock;
+    private long lastBeat = UNKNOWN_LAG;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, DataSource primary,
+                             Duration maxLag, MeterRegistry meterRegistry) {
+        this(routingDataSource, primary, maxLag, meterRegistry, Clock.systemUTC());
+    }
+
+    ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, DataSource primary,
+                      Duration maxLag, MeterRegistry meterRegistry, Clock clock) {
+        this.routingDataSource = routingDataSource;
+        this.primary = new JdbcTemplate(primary);
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+        routingDataSource.getReplicas().forEach((name, dataSource) -> {
+            replicas.put(name, new JdbcTemplate(dataSource));
+            AtomicLong lag = new AtomicLong(UNKNOWN_LAG);
+            lagMillis.put(name, lag);
+            Gauge.builder("gymapp.datasource.replica.lag", lag, AtomicLong::get)
+                    .tag("replica", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${gymapp.datasource.replicas.check-interval:2s}")
+    public void check() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            long lag = measureLag(name, replica);
+            lagMillis.get(name).set(lag);
+            if (lag != UNKNOWN_LAG && lag <= maxLagMillis) {
+                healthy.add(name);
+            }
+        });
+        routingDataSource.updateHealthyReplicas(healthy);
+        beat();
+    }
+
+    public Map<String, Long> currentLag() {
+        Map<String, Long> lag = new LinkedHashMap<>();
+        lagMillis.forEach((name, value) -> lag.put(name, value.get()));
+        return lag;
+    }
+
+    private long measureLag(String name, JdbcTemplate replica) {
+        if (lastBeat == UNKNOWN_LAG) {
+            return UNKNOWN_LAG;
+        }
+        try {
+            List<Long> beats = replica.queryForList(SELECT_BEAT, Long.class);
+            return beats.isEmpty() ? UNKNOWN_LAG : Math.max(0, lastBeat - beats.getFirst());
+        } catch (DataAccessException e) {
+            log.warn("Could not read heartbeat from replica {}: {}", name, e.getMessage());
+            return UNKNOWN_LAG;
+        }
+    }
+
+    private void beat() {
+        long now = clock.millis();
+        try {
+            if (primary.update(UPDATE_BEAT, now) == 0) {
+                primary.update(INSERT_BEAT, now);
+            }
+            lastBeat = now;
+        } catch (DataAccessException e) {
+            log.warn("Could not write replication heartbeat to primary: {}", e.getMessage());
+        }
+    }
+}
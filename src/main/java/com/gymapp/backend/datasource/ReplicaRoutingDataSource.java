@@ -0,0 +1,86 @@
+package com.gymapp.backend.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final long stickyWindowMillis;
+    private final Clock clock;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration stickyWindow) {
+        this(primary, replicas, stickyWindow, Clock.systemUTC());
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration stickyWindow, Clock clock) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.stickyWindowMillis = stickyWindow.toMillis();
+        this.clock = clock;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        initialize();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        long now = clock.millis();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.pinPrimaryUntil(now + stickyWindowMillis);
+            }
+            return PRIMARY;
+        }
+        if (ReadYourWritesContext.isPrimaryPinned(now)) {
+            return PRIMARY;
+        }
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    public void updateHealthyReplicas(List<String> healthy) {
+        List<String> next = List.copyOf(healthy);
+        if (!next.equals(healthyReplicas)) {
+            log.info("Read replicas in rotation changed from {} to {}", healthyReplicas, next);
+        }
+        healthyReplicas = next;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.gymapp.backend.dtos.analytics;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record TrainerSessionTotals(UUID trainerId, String firstName, String lastName, BigDecimal hourlyRate,
+                                   Long sessions, Long completed, Long noShows,
+                                   Long bookedMinutes, Long completedMinutes) {
+}
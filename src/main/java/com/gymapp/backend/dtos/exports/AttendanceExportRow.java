@@ -0,0 +1,22 @@
+package com.gymapp.backend.dtos.exports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceExportRow {
+    private UUID id;
+    private UUID memberId;
+    private LocalDateTime checkInTime;
+    private LocalDateTime checkOutTime;
+    private LocalDate visitDate;
+}
@@ -0,0 +1,22 @@
+package com.gymapp.backend.dtos.exports;
+
+import com.gymapp.backend.enums.EnrollmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassEnrollmentExportRow {
+    private UUID id;
+    private UUID memberId;
+    private UUID gymClassId;
+    private LocalDateTime enrolledAt;
+    private EnrollmentStatus status;
+}
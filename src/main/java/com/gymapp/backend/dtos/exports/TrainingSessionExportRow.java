@@ -0,0 +1,24 @@
+package com.gymapp.backend.dtos.exports;
+
+import com.gymapp.backend.enums.SessionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingSessionExportRow {
+    private UUID id;
+    private UUID memberId;
+    private UUID trainerId;
+    private LocalDateTime scheduledAt;
+    private Integer durationMinutes;
+    private SessionStatus status;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.gymapp.backend.dtos.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAttendanceRequest {
+    @NotEmpty(message = "At least one event is required")
+    @Size(max = 50000, message = "A batch cannot exceed 50000 events")
+    private List<@Valid TurnstileEventRequest> events;
+}
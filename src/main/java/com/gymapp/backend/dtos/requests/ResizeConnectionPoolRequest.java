@@ -0,0 +1,24 @@
+package com.gymapp.backend.dtos.requests;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResizeConnectionPoolRequest {
+    @Min(value = 1, message = "Maximum pool size must be at least 1")
+    @Max(value = 200, message = "Maximum pool size cannot exceed 200")
+    private Integer maximumPoolSize;
+
+    @Min(value = 0, message = "Minimum idle cannot be negative")
+    private Integer minimumIdle;
+
+    @Min(value = 250, message = "Connection timeout must be at least 250 ms")
+    private Long connectionTimeoutMs;
+}
@@ -0,0 +1,26 @@
+package com.gymapp.backend.dtos.requests;
+
+import com.gymapp.backend.enums.TurnstileEventType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurnstileEventRequest {
+    @NotNull(message = "Member ID is required")
+    private UUID memberId;
+
+    @NotNull(message = "Event type is required")
+    private TurnstileEventType type;
+
+    @NotNull(message = "Device timestamp is required")
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,19 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAttendanceResponse {
+    private int received;
+    private int accepted;
+    private int rejected;
+    private List<TurnstileEventResult> results;
+}
@@ -0,0 +1,36 @@
+package com.gymapp.backend.dtos.responses;
+
+import com.gymapp.backend.enums.ClassType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassScheduleResponse {
+    private UUID id;
+    private String name;
+    private String description;
+    private String instructor;
+    private Integer maxCapacity;
+    private Integer durationMinutes;
+    private ClassType classType;
+    private Set<DayOfWeek> daysOfWeek;
+    private LocalTime startTime;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate materializedThrough;
+    private boolean active;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,19 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionLeakResponse {
+    private String endpoint;
+    private String thread;
+    private long heldMs;
+    private List<String> acquiredAt;
+}
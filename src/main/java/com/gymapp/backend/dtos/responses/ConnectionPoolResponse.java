@@ -0,0 +1,26 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolResponse {
+    private String poolName;
+    private int maximumPoolSize;
+    private int minimumIdle;
+    private long connectionTimeoutMs;
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int threadsAwaitingConnection;
+    private int trackedOpenConnections;
+    private List<EndpointConnectionStats> endpoints;
+    private List<ConnectionLeakResponse> suspectedLeaks;
+}
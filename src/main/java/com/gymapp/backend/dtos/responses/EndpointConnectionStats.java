@@ -0,0 +1,18 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointConnectionStats {
+    private String endpoint;
+    private long connections;
+    private long totalHoldMs;
+    private long averageHoldMs;
+    private long maxHoldMs;
+}
@@ -25,6 +25,8 @@ public class GymClassResponse {
     private Integer durationMinutes;
     private ClassType classType;
     private boolean active;
+    private UUID scheduleId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
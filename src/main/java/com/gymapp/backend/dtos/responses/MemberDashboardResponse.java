@@ -0,0 +1,30 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberDashboardResponse {
+    private UUID memberId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private boolean active;
+    private SubscriptionResponse subscription;
+    private List<ClassEnrollmentResponse> activeEnrollments;
+    private List<TrainingSessionResponse> upcomingSessions;
+    private YearMonth visitMonth;
+    private long visitsThisMonth;
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,23 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberOverviewResponse {
+    private MemberResponse member;
+    private SubscriptionResponse subscription;
+    private List<ClassEnrollmentResponse> activeEnrollments;
+    private List<TrainingSessionResponse> upcomingSessions;
+    private YearMonth visitMonth;
+    private Long visitsThisMonth;
+    private List<String> unavailable;
+}
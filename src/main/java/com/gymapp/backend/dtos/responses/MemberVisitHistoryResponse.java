@@ -0,0 +1,25 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberVisitHistoryResponse {
+    private UUID memberId;
+    private int totalVisits;
+    private int completedVisits;
+    private long totalMinutes;
+    private long averageMinutes;
+    private long longestMinutes;
+    private LocalDateTime lastCheckIn;
+    private List<VisitResponse> recentVisits;
+}
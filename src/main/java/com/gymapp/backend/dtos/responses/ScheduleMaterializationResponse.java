@@ -0,0 +1,18 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleMaterializationResponse {
+    private LocalDate horizonEnd;
+    private int schedulesProcessed;
+    private int classesCreated;
+}
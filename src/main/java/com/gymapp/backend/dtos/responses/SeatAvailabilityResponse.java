@@ -0,0 +1,28 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAvailabilityResponse {
+    private UUID classId;
+    private Integer maxCapacity;
+    private Integer currentEnrollment;
+    private Integer availableSpots;
+
+    public static SeatAvailabilityResponse from(GymClassResponse gymClass) {
+        return SeatAvailabilityResponse.builder()
+                .classId(gymClass.getId())
+                .maxCapacity(gymClass.getMaxCapacity())
+                .currentEnrollment(gymClass.getCurrentEnrollment())
+                .availableSpots(gymClass.getAvailableSpots())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerAnalyticsResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private long totalSessions;
+    private BigDecimal totalBookedHours;
+    private BigDecimal totalRevenue;
+    private List<TrainerUtilizationResponse> trainers;
+}
@@ -0,0 +1,28 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerUtilizationResponse {
+    private UUID trainerId;
+    private String trainerName;
+    private BigDecimal hourlyRate;
+    private long sessions;
+    private long completedSessions;
+    private long noShowSessions;
+    private long scheduledSessions;
+    private BigDecimal bookedHours;
+    private BigDecimal completedHours;
+    private BigDecimal completionRate;
+    private BigDecimal noShowRate;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,25 @@
+package com.gymapp.backend.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gymapp.backend.enums.BatchEventStatus;
+import com.gymapp.backend.enums.TurnstileEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TurnstileEventResult {
+    private int index;
+    private UUID memberId;
+    private TurnstileEventType type;
+    private BatchEventStatus status;
+    private UUID attendanceId;
+    private String reason;
+}
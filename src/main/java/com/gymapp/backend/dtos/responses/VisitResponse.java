@@ -0,0 +1,18 @@
+package com.gymapp.backend.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitResponse {
+    private LocalDateTime checkInTime;
+    private LocalDateTime checkOutTime;
+    private Long durationMinutes;
+}
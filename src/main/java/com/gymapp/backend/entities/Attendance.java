@@ -2,13 +2,17 @@ package com.gymapp.backend.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance", indexes = {
+        @Index(name = "idx_attendance_visit_date", columnList = "visitDate"),
+        @Index(name = "idx_attendance_member_visit_date", columnList = "member_id, visitDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,6 +23,10 @@ public class Attendance {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
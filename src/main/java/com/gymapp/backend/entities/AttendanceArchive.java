@@ -0,0 +1,36 @@
+package com.gymapp.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "attendance_archive", indexes = {
+        @Index(name = "idx_attendance_archive_visit_date", columnList = "visitDate"),
+        @Index(name = "idx_attendance_archive_member_visit_date", columnList = "member_id, visitDate")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceArchive {
+    @Id
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Member member;
+
+    @Column(nullable = false)
+    private LocalDateTime checkInTime;
+
+    @Column(nullable = false)
+    private LocalDateTime checkOutTime;
+
+    @Column(nullable = false)
+    private LocalDate visitDate;
+}
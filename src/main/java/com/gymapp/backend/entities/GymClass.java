@@ -3,6 +3,9 @@ package com.gymapp.backend.entities;
 import com.gymapp.backend.enums.ClassType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,7 +15,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "gym_classes")
+@Table(name = "gym_classes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gym_class_schedule_slot", columnNames = {"schedule_id", "scheduledAt"}))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "gym-classes")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +28,10 @@ public class GymClass {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @Column(nullable = false, length = 100)
     private String name;
 
@@ -54,6 +63,10 @@ public class GymClass {
     @Column(nullable = false)
     private boolean active = true;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id")
+    private ClassSchedule schedule;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,39 @@
+package com.gymapp.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_records", indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expiresAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+    @Id
+    @Column(length = 512)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private Integer status;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Lob
+    private byte[] body;
+
+    @Column(length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -10,6 +10,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "members")
+@Cacheable(false)
 @DiscriminatorValue("MEMBER")
 @PrimaryKeyJoinColumn(name = "user_id")
 @Getter
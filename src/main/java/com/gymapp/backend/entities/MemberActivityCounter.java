@@ -0,0 +1,33 @@
+package com.gymapp.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(name = "member_activity_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_activity_member_period", columnNames = {"memberId", "periodStart"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberActivityCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID memberId;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private long visitCount;
+
+    @Column(nullable = false)
+    private long classCount;
+}
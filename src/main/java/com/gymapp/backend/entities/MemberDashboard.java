@@ -0,0 +1,26 @@
+package com.gymapp.backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "member_dashboard")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberDashboard {
+    @Id
+    private UUID memberId;
+
+    @Lob
+    @Column(nullable = false)
+    private String snapshot;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+}
@@ -2,6 +2,8 @@ package com.gymapp.backend.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,6 +15,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "membership_plans")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "membership-plans")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -3,7 +3,9 @@ package com.gymapp.backend.entities;
 import com.gymapp.backend.enums.SubscriptionStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,6 +23,10 @@ public class Subscription {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @OneToOne
     @JoinColumn(name = "member_id", nullable = false, unique = true)
     private Member member;
@@ -43,4 +49,7 @@ public class Subscription {
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
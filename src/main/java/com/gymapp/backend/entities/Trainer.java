@@ -10,6 +10,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "trainers")
+@Cacheable
 @DiscriminatorValue("TRAINER")
 @PrimaryKeyJoinColumn(name = "user_id")
 @Getter
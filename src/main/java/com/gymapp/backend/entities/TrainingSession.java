@@ -3,13 +3,17 @@ package com.gymapp.backend.entities;
 import com.gymapp.backend.enums.SessionStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "training_sessions")
+@Table(name = "training_sessions", indexes = {
+        @Index(name = "idx_training_sessions_trainer_schedule",
+                columnList = "trainer_id, scheduledAt, status, durationMinutes")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,6 +24,10 @@ public class TrainingSession {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
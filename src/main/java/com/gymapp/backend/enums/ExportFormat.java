@@ -0,0 +1,6 @@
+package com.gymapp.backend.enums;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,9 @@
+package com.gymapp.backend.enums;
+
+public enum OutboxEventType {
+    MEMBER_CHECKED_IN,
+    MEMBER_ENROLLED,
+    SUBSCRIPTION_CREATED,
+    SUBSCRIPTION_CANCELLED,
+    SESSION_BOOKED
+}
@@ -0,0 +1,6 @@
+package com.gymapp.backend.enums;
+
+public enum TurnstileEventType {
+    CHECK_IN,
+    CHECK_OUT
+}
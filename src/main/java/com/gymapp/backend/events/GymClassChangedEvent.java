@@ -0,0 +1,9 @@
+package com.gymapp.backend.events;
+
+import com.gymapp.backend.dtos.responses.GymClassResponse;
+
+public record GymClassChangedEvent(GymClassResponse gymClass) {
+    public long version() {
+        return gymClass.getVersion() != null ? gymClass.getVersion() : 0L;
+    }
+}
@@ -0,0 +1,6 @@
+package com.gymapp.backend.events;
+
+import java.util.UUID;
+
+public record SubscriptionChangedEvent(UUID memberId) {
+}
@@ -0,0 +1,7 @@
+package com.gymapp.backend.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record VisitRecordedEvent(UUID memberId, LocalDateTime checkInTime, LocalDateTime checkOutTime) {
+}
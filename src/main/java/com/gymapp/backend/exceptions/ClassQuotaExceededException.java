@@ -0,0 +1,17 @@
+package com.gymapp.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.YearMonth;
+
+public class ClassQuotaExceededException extends GymException {
+    private static final String ERROR_CODE = "CLASS_QUOTA_EXCEEDED";
+
+    public ClassQuotaExceededException(int maxClassesPerMonth, YearMonth month) {
+        super(
+                String.format("Monthly class limit of %d reached for %s", maxClassesPerMonth, month),
+                ERROR_CODE,
+                HttpStatus.FORBIDDEN
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.gymapp.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ConcurrentUpdateException extends GymException {
+    private static final String ERROR_CODE = "CONCURRENT_UPDATE";
+
+    public ConcurrentUpdateException(String operation, int attempts) {
+        super(
+                String.format("%s conflicted with a concurrent update after %d attempts, please retry", operation, attempts),
+                ERROR_CODE,
+                HttpStatus.CONFLICT
+        );
+    }
+}
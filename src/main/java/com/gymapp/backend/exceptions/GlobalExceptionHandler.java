@@ -1,6 +1,7 @@
 package com.gymapp.backend.exceptions;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -59,6 +60,34 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, request);
     }
 
+    @ExceptionHandler(ClassQuotaExceededException.class)
+    public ResponseEntity<ErrorResponse> handleClassQuotaExceededException(
+            ClassQuotaExceededException ex, HttpServletRequest request) {
+        log.error("Class quota exceeded: {}", ex.getMessage());
+        return buildErrorResponse(ex, request);
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdateException(
+            ConcurrentUpdateException ex, HttpServletRequest request) {
+        log.error("Concurrent update conflict: {}", ex.getMessage());
+        return buildErrorResponse(ex, request);
+    }
+
+    @ExceptionHandler(UpstreamTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleUpstreamTimeoutException(
+            UpstreamTimeoutException ex, HttpServletRequest request) {
+        log.error("Upstream timeout: {}", ex.getMessage());
+        return buildErrorResponse(ex, request);
+    }
+
+    @ExceptionHandler(PlanNotEntitledException.class)
+    public ResponseEntity<ErrorResponse> handlePlanNotEntitledException(
+            PlanNotEntitledException ex, HttpServletRequest request) {
+        log.error("Plan not entitled: {}", ex.getMessage());
+        return buildErrorResponse(ex, request);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -84,6 +113,31 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolationException(
+            ConstraintViolationException ex, HttpServletRequest request) {
+        log.error("Validation error: {}", ex.getMessage());
+
+        Map<String, String> validationErrors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation -> {
+            String path = violation.getPropertyPath().toString();
+            String fieldName = path.substring(path.lastIndexOf('.') + 1);
+            validationErrors.put(fieldName, violation.getMessage());
+        });
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .errorCode("VALIDATION_ERROR")
+                .message("Validation failed")
+                .path(request.getRequestURI())
+                .validationErrors(validationErrors)
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(GymException.class)
     public ResponseEntity<ErrorResponse> handleGymException(
             GymException ex, HttpServletRequest request) {
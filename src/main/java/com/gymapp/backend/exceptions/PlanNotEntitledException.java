@@ -0,0 +1,15 @@
+package com.gymapp.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class PlanNotEntitledException extends GymException {
+    private static final String ERROR_CODE = "PLAN_NOT_ENTITLED";
+
+    public PlanNotEntitledException(String planName, String feature) {
+        super(
+                String.format("Membership plan '%s' does not include %s", planName, feature),
+                ERROR_CODE,
+                HttpStatus.FORBIDDEN
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.gymapp.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class UpstreamTimeoutException extends GymException {
+    private static final String ERROR_CODE = "UPSTREAM_TIMEOUT";
+
+    public UpstreamTimeoutException(String operation, long timeoutMillis) {
+        super(
+                String.format("%s did not complete within %d ms, please retry", operation, timeoutMillis),
+                ERROR_CODE,
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.gymapp.backend.jobs;
+
+import com.gymapp.backend.services.AttendanceArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+public class AttendanceArchiver {
+    private final AttendanceArchiveService archiveService;
+    private final int batchSize;
+
+    public AttendanceArchiver(AttendanceArchiveService archiveService,
+                              @Value("${gymapp.attendance.archive.batch-size:5000}") int batchSize) {
+        this.archiveService = archiveService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${gymapp.attendance.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        LocalDate cutoff = archiveService.cutoff(LocalDate.now());
+        long total = 0;
+        int moved;
+        do {
+            // One short transaction per batch keeps row locks and undo log small on the hot table.
+            moved = archiveService.archiveBatch(cutoff, batchSize);
+            total += moved;
+        } while (moved == batchSize);
+        log.info("Archived {} closed visits from before {}", total, cutoff);
+    }
+}
@@ -0,0 +1,20 @@
+package com.gymapp.backend.jobs;
+
+import com.gymapp.backend.services.ClassQuotaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClassQuotaReconciler {
+    private final ClassQuotaService quotaService;
+
+    @Scheduled(cron = "${gymapp.quota.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        int corrected = quotaService.reconcile();
+        log.info("Nightly class quota reconciliation corrected {} counters", corrected);
+    }
+}
@@ -0,0 +1,26 @@
+package com.gymapp.backend.jobs;
+
+import com.gymapp.backend.dtos.responses.ScheduleMaterializationResponse;
+import com.gymapp.backend.services.ClassScheduleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClassScheduleMaterializer {
+    private final ClassScheduleService scheduleService;
+
+    @Value("${gymapp.schedules.horizon-days:28}")
+    private int horizonDays;
+
+    @Scheduled(cron = "${gymapp.schedules.materialize-cron:0 0 2 * * *}")
+    public void materialize() {
+        ScheduleMaterializationResponse result = scheduleService.materializeOccurrences(horizonDays);
+        log.info("Scheduled materialization created {} classes through {}",
+                result.getClassesCreated(), result.getHorizonEnd());
+    }
+}
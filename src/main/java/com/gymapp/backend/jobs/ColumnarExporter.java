@@ -0,0 +1,46 @@
+package com.gymapp.backend.jobs;
+
+import com.gymapp.backend.services.ColumnarExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+@Slf4j
+@Component
+public class ColumnarExporter {
+    private final ColumnarExportService exportService;
+    private final Path directory;
+    private final int backfillMonths;
+    private final int rewriteMonths;
+
+    public ColumnarExporter(ColumnarExportService exportService,
+                            @Value("${gymapp.export.columnar.directory:exports/columnar}") Path directory,
+                            @Value("${gymapp.export.columnar.backfill-months:24}") int backfillMonths,
+                            @Value("${gymapp.export.columnar.rewrite-months:3}") int rewriteMonths) {
+        this.exportService = exportService;
+        this.directory = directory;
+        this.backfillMonths = backfillMonths;
+        this.rewriteMonths = rewriteMonths;
+    }
+
+    @Scheduled(cron = "${gymapp.export.columnar.cron:0 0 5 1 * *}")
+    public void exportClosedMonths() {
+        // The current month is still taking writes, so only finished months are exported.
+        YearMonth last = YearMonth.now().minusMonths(1);
+        // Late check-outs, cancellations and archived rows still land in recent months after they close.
+        YearMonth firstRewritten = last.minusMonths(rewriteMonths - 1L);
+        int written = 0;
+        for (YearMonth month = last.minusMonths(backfillMonths - 1L); !month.isAfter(last); month = month.plusMonths(1)) {
+            try {
+                written += exportService.exportMonth(month, directory, !month.isBefore(firstRewritten));
+            } catch (RuntimeException e) {
+                log.warn("Columnar export of {} failed, will retry on the next run: {}", month, e.getMessage());
+            }
+        }
+        log.info("Columnar export wrote {} files to {}", written, directory);
+    }
+}
@@ -0,0 +1,116 @@
+package com.gymapp.backend.jobs;
+
+import com.gymapp.backend.entities.OutboxEvent;
+import com.gymapp.backend.outbox.OutboxMessage;
+import com.gymapp.backend.outbox.OutboxSink;
+import com.gymapp.backend.repositories.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class OutboxRelay {
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration pendingRefresh;
+    private final Counter published;
+    private final Counter failures;
+    private final AtomicLong pending = new AtomicLong();
+    private volatile long pendingCountedAt;
+
+    public OutboxRelay(OutboxEventRepository outboxRepository, OutboxSink sink,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                       @Value("${gymapp.outbox.batch-size:500}") int batchSize,
+                       @Value("${gymapp.outbox.retention:7d}") Duration retention,
+                       @Value("${gymapp.outbox.pending-refresh:1m}") Duration pendingRefresh) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.pendingRefresh = pendingRefresh;
+        this.published = meterRegistry.counter("gymapp.outbox.published");
+        this.failures = meterRegistry.counter("gymapp.outbox.publish.failures");
+        // Reports what the last relay pass saw; counting the table on every scrape would be a full scan.
+        Gauge.builder("gymapp.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${gymapp.outbox.relay-interval:1s}")
+    public void relay() {
+        int total = 0;
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+                total += relayed;
+            } while (relayed == batchSize);
+            pending.set(0);
+            pendingCountedAt = 0;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay stopped after {} events, will retry: {}", total, e.getMessage());
+            countPending();
+        }
+        if (total > 0) {
+            log.debug("Relayed {} outbox events", total);
+        }
+    }
+
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxRepository.lockUnpublished(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.publish(batch.stream().map(OutboxMessage::from).toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            outboxRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+            return batch.size();
+        });
+        published.increment(relayed);
+        return relayed;
+    }
+
+    // A pass that drains the backlog knows it is empty; one that fails has to count, at most once per refresh
+    // interval so a sink outage does not turn into a table scan every relay tick.
+    private void countPending() {
+        long now = System.currentTimeMillis();
+        if (now - pendingCountedAt < pendingRefresh.toMillis()) {
+            return;
+        }
+        pendingCountedAt = now;
+        try {
+            pending.set(outboxRepository.countByPublishedAtIsNull());
+        } catch (RuntimeException e) {
+            log.debug("Could not count pending outbox events: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${gymapp.outbox.purge-cron:0 15 4 * * *}")
+    public void purgePublished() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        log.info("Purged {} published outbox events", purged);
+    }
+}
@@ -0,0 +1,50 @@
+package com.gymapp.backend.logging;
+
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class HotPathEvent {
+    private final Logger logger;
+    private final String name;
+    private final Counter counter;
+    private final int sampleRate;
+    private final AtomicLong sequence = new AtomicLong();
+
+    HotPathEvent(Logger logger, String name, Counter counter, int sampleRate) {
+        this.logger = logger;
+        this.name = name;
+        this.counter = counter;
+        this.sampleRate = sampleRate;
+    }
+
+    public void record(String key, Object value) {
+        counter.increment();
+        if (sampled()) {
+            logger.atInfo().setMessage(name).addKeyValue(key, value).log();
+        }
+    }
+
+    public void record(String key1, Object value1, String key2, Object value2) {
+        counter.increment();
+        if (sampled()) {
+            logger.atInfo().setMessage(name).addKeyValue(key1, value1).addKeyValue(key2, value2).log();
+        }
+    }
+
+    public void record(String key1, Object value1, String key2, Object value2, String key3, Object value3) {
+        counter.increment();
+        if (sampled()) {
+            logger.atInfo().setMessage(name)
+                    .addKeyValue(key1, value1).addKeyValue(key2, value2).addKeyValue(key3, value3).log();
+        }
+    }
+
+    private boolean sampled() {
+        if (!logger.isInfoEnabled()) {
+            return false;
+        }
+        return sequence.getAndIncrement() % sampleRate == 0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gymapp.backend.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class HotPathEvents {
+    private final MeterRegistry meterRegistry;
+    private final int sampleRate;
+    private final Map<String, HotPathEvent> events = new ConcurrentHashMap<>();
+
+    public HotPathEvents(MeterRegistry meterRegistry,
+                         @Value("${gymapp.logging.hot-path.sample-rate:100}") int sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    public HotPathEvent event(Class<?> source, String name) {
+        return events.computeIfAbsent(name, key -> new HotPathEvent(LoggerFactory.getLogger(source), key,
+                meterRegistry.counter("gymapp.hotpath.events", "event", key), sampleRate));
+    }
+}
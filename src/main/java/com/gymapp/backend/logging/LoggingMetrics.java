@@ -0,0 +1,51 @@
+package com.gymapp.backend.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoggingMetrics implements MeterBinder {
+    static final String ASYNC_APPENDER = "ASYNC";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gymapp.logging.append.time", LoggingOverhead.class,
+                        ignored -> LoggingOverhead.totalNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1))
+                .baseUnit("milliseconds")
+                .description("Time spent on calling threads handing events to the async appender")
+                .register(registry);
+
+        MeteredAsyncAppender appender = asyncAppender();
+        if (appender == null) {
+            return;
+        }
+        Gauge.builder("gymapp.logging.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                .register(registry);
+        Gauge.builder("gymapp.logging.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                .register(registry);
+        FunctionCounter.builder("gymapp.logging.events.lost", appender, MeteredAsyncAppender::getDiscardedCount)
+                .tag("reason", "discarded")
+                .register(registry);
+        FunctionCounter.builder("gymapp.logging.events.lost", appender, MeteredAsyncAppender::getDroppedCount)
+                .tag("reason", "queue-full")
+                .register(registry);
+    }
+
+    private static MeteredAsyncAppender asyncAppender() {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (!(factory instanceof LoggerContext context)) {
+            return null;
+        }
+        return context.getLogger(Logger.ROOT_LOGGER_NAME).getAppender(ASYNC_APPENDER) instanceof MeteredAsyncAppender appender
+                ? appender : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.gymapp.backend.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LoggingOverhead {
+    private static final ThreadLocal<long[]> THREAD_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+    private static final LongAdder TOTAL_NANOS = new LongAdder();
+
+    private LoggingOverhead() {
+    }
+
+    static void add(long nanos) {
+        THREAD_NANOS.get()[0] += nanos;
+        TOTAL_NANOS.add(nanos);
+    }
+
+    public static void reset() {
+        THREAD_NANOS.get()[0] = 0;
+    }
+
+    public static long takeThreadNanos() {
+        long[] nanos = THREAD_NANOS.get();
+        long taken = nanos[0];
+        nanos[0] = 0;
+        return taken;
+    }
+
+    public static long totalNanos() {
+        return TOTAL_NANOS.sum();
+    }
+}
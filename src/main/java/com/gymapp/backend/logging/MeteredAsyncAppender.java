@@ -0,0 +1,32 @@
+package com.gymapp.backend.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class MeteredAsyncAppender extends AsyncAppender {
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        long start = System.nanoTime();
+        int remainingCapacity = getRemainingCapacity();
+        if (remainingCapacity < getDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+        } else if (isNeverBlock() && remainingCapacity == 0) {
+            dropped.increment();
+        }
+        super.append(event);
+        LoggingOverhead.add(System.nanoTime() - start);
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -2,6 +2,7 @@ package com.gymapp.backend.mappers;
 
 import com.gymapp.backend.dtos.responses.AttendanceResponse;
 import com.gymapp.backend.entities.Attendance;
+import com.gymapp.backend.entities.AttendanceArchive;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -14,6 +15,12 @@ public interface AttendanceMapper {
     @Mapping(target = "durationMinutes", expression = "java(calculateDuration(attendance))")
     AttendanceResponse toResponse(Attendance attendance);
 
+    @Mapping(target = "memberId", source = "member.id")
+    @Mapping(target = "memberName", expression = "java(archived.getMember().getFullName())")
+    @Mapping(target = "durationMinutes",
+            expression = "java(java.time.Duration.between(archived.getCheckInTime(), archived.getCheckOutTime()).toMinutes())")
+    AttendanceResponse toResponse(AttendanceArchive archived);
+
     default Long calculateDuration(Attendance attendance) {
         if (attendance.getCheckOutTime() == null) {
             return null;
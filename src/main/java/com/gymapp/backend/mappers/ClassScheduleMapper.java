@@ -0,0 +1,19 @@
+package com.gymapp.backend.mappers;
+
+import com.gymapp.backend.dtos.requests.CreateClassScheduleRequest;
+import com.gymapp.backend.dtos.responses.ClassScheduleResponse;
+import com.gymapp.backend.entities.ClassSchedule;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ClassScheduleMapper {
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "materializedThrough", ignore = true)
+    @Mapping(target = "active", constant = "true")
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    ClassSchedule toEntity(CreateClassScheduleRequest request);
+
+    ClassScheduleResponse toResponse(ClassSchedule schedule);
+}
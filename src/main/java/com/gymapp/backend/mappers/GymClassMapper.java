@@ -14,9 +14,12 @@ public interface GymClassMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "enrollments", ignore = true)
+    @Mapping(target = "schedule", ignore = true)
+    @Mapping(target = "version", ignore = true)
     GymClass toEntity(CreateGymClassRequest request);
 
     @Mapping(target = "availableSpots", expression = "java(gymClass.getMaxCapacity() - gymClass.getCurrentEnrollment())")
+    @Mapping(target = "scheduleId", source = "schedule.id")
     GymClassResponse toResponse(GymClass gymClass);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -25,5 +28,7 @@ public interface GymClassMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "enrollments", ignore = true)
+    @Mapping(target = "schedule", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(UpdateGymClassRequest request, @MappingTarget GymClass gymClass);
 }
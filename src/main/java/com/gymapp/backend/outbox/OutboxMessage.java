@@ -0,0 +1,17 @@
+package com.gymapp.backend.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.gymapp.backend.entities.OutboxEvent;
+import com.gymapp.backend.enums.OutboxEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OutboxMessage(UUID id, OutboxEventType eventType, String aggregateType, UUID aggregateId,
+                            LocalDateTime occurredAt, @JsonRawValue String payload) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateType(),
+                event.getAggregateId(), event.getCreatedAt(), event.getPayload());
+    }
+}
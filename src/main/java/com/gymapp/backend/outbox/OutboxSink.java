@@ -0,0 +1,8 @@
+package com.gymapp.backend.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface OutboxSink {
+    void publish(List<OutboxMessage> messages) throws IOException;
+}
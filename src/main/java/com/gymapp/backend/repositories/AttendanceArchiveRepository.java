@@ -0,0 +1,72 @@
+package com.gymapp.backend.repositories;
+
+import com.gymapp.backend.dtos.exports.AttendanceExportRow;
+import com.gymapp.backend.entities.AttendanceArchive;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface AttendanceArchiveRepository extends JpaRepository<AttendanceArchive, UUID> {
+    @Modifying
+    @Query("INSERT INTO AttendanceArchive (id, member, checkInTime, checkOutTime, visitDate) " +
+            "SELECT a.id, a.member, a.checkInTime, a.checkOutTime, a.visitDate FROM Attendance a WHERE a.id IN :ids")
+    int copyFromAttendance(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT a FROM AttendanceArchive a JOIN FETCH a.member WHERE a.member.id = :memberId ORDER BY a.checkInTime DESC")
+    List<AttendanceArchive> findByMemberId(@Param("memberId") UUID memberId);
+
+    @Query("SELECT a FROM AttendanceArchive a JOIN FETCH a.member WHERE a.member.id = :memberId")
+    List<AttendanceArchive> findByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
+
+    long countByMemberId(UUID memberId);
+
+    @Query("SELECT a.checkInTime, a.checkOutTime FROM AttendanceArchive a WHERE a.member.id = :memberId")
+    List<Object[]> findVisitTimesByMemberId(@Param("memberId") UUID memberId);
+
+    @Query("SELECT a FROM AttendanceArchive a JOIN FETCH a.member WHERE a.visitDate BETWEEN :startDate AND :endDate")
+    List<AttendanceArchive> findAttendanceBetweenDates(@Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate, Pageable pageable);
+
+    @Query("SELECT COUNT(a) FROM AttendanceArchive a WHERE a.member.id = :memberId AND a.visitDate BETWEEN :startDate AND :endDate")
+    long countVisitsByMemberBetweenDates(@Param("memberId") UUID memberId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a.member.id, year(a.visitDate), month(a.visitDate), COUNT(a) FROM AttendanceArchive a " +
+            "WHERE a.member.id IN :memberIds AND a.visitDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY a.member.id, year(a.visitDate), month(a.visitDate)")
+    List<Object[]> countVisitsByMembersPerMonth(@Param("memberIds") Collection<UUID> memberIds,
+                                                @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a.visitDate, COUNT(a) FROM AttendanceArchive a WHERE a.visitDate BETWEEN :startDate AND :endDate GROUP BY a.visitDate ORDER BY a.visitDate")
+    List<Object[]> getDailyAttendanceReport(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.gymapp.backend.dtos.exports.AttendanceExportRow(" +
+            "a.id, a.member.id, a.checkInTime, a.checkOutTime, a.visitDate) " +
+            "FROM AttendanceArchive a ORDER BY a.checkInTime")
+    Stream<AttendanceExportRow> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.gymapp.backend.dtos.exports.AttendanceExportRow(" +
+            "a.id, a.member.id, a.checkInTime, a.checkOutTime, a.visitDate) " +
+            "FROM AttendanceArchive a WHERE a.visitDate BETWEEN :startDate AND :endDate ORDER BY a.checkInTime")
+    Stream<AttendanceExportRow> streamForExportBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -1,15 +1,22 @@
 package com.gymapp.backend.repositories;
 
+import com.gymapp.backend.dtos.exports.ClassEnrollmentExportRow;
 import com.gymapp.backend.entities.ClassEnrollment;
 import com.gymapp.backend.enums.EnrollmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClassEnrollmentRepository extends JpaRepository<ClassEnrollment, UUID> {
@@ -24,8 +31,28 @@ public interface ClassEnrollmentRepository extends JpaRepository<ClassEnrollment
     @Query("SELECT COUNT(ce) FROM ClassEnrollment ce WHERE ce.gymClass.id = :classId AND ce.status = 'ENROLLED'")
     int countActiveEnrollments(@Param("classId") UUID classId);
 
+    @Query("SELECT COUNT(ce) FROM ClassEnrollment ce WHERE ce.member.id = :memberId " +
+            "AND ce.status IN ('ENROLLED', 'ATTENDED') AND ce.gymClass.scheduledAt >= :from AND ce.gymClass.scheduledAt < :to")
+    long countMemberEnrollmentsBetween(@Param("memberId") UUID memberId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT ce.member.id, year(ce.gymClass.scheduledAt), month(ce.gymClass.scheduledAt), COUNT(ce) " +
+            "FROM ClassEnrollment ce WHERE ce.member.id IN :memberIds AND ce.status IN ('ENROLLED', 'ATTENDED') " +
+            "AND ce.gymClass.scheduledAt >= :from AND ce.gymClass.scheduledAt < :to " +
+            "GROUP BY ce.member.id, year(ce.gymClass.scheduledAt), month(ce.gymClass.scheduledAt)")
+    List<Object[]> countEnrollmentsByMembersPerMonth(@Param("memberIds") Collection<UUID> memberIds,
+                                                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
     List<ClassEnrollment> findByGymClassIdAndStatus(UUID gymClassId, EnrollmentStatus status);
 
     @Query("SELECT ce FROM ClassEnrollment ce WHERE ce.member.id = :memberId AND ce.status = 'ENROLLED'")
     List<ClassEnrollment> findActiveEnrollmentsByMember(@Param("memberId") UUID memberId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.gymapp.backend.dtos.exports.ClassEnrollmentExportRow(" +
+            "ce.id, ce.member.id, ce.gymClass.id, ce.enrolledAt, ce.status) " +
+            "FROM ClassEnrollment ce WHERE ce.enrolledAt >= :from AND ce.enrolledAt < :to ORDER BY ce.enrolledAt")
+    Stream<ClassEnrollmentExportRow> streamForExportBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,20 @@
+package com.gymapp.backend.repositories;
+
+import com.gymapp.backend.entities.ClassSchedule;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ClassScheduleRepository extends JpaRepository<ClassSchedule, UUID> {
+    List<ClassSchedule> findByActiveTrue();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ClassSchedule s WHERE s.active = true ORDER BY s.id")
+    List<ClassSchedule> findActiveForUpdate();
+}
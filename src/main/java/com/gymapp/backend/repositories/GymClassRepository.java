@@ -2,23 +2,43 @@ package com.gymapp.backend.repositories;
 
 import com.gymapp.backend.entities.GymClass;
 import com.gymapp.backend.enums.ClassType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface GymClassRepository extends JpaRepository<GymClass, UUID> {
+    @Query("SELECT gc.updatedAt FROM GymClass gc WHERE gc.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT gc FROM GymClass gc WHERE gc.id = :id")
+    Optional<GymClass> findByIdForUpdate(@Param("id") UUID id);
+
     List<GymClass> findByActiveTrue();
 
     Page<GymClass> findByActiveTrue(Pageable pageable);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<GymClass> streamByActiveTrue();
+
     List<GymClass> findByClassTypeAndActiveTrue(ClassType classType);
 
     @Query("SELECT gc FROM GymClass gc WHERE gc.active = true AND gc.scheduledAt >= :start AND gc.scheduledAt <= :end")
@@ -0,0 +1,50 @@
+package com.gymapp.backend.repositories;
+
+import com.gymapp.backend.entities.MemberActivityCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface MemberActivityCounterRepository extends JpaRepository<MemberActivityCounter, UUID> {
+    Optional<MemberActivityCounter> findByMemberIdAndPeriodStart(UUID memberId, LocalDate periodStart);
+
+    boolean existsByMemberIdAndPeriodStart(UUID memberId, LocalDate periodStart);
+
+    List<MemberActivityCounter> findByMemberIdAndPeriodStartBetween(UUID memberId, LocalDate from, LocalDate to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM MemberActivityCounter c WHERE c.memberId IN :memberIds AND c.periodStart IN :periodStarts")
+    List<MemberActivityCounter> findAllForUpdate(@Param("memberIds") Collection<UUID> memberIds,
+                                                 @Param("periodStarts") Collection<LocalDate> periodStarts);
+
+    // Inserts the seeded counter, or adds the deltas if another transaction inserted it first.
+    @Modifying
+    @Query("INSERT INTO MemberActivityCounter (id, memberId, periodStart, visitCount, classCount) " +
+            "VALUES (:id, :memberId, :periodStart, :visitCount, :classCount) " +
+            "ON CONFLICT (memberId, periodStart) DO UPDATE " +
+            "SET visitCount = visitCount + :visitDelta, classCount = classCount + :classDelta")
+    int seed(@Param("id") UUID id, @Param("memberId") UUID memberId, @Param("periodStart") LocalDate periodStart,
+             @Param("visitCount") long visitCount, @Param("classCount") long classCount,
+             @Param("visitDelta") long visitDelta, @Param("classDelta") long classDelta);
+
+    @Modifying
+    @Query("UPDATE MemberActivityCounter c SET c.visitCount = c.visitCount + :delta " +
+            "WHERE c.memberId = :memberId AND c.periodStart = :periodStart")
+    int addVisits(@Param("memberId") UUID memberId, @Param("periodStart") LocalDate periodStart, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE MemberActivityCounter c SET c.classCount = c.classCount + :delta " +
+            "WHERE c.memberId = :memberId AND c.periodStart = :periodStart")
+    int addClasses(@Param("memberId") UUID memberId, @Param("periodStart") LocalDate periodStart, @Param("delta") long delta);
+}
@@ -0,0 +1,19 @@
+package com.gymapp.backend.repositories;
+
+import com.gymapp.backend.entities.MemberDashboard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface MemberDashboardRepository extends JpaRepository<MemberDashboard, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM MemberDashboard d WHERE d.memberId = :memberId")
+    Optional<MemberDashboard> findByIdForUpdate(@Param("memberId") UUID memberId);
+}
@@ -1,16 +1,22 @@
 package com.gymapp.backend.repositories;
 
+import com.gymapp.backend.dtos.exports.MemberExportRow;
 import com.gymapp.backend.entities.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, UUID> {
@@ -30,4 +36,17 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     Optional<Member> findByIdWithSubscription(@Param("id") UUID id);
 
     List<Member> findByActiveTrueAndSubscriptionIsNull();
+
+    @Query("SELECT greatest(m.updatedAt, coalesce(s.updatedAt, m.updatedAt), coalesce(p.updatedAt, m.updatedAt)) " +
+            "FROM Member m LEFT JOIN m.subscription s LEFT JOIN s.membershipPlan p WHERE m.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.gymapp.backend.dtos.exports.MemberExportRow(" +
+            "m.id, m.firstName, m.lastName, m.email, m.phone, m.dateOfBirth, m.active, m.createdAt) " +
+            "FROM Member m ORDER BY m.createdAt")
+    Stream<MemberExportRow> streamAllForExport();
 }
@@ -1,12 +1,19 @@
 package com.gymapp.backend.repositories;
 
 import com.gymapp.backend.entities.MembershipPlan;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface MembershipPlanRepository extends JpaRepository<MembershipPlan, UUID> {
@@ -14,7 +21,19 @@ public interface MembershipPlanRepository extends JpaRepository<MembershipPlan,
 
     boolean existsByName(String name);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<MembershipPlan> findByActiveTrue();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<MembershipPlan> findByActiveTrueOrderByPriceAsc();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM MembershipPlan p")
+    Stream<MembershipPlan> streamAll();
+
+    @Query("SELECT p.updatedAt FROM MembershipPlan p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
 }
@@ -1,5 +1,6 @@
 package com.gymapp.backend.repositories;
 
+import com.gymapp.backend.cache.MemberEntitlement;
 import com.gymapp.backend.entities.Subscription;
 import com.gymapp.backend.enums.SubscriptionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,5 +26,13 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, UUID
     @Query("SELECT s FROM Subscription s WHERE s.endDate BETWEEN :startDate AND :endDate AND s.status = 'ACTIVE'")
     List<Subscription> findSubscriptionsExpiringBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    @Query("SELECT s.member.id, s.startDate, s.endDate FROM Subscription s WHERE s.member.id IN :memberIds AND s.status = 'ACTIVE'")
+    List<Object[]> findActiveWindowsByMemberIds(@Param("memberIds") Collection<UUID> memberIds);
+
+    @Query("SELECT new com.gymapp.backend.cache.MemberEntitlement(s.member.id, p.name, p.includesPersonalTraining, " +
+            "p.includesGroupClasses, p.maxClassesPerMonth, s.endDate) " +
+            "FROM Subscription s JOIN s.membershipPlan p WHERE s.member.id = :memberId AND s.status = 'ACTIVE'")
+    Optional<MemberEntitlement> findActiveEntitlement(@Param("memberId") UUID memberId);
+
     boolean existsByMemberIdAndStatus(UUID memberId, SubscriptionStatus status);
 }
@@ -1,16 +1,21 @@
 package com.gymapp.backend.repositories;
 
 import com.gymapp.backend.entities.Trainer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TrainerRepository extends JpaRepository<Trainer, UUID> {
@@ -18,10 +23,18 @@ public interface TrainerRepository extends JpaRepository<Trainer, UUID> {
 
     boolean existsByEmail(String email);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Trainer> findByActiveTrue();
 
     Page<Trainer> findByActiveTrue(Pageable pageable);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Trainer> streamByActiveTrue();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Trainer> findBySpecializationIgnoreCaseAndActiveTrue(String specialization);
 
     @Query("SELECT t FROM Trainer t WHERE t.active = true AND " +
@@ -29,4 +42,7 @@ public interface TrainerRepository extends JpaRepository<Trainer, UUID> {
             "LOWER(t.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(t.specialization) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Trainer> searchTrainers(@Param("search") String search, Pageable pageable);
+
+    @Query("SELECT t.updatedAt FROM Trainer t WHERE t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
 }
@@ -1,17 +1,23 @@
 package com.gymapp.backend.repositories;
 
+import com.gymapp.backend.dtos.analytics.TrainerSessionTotals;
+import com.gymapp.backend.dtos.exports.TrainingSessionExportRow;
 import com.gymapp.backend.entities.TrainingSession;
 import com.gymapp.backend.enums.SessionStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TrainingSessionRepository extends JpaRepository<TrainingSession, UUID> {
@@ -33,8 +39,41 @@ public interface TrainingSessionRepository extends JpaRepository<TrainingSession
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end);
 
+    @Query("SELECT ts FROM TrainingSession ts JOIN FETCH ts.trainer WHERE ts.member.id = :memberId " +
+            "AND ts.status = 'SCHEDULED' AND ts.scheduledAt > :after ORDER BY ts.scheduledAt")
+    List<TrainingSession> findUpcomingByMember(@Param("memberId") UUID memberId, @Param("after") LocalDateTime after);
+
     List<TrainingSession> findByStatus(SessionStatus status);
 
+    @Query("SELECT new com.gymapp.backend.dtos.analytics.TrainerSessionTotals(" +
+            "t.id, t.firstName, t.lastName, t.hourlyRate, COUNT(ts.id), " +
+            "COALESCE(SUM(CASE WHEN ts.status = 'COMPLETED' THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN ts.status = 'NO_SHOW' THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(ts.durationMinutes), 0), " +
+            "COALESCE(SUM(CASE WHEN ts.status = 'COMPLETED' THEN ts.durationMinutes ELSE 0 END), 0)) " +
+            "FROM Trainer t LEFT JOIN t.trainingSessions ts ON ts.scheduledAt >= :from AND ts.scheduledAt < :to " +
+            "GROUP BY t.id, t.firstName, t.lastName, t.hourlyRate, t.active " +
+            "HAVING t.active = true OR COUNT(ts.id) > 0")
+    List<TrainerSessionTotals> summarizeByTrainer(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
     @Query("SELECT ts FROM TrainingSession ts WHERE ts.scheduledAt < :dateTime AND ts.status = 'SCHEDULED'")
     List<TrainingSession> findPastScheduledSessions(@Param("dateTime") LocalDateTime dateTime);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.gymapp.backend.dtos.exports.TrainingSessionExportRow(" +
+            "ts.id, ts.member.id, ts.trainer.id, ts.scheduledAt, ts.durationMinutes, ts.status, ts.createdAt) " +
+            "FROM TrainingSession ts ORDER BY ts.scheduledAt")
+    Stream<TrainingSessionExportRow> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.gymapp.backend.dtos.exports.TrainingSessionExportRow(" +
+            "ts.id, ts.member.id, ts.trainer.id, ts.scheduledAt, ts.durationMinutes, ts.status, ts.createdAt) " +
+            "FROM TrainingSession ts WHERE ts.scheduledAt >= :from AND ts.scheduledAt < :to ORDER BY ts.scheduledAt")
+    Stream<TrainingSessionExportRow> streamForExportBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,45 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class AttendanceArchiveService {
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveRepository archiveRepository;
+    private final int retainMonths;
+
+    public AttendanceArchiveService(AttendanceRepository attendanceRepository,
+                                    AttendanceArchiveRepository archiveRepository,
+                                    @Value("${gymapp.attendance.archive.retain-months:12}") int retainMonths) {
+        this.attendanceRepository = attendanceRepository;
+        this.archiveRepository = archiveRepository;
+        this.retainMonths = retainMonths;
+    }
+
+    public LocalDate cutoff(LocalDate today) {
+        return today.withDayOfMonth(1).minusMonths(retainMonths);
+    }
+
+    @Transactional
+    public int archiveBatch(LocalDate cutoff, int batchSize) {
+        List<UUID> ids = attendanceRepository.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archiveRepository.copyFromAttendance(ids);
+        attendanceRepository.deleteAllByIdInBatch(ids);
+        log.debug("Archived {} visits older than {}", ids.size(), cutoff);
+        return ids.size();
+    }
+}
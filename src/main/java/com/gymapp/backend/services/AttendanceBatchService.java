@@ -0,0 +1,180 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.requests.BatchAttendanceRequest;
+import com.gymapp.backend.dtos.requests.TurnstileEventRequest;
+import com.gymapp.backend.dtos.responses.BatchAttendanceResponse;
+import com.gymapp.backend.dtos.responses.TurnstileEventResult;
+import com.gymapp.backend.entities.Attendance;
+import com.gymapp.backend.enums.BatchEventStatus;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.enums.TurnstileEventType;
+import com.gymapp.backend.events.VisitRecordedEvent;
+import com.gymapp.backend.mappers.AttendanceMapper;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.MemberDashboardRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.SubscriptionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceBatchService {
+    private static final int MEMBERS_PER_CHUNK = 500;
+
+    private final AttendanceRepository attendanceRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final MemberRepository memberRepository;
+    private final MemberActivityService memberActivityService;
+    private final MemberDashboardRepository dashboardRepository;
+    private final OutboxService outboxService;
+    private final AttendanceMapper attendanceMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BatchAttendanceResponse ingest(BatchAttendanceRequest request) {
+        List<TurnstileEventRequest> events = request.getEvents();
+        log.info("Ingesting batch of {} turnstile events", events.size());
+
+        Map<UUID, List<Integer>> eventsByMember = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            eventsByMember.computeIfAbsent(events.get(i).getMemberId(), id -> new ArrayList<>()).add(i);
+        }
+
+        TurnstileEventResult[] results = new TurnstileEventResult[events.size()];
+        List<UUID> memberIds = new ArrayList<>(eventsByMember.keySet());
+        for (int from = 0; from < memberIds.size(); from += MEMBERS_PER_CHUNK) {
+            List<UUID> chunk = memberIds.subList(from, Math.min(from + MEMBERS_PER_CHUNK, memberIds.size()));
+            processChunk(chunk, eventsByMember, events, results);
+        }
+
+        int accepted = (int) Arrays.stream(results).filter(r -> r.getStatus() == BatchEventStatus.ACCEPTED).count();
+        log.info("Batch ingested: {} accepted, {} rejected", accepted, results.length - accepted);
+        return BatchAttendanceResponse.builder()
+                .received(results.length)
+                .accepted(accepted)
+                .rejected(results.length - accepted)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private void processChunk(List<UUID> memberIds, Map<UUID, List<Integer>> eventsByMember,
+                              List<TurnstileEventRequest> events, TurnstileEventResult[] results) {
+        Map<UUID, MembershipWindow> windows = new HashMap<>();
+        for (Object[] row : subscriptionRepository.findActiveWindowsByMemberIds(memberIds)) {
+            windows.put((UUID) row[0], new MembershipWindow((LocalDate) row[1], (LocalDate) row[2]));
+        }
+
+        Map<UUID, Attendance> openVisits = new HashMap<>();
+        for (Attendance visit : attendanceRepository.findOpenVisitsByMemberIds(memberIds)) {
+            openVisits.put(visit.getMember().getId(), visit);
+        }
+
+        List<Attendance> newVisits = new ArrayList<>();
+        Map<Integer, Attendance> acceptedVisits = new LinkedHashMap<>();
+        for (UUID memberId : memberIds) {
+            MembershipWindow window = windows.get(memberId);
+            LocalDateTime lastTimestamp = null;
+            for (int index : eventsByMember.get(memberId)) {
+                TurnstileEventRequest event = events.get(index);
+                String reason = rejectionReason(event, window, openVisits.get(memberId), lastTimestamp);
+                if (reason != null) {
+                    results[index] = result(index, event, BatchEventStatus.REJECTED, null, reason);
+                    continue;
+                }
+
+                Attendance visit;
+                if (event.getType() == TurnstileEventType.CHECK_IN) {
+                    visit = Attendance.builder()
+                            .member(memberRepository.getReferenceById(memberId))
+                            .checkInTime(event.getTimestamp())
+                            .visitDate(event.getTimestamp().toLocalDate())
+                            .build();
+                    newVisits.add(visit);
+                    openVisits.put(memberId, visit);
+                } else {
+                    visit = openVisits.remove(memberId);
+                    visit.setCheckOutTime(event.getTimestamp());
+                }
+                lastTimestamp = event.getTimestamp();
+                acceptedVisits.put(index, visit);
+            }
+        }
+
+        attendanceRepository.saveAll(newVisits);
+        // Load the members in one query so the payloads below don't initialize each proxy separately.
+        memberRepository.findAllById(newVisits.stream().map(visit -> visit.getMember().getId()).distinct().toList());
+        newVisits.forEach(visit -> outboxService.append(OutboxEventType.MEMBER_CHECKED_IN, OutboxService.MEMBER,
+                visit.getMember().getId(), attendanceMapper.toResponse(visit)));
+        if (!newVisits.isEmpty()) {
+            memberActivityService.recordVisits(newVisits.stream()
+                    .collect(Collectors.groupingBy(visit -> visit.getMember().getId(),
+                            Collectors.groupingBy(visit -> YearMonth.from(visit.getVisitDate()), Collectors.counting()))));
+        }
+        // Rebuilding thousands of dashboards inline would dominate the batch; drop them and let reads rebuild.
+        dashboardRepository.deleteAllByIdInBatch(acceptedVisits.values().stream()
+                .map(visit -> visit.getMember().getId())
+                .distinct()
+                .toList());
+        acceptedVisits.values().stream()
+                .distinct()
+                .forEach(visit -> eventPublisher.publishEvent(new VisitRecordedEvent(
+                        visit.getMember().getId(), visit.getCheckInTime(), visit.getCheckOutTime())));
+        entityManager.flush();
+        entityManager.clear();
+
+        acceptedVisits.forEach((index, visit) ->
+                results[index] = result(index, events.get(index), BatchEventStatus.ACCEPTED, visit.getId(), null));
+    }
+
+    private static String rejectionReason(TurnstileEventRequest event, MembershipWindow window,
+                                          Attendance openVisit, LocalDateTime lastTimestamp) {
+        LocalDate visitDate = event.getTimestamp().toLocalDate();
+        if (window == null || visitDate.isBefore(window.startDate()) || visitDate.isAfter(window.endDate())) {
+            return "No active membership on " + visitDate;
+        }
+        if (lastTimestamp != null && event.getTimestamp().isBefore(lastTimestamp)) {
+            return "Event is older than the member's previous event in this batch";
+        }
+        if (event.getType() == TurnstileEventType.CHECK_IN) {
+            return openVisit != null ? "Member already checked in" : null;
+        }
+        if (openVisit == null) {
+            return "No open visit to check out";
+        }
+        return event.getTimestamp().isBefore(openVisit.getCheckInTime()) ? "Check-out is before check-in" : null;
+    }
+
+    private static TurnstileEventResult result(int index, TurnstileEventRequest event, BatchEventStatus status,
+                                               UUID attendanceId, String reason) {
+        return TurnstileEventResult.builder()
+                .index(index)
+                .memberId(event.getMemberId())
+                .type(event.getType())
+                .status(status)
+                .attendanceId(attendanceId)
+                .reason(reason)
+                .build();
+    }
+
+    private record MembershipWindow(LocalDate startDate, LocalDate endDate) {
+    }
+}
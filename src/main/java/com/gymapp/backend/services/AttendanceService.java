@@ -1,27 +1,43 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.aop.RetryOnConflict;
+import com.gymapp.backend.cache.MemberEntitlementCache;
+import com.gymapp.backend.cache.MemberVisitIndex;
 import com.gymapp.backend.dtos.requests.CheckInRequest;
 import com.gymapp.backend.dtos.responses.AttendanceReportResponse;
 import com.gymapp.backend.dtos.responses.AttendanceResponse;
+import com.gymapp.backend.dtos.responses.MemberVisitHistoryResponse;
+import com.gymapp.backend.entities.AttendanceArchive;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.events.MemberChangedEvent;
+import com.gymapp.backend.events.VisitRecordedEvent;
 import com.gymapp.backend.exceptions.InvalidOperationException;
 import com.gymapp.backend.exceptions.MembershipExpiredException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.logging.HotPathEvents;
 import com.gymapp.backend.mappers.AttendanceMapper;
 import com.gymapp.backend.entities.Attendance;
 import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
 import com.gymapp.backend.repositories.AttendanceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,18 +45,33 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class AttendanceService {
+    private static final String CHECKED_IN = "attendance.checked_in";
+    private static final String CHECKED_OUT = "attendance.checked_out";
+    private static final int RECENT_ATTENDANCE_LIMIT = 100;
+    private static final int MAX_VISIT_HISTORY = 500;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "checkInTime");
+    private static final Map<String, Comparator<AttendanceResponse>> HISTORY_SORT_KEYS = Map.of(
+            "checkInTime", Comparator.comparing(AttendanceResponse::getCheckInTime),
+            "visitDate", Comparator.comparing(AttendanceResponse::getVisitDate));
+
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveRepository archiveRepository;
     private final AttendanceMapper attendanceMapper;
     private final MemberService memberService;
-    private final SubscriptionService subscriptionService;
+    private final MemberEntitlementCache entitlementCache;
+    private final MemberVisitIndex visitIndex;
+    private final MemberActivityService memberActivityService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotPathEvents hotPathEvents;
 
     @Transactional
     public AttendanceResponse checkIn(CheckInRequest request) {
-        log.info("Member check-in: {}", request.getMemberId());
+        log.debug("Member check-in: {}", request.getMemberId());
 
         Member member = memberService.findMemberById(request.getMemberId());
 
-        if (!subscriptionService.hasActiveSubscription(request.getMemberId())) {
+        if (entitlementCache.findActive(request.getMemberId()).isEmpty()) {
             throw new MembershipExpiredException(member.getFullName());
         }
 
@@ -55,14 +86,21 @@ public class AttendanceService {
                 .build();
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
+        memberActivityService.recordVisits(request.getMemberId(), savedAttendance.getVisitDate(), 1);
+
+        AttendanceResponse response = attendanceMapper.toResponse(savedAttendance);
+        outboxService.append(OutboxEventType.MEMBER_CHECKED_IN, OutboxService.MEMBER, request.getMemberId(), response);
+        eventPublisher.publishEvent(new MemberChangedEvent(request.getMemberId()));
+        eventPublisher.publishEvent(new VisitRecordedEvent(request.getMemberId(), savedAttendance.getCheckInTime(), null));
 
-        log.info("Member checked in successfully with ID: {}", savedAttendance.getId());
-        return attendanceMapper.toResponse(savedAttendance);
+        hotPathEvents.event(AttendanceService.class, CHECKED_IN).record("memberId", request.getMemberId(), "attendanceId", savedAttendance.getId());
+        return response;
     }
 
+    @RetryOnConflict
     @Transactional
     public AttendanceResponse checkOut(UUID attendanceId) {
-        log.info("Member check-out for attendance: {}", attendanceId);
+        log.debug("Member check-out for attendance: {}", attendanceId);
 
         Attendance attendance = findAttendanceById(attendanceId);
 
@@ -72,8 +110,10 @@ public class AttendanceService {
 
         attendance.setCheckOutTime(LocalDateTime.now());
         Attendance updatedAttendance = attendanceRepository.save(attendance);
+        eventPublisher.publishEvent(new VisitRecordedEvent(updatedAttendance.getMember().getId(),
+                updatedAttendance.getCheckInTime(), updatedAttendance.getCheckOutTime()));
 
-        log.info("Member checked out successfully");
+        hotPathEvents.event(AttendanceService.class, CHECKED_OUT).record("attendanceId", attendanceId);
         return attendanceMapper.toResponse(updatedAttendance);
     }
 
@@ -87,39 +127,58 @@ public class AttendanceService {
     @Transactional(readOnly = true)
     public List<AttendanceResponse> getMemberAttendance(UUID memberId) {
         log.debug("Fetching attendance for member: {}", memberId);
-        return attendanceRepository.findByMemberId(memberId).stream()
+        List<AttendanceResponse> attendance = attendanceRepository.findByMemberId(memberId).stream()
                 .map(attendanceMapper::toResponse)
                 .collect(Collectors.toList());
+        archiveRepository.findByMemberId(memberId).stream()
+                .map(attendanceMapper::toResponse)
+                .forEach(attendance::add);
+        return attendance;
     }
 
     @Transactional(readOnly = true)
     public Page<AttendanceResponse> getMemberAttendancePaged(UUID memberId, Pageable pageable) {
         log.debug("Fetching attendance for member with pagination: {}", memberId);
-        return attendanceRepository.findByMemberId(memberId, pageable)
-                .map(attendanceMapper::toResponse);
+        Sort sort = historySort(pageable.getSort());
+        long hotTotal = attendanceRepository.countByMemberId(memberId);
+        long archivedTotal = archiveRepository.countByMemberId(memberId);
+
+        // Late check-outs and open visits keep old rows in the hot table, so neither table is strictly older;
+        // the page is cut from the merge of each table's first offset + size rows.
+        Pageable head = PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), sort);
+        List<Attendance> hot = hotTotal > 0 ? attendanceRepository.findByMemberId(memberId, head).getContent() : List.of();
+        List<AttendanceArchive> archived = archivedTotal > 0 ? archiveRepository.findByMemberId(memberId, head) : List.of();
+        List<AttendanceResponse> content = merge(hot, archived, sort).stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, hotTotal + archivedTotal);
     }
 
     @Transactional(readOnly = true)
     public AttendanceReportResponse getAttendanceReport(LocalDate startDate, LocalDate endDate) {
         log.debug("Generating attendance report from {} to {}", startDate, endDate);
 
-        List<Attendance> attendanceList = attendanceRepository.findAttendanceBetweenDates(startDate, endDate);
-        List<Object[]> dailyStats = attendanceRepository.getDailyAttendanceReport(startDate, endDate);
-
-        Map<LocalDate, Long> dailyVisits = new LinkedHashMap<>();
-        for (Object[] stat : dailyStats) {
-            dailyVisits.put((LocalDate) stat[0], (Long) stat[1]);
+        Map<LocalDate, Long> dailyVisits = new TreeMap<>();
+        for (Object[] stat : archiveRepository.getDailyAttendanceReport(startDate, endDate)) {
+            dailyVisits.merge((LocalDate) stat[0], (Long) stat[1], Long::sum);
+        }
+        for (Object[] stat : attendanceRepository.getDailyAttendanceReport(startDate, endDate)) {
+            dailyVisits.merge((LocalDate) stat[0], (Long) stat[1], Long::sum);
         }
 
-        List<AttendanceResponse> recentAttendance = attendanceList.stream()
-                .limit(100)
-                .map(attendanceMapper::toResponse)
+        Pageable recent = PageRequest.of(0, RECENT_ATTENDANCE_LIMIT, NEWEST_FIRST);
+        List<AttendanceResponse> recentAttendance = merge(
+                attendanceRepository.findAttendanceBetweenDates(startDate, endDate, recent),
+                archiveRepository.findAttendanceBetweenDates(startDate, endDate, recent),
+                NEWEST_FIRST).stream()
+                .limit(RECENT_ATTENDANCE_LIMIT)
                 .collect(Collectors.toList());
 
         return AttendanceReportResponse.builder()
                 .startDate(startDate)
                 .endDate(endDate)
-                .totalVisits(attendanceList.size())
+                .totalVisits(dailyVisits.values().stream().mapToLong(Long::longValue).sum())
                 .dailyVisits(dailyVisits)
                 .recentAttendance(recentAttendance)
                 .build();
@@ -128,7 +187,12 @@ public class AttendanceService {
     @Transactional(readOnly = true)
     public long getMemberVisitCount(UUID memberId, LocalDate startDate, LocalDate endDate) {
         log.debug("Getting visit count for member {} between {} and {}", memberId, startDate, endDate);
-        return attendanceRepository.countVisitsByMemberBetweenDates(memberId, startDate, endDate);
+        return memberActivityService.countVisits(memberId, startDate, endDate);
+    }
+
+    public MemberVisitHistoryResponse getMemberVisitHistory(UUID memberId, int limit) {
+        log.debug("Fetching visit history for member {}", memberId);
+        return visitIndex.getHistory(memberId, Math.clamp(limit, 1, MAX_VISIT_HISTORY));
     }
 
     @Transactional(readOnly = true)
@@ -136,4 +200,34 @@ public class AttendanceService {
         return attendanceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Attendance", "id", id));
     }
+
+    private static Sort historySort(Sort requested) {
+        if (requested.isUnsorted()) {
+            return NEWEST_FIRST;
+        }
+        for (Sort.Order order : requested) {
+            if (!HISTORY_SORT_KEYS.containsKey(order.getProperty())) {
+                throw new InvalidOperationException("Cannot sort attendance by '" + order.getProperty()
+                        + "'; supported properties are " + HISTORY_SORT_KEYS.keySet());
+            }
+        }
+        // Visit dates tie within a day; breaking ties on check-in keeps both tables in the same order.
+        return requested.getOrderFor("checkInTime") != null ? requested
+                : requested.and(Sort.by(requested.toList().getLast().getDirection(), "checkInTime"));
+    }
+
+    private List<AttendanceResponse> merge(List<Attendance> hot, List<AttendanceArchive> archived, Sort sort) {
+        Comparator<AttendanceResponse> order = null;
+        for (Sort.Order sortOrder : sort) {
+            Comparator<AttendanceResponse> key = HISTORY_SORT_KEYS.get(sortOrder.getProperty());
+            key = sortOrder.isDescending() ? key.reversed() : key;
+            order = order == null ? key : order.thenComparing(key);
+        }
+        List<AttendanceResponse> merged = new ArrayList<>(hot.size() + archived.size());
+        hot.stream().map(attendanceMapper::toResponse).forEach(merged::add);
+        archived.stream().map(attendanceMapper::toResponse).forEach(merged::add);
+        // Both runs arrive sorted, so the stable sort degrades to a single linear merge.
+        merged.sort(order);
+        return merged;
+    }
 }
@@ -0,0 +1,128 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.cache.MemberEntitlement;
+import com.gymapp.backend.exceptions.ClassQuotaExceededException;
+import com.gymapp.backend.exceptions.PlanNotEntitledException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClassQuotaService {
+    private final MemberActivityService memberActivityService;
+    private final ConcurrentMap<QuotaKey, Quota> usage = new ConcurrentHashMap<>();
+
+    public void reserve(MemberEntitlement entitlement, LocalDateTime scheduledAt) {
+        if (!entitlement.groupClasses()) {
+            throw new PlanNotEntitledException(entitlement.planName(), "group classes");
+        }
+        Integer limit = entitlement.maxClassesPerMonth();
+        if (limit == null) {
+            return;
+        }
+
+        QuotaKey key = new QuotaKey(entitlement.memberId(), YearMonth.from(scheduledAt));
+        boolean pending = TransactionSynchronizationManager.isSynchronizationActive();
+        while (usage.computeIfPresent(key, (k, quota) -> quota.reserve(limit, k.month(), pending)) == null) {
+            usage.putIfAbsent(key, Quota.of(memberActivityService.countClasses(key.memberId(), key.month())));
+        }
+        if (pending) {
+            afterCompletion(committed -> usage.computeIfPresent(key, (k, quota) -> quota.complete(committed)));
+        }
+    }
+
+    public void release(UUID memberId, LocalDateTime scheduledAt) {
+        QuotaKey key = new QuotaKey(memberId, YearMonth.from(scheduledAt));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            usage.computeIfPresent(key, (k, quota) -> quota.release());
+            return;
+        }
+        afterCompletion(committed -> {
+            if (committed) {
+                usage.computeIfPresent(key, (k, quota) -> quota.release());
+            }
+        });
+    }
+
+    public int reconcile() {
+        YearMonth currentMonth = YearMonth.now();
+        usage.keySet().removeIf(key -> key.month().isBefore(currentMonth));
+
+        int corrected = 0;
+        for (QuotaKey key : usage.keySet()) {
+            Quota before = usage.get(key);
+            if (before == null) {
+                continue;
+            }
+            long persisted = memberActivityService.recompute(key.memberId(), key.month()).getClassCount();
+            // Reservations still in flight, or committed while recomputing, may be missing from the ledger
+            AtomicLong inMemory = new AtomicLong();
+            Quota after = usage.computeIfPresent(key, (k, quota) -> {
+                inMemory.set(quota.used());
+                return quota.withUsed(persisted + quota.inFlight() + quota.settled() - before.settled());
+            });
+            if (after != null && after.used() != inMemory.get()) {
+                log.warn("Class quota for member {} in {} drifted: {} in memory, {} recorded",
+                        key.memberId(), key.month(), inMemory.get(), after.used());
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    long usage(UUID memberId, YearMonth month) {
+        Quota quota = usage.get(new QuotaKey(memberId, month));
+        return quota != null ? quota.used() : 0L;
+    }
+
+    private static void afterCompletion(Consumer<Boolean> action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private record Quota(long used, long inFlight, long settled) {
+        static Quota of(long recorded) {
+            return new Quota(recorded, 0, 0);
+        }
+
+        Quota reserve(int limit, YearMonth month, boolean pending) {
+            if (used >= limit) {
+                throw new ClassQuotaExceededException(limit, month);
+            }
+            return new Quota(used + 1, pending ? inFlight + 1 : inFlight, settled);
+        }
+
+        Quota complete(boolean committed) {
+            return committed
+                    ? new Quota(used, inFlight - 1, settled + 1)
+                    : new Quota(Math.max(0, used - 1), inFlight - 1, settled);
+        }
+
+        Quota release() {
+            return new Quota(Math.max(0, used - 1), inFlight, settled);
+        }
+
+        Quota withUsed(long recorded) {
+            return new Quota(recorded, inFlight, settled);
+        }
+    }
+
+    private record QuotaKey(UUID memberId, YearMonth month) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.requests.CreateClassScheduleRequest;
+import com.gymapp.backend.dtos.responses.ClassScheduleResponse;
+import com.gymapp.backend.dtos.responses.ScheduleMaterializationResponse;
+import com.gymapp.backend.entities.ClassSchedule;
+import com.gymapp.backend.entities.GymClass;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import com.gymapp.backend.exceptions.InvalidOperationException;
+import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.mappers.ClassScheduleMapper;
+import com.gymapp.backend.mappers.GymClassMapper;
+import com.gymapp.backend.repositories.ClassScheduleRepository;
+import com.gymapp.backend.repositories.GymClassRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClassScheduleService {
+    private final ClassScheduleRepository scheduleRepository;
+    private final GymClassRepository classRepository;
+    private final ClassScheduleMapper scheduleMapper;
+    private final GymClassMapper classMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ClassScheduleResponse createSchedule(CreateClassScheduleRequest request) {
+        log.info("Creating class schedule: {}", request.getName());
+
+        if (request.getEndDate() != null && request.getEndDate().isBefore(request.getStartDate())) {
+            throw new InvalidOperationException("Schedule end date cannot be before its start date");
+        }
+
+        ClassSchedule schedule = scheduleMapper.toEntity(request);
+        ClassSchedule savedSchedule = scheduleRepository.save(schedule);
+
+        log.info("Class schedule created with ID: {}", savedSchedule.getId());
+        return scheduleMapper.toResponse(savedSchedule);
+    }
+
+    @Transactional(readOnly = true)
+    public ClassScheduleResponse getScheduleById(UUID id) {
+        log.debug("Fetching class schedule with ID: {}", id);
+        return scheduleMapper.toResponse(findScheduleById(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClassScheduleResponse> getActiveSchedules() {
+        log.debug("Fetching all active class schedules");
+        return scheduleRepository.findByActiveTrue().stream()
+                .map(scheduleMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void deactivateSchedule(UUID id) {
+        log.info("Deactivating class schedule with ID: {}", id);
+        ClassSchedule schedule = findScheduleById(id);
+        schedule.setActive(false);
+        scheduleRepository.save(schedule);
+        log.info("Class schedule deactivated with ID: {}", id);
+    }
+
+    @Transactional
+    public ScheduleMaterializationResponse materializeOccurrences(int horizonDays) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate horizonEnd = now.toLocalDate().plusDays(horizonDays);
+        log.info("Materializing class schedules through {}", horizonEnd);
+
+        // Locked so a concurrent run (the nightly job and the admin endpoint) waits, then sees this run's
+        // occurrences and materializedThrough instead of inserting the same classes again.
+        List<ClassSchedule> schedules = scheduleRepository.findActiveForUpdate();
+        if (schedules.isEmpty()) {
+            return new ScheduleMaterializationResponse(horizonEnd, 0, 0);
+        }
+
+        Set<Occurrence> existing = classRepository.findClassesBetweenDates(now, horizonEnd.atTime(LocalTime.MAX)).stream()
+                .filter(gymClass -> gymClass.getSchedule() != null)
+                .map(gymClass -> new Occurrence(gymClass.getSchedule().getId(), gymClass.getScheduledAt()))
+                .collect(Collectors.toSet());
+
+        List<GymClass> occurrences = new ArrayList<>();
+        for (ClassSchedule schedule : schedules) {
+            LocalDate from = latest(now.toLocalDate(), schedule.getStartDate(),
+                    schedule.getMaterializedThrough() != null ? schedule.getMaterializedThrough().plusDays(1) : null);
+            LocalDate to = schedule.getEndDate() != null && schedule.getEndDate().isBefore(horizonEnd)
+                    ? schedule.getEndDate()
+                    : horizonEnd;
+            if (from.isAfter(to)) {
+                continue;
+            }
+
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                if (!schedule.getDaysOfWeek().contains(date.getDayOfWeek())) {
+                    continue;
+                }
+                LocalDateTime scheduledAt = date.atTime(schedule.getStartTime());
+                if (scheduledAt.isAfter(now) && existing.add(new Occurrence(schedule.getId(), scheduledAt))) {
+                    occurrences.add(toOccurrence(schedule, scheduledAt));
+                }
+            }
+            schedule.setMaterializedThrough(to);
+        }
+
+        classRepository.saveAll(occurrences);
+        occurrences.forEach(gymClass ->
+                eventPublisher.publishEvent(new GymClassChangedEvent(classMapper.toResponse(gymClass))));
+
+        log.info("Materialized {} classes from {} schedules", occurrences.size(), schedules.size());
+        return new ScheduleMaterializationResponse(horizonEnd, schedules.size(), occurrences.size());
+    }
+
+    @Transactional(readOnly = true)
+    public ClassSchedule findScheduleById(UUID id) {
+        return scheduleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ClassSchedule", "id", id));
+    }
+
+    private static GymClass toOccurrence(ClassSchedule schedule, LocalDateTime scheduledAt) {
+        return GymClass.builder()
+                .name(schedule.getName())
+                .description(schedule.getDescription())
+                .instructor(schedule.getInstructor())
+                .maxCapacity(schedule.getMaxCapacity())
+                .durationMinutes(schedule.getDurationMinutes())
+                .classType(schedule.getClassType())
+                .scheduledAt(scheduledAt)
+                .schedule(schedule)
+                .build();
+    }
+
+    private static LocalDate latest(LocalDate first, LocalDate second, LocalDate third) {
+        LocalDate latest = first.isAfter(second) ? first : second;
+        return third != null && third.isAfter(latest) ? third : latest;
+    }
+
+    private record Occurrence(UUID scheduleId, LocalDateTime scheduledAt) {
+    }
+}
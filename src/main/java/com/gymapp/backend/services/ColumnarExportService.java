@@ -0,0 +1,161 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.columnar.ColumnSpec;
+import com.gymapp.backend.columnar.ColumnarWriter;
+import com.gymapp.backend.dtos.exports.AttendanceExportRow;
+import com.gymapp.backend.dtos.exports.ClassEnrollmentExportRow;
+import com.gymapp.backend.dtos.exports.TrainingSessionExportRow;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.ClassEnrollmentRepository;
+import com.gymapp.backend.repositories.TrainingSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.gymapp.backend.columnar.ColumnEncoding.DATE_DELTA;
+import static com.gymapp.backend.columnar.ColumnEncoding.INT_PLAIN;
+import static com.gymapp.backend.columnar.ColumnEncoding.STRING_DICTIONARY;
+import static com.gymapp.backend.columnar.ColumnEncoding.TIMESTAMP_DELTA;
+import static com.gymapp.backend.columnar.ColumnEncoding.UUID_DICTIONARY;
+import static com.gymapp.backend.columnar.ColumnEncoding.UUID_PLAIN;
+
+@Slf4j
+@Service
+public class ColumnarExportService {
+    static final String FILE_EXTENSION = ".gcol";
+    static final String ROWS_METRIC = "gymapp.export.columnar.rows";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final List<ColumnSpec<AttendanceExportRow>> ATTENDANCE_COLUMNS = List.of(
+            ColumnSpec.of("id", UUID_PLAIN, AttendanceExportRow::getId),
+            ColumnSpec.of("memberId", UUID_DICTIONARY, AttendanceExportRow::getMemberId),
+            ColumnSpec.of("checkInTime", TIMESTAMP_DELTA, AttendanceExportRow::getCheckInTime),
+            ColumnSpec.of("checkOutTime", TIMESTAMP_DELTA, AttendanceExportRow::getCheckOutTime),
+            ColumnSpec.of("visitDate", DATE_DELTA, AttendanceExportRow::getVisitDate));
+
+    private static final List<ColumnSpec<ClassEnrollmentExportRow>> ENROLLMENT_COLUMNS = List.of(
+            ColumnSpec.of("id", UUID_PLAIN, ClassEnrollmentExportRow::getId),
+            ColumnSpec.of("memberId", UUID_DICTIONARY, ClassEnrollmentExportRow::getMemberId),
+            ColumnSpec.of("gymClassId", UUID_DICTIONARY, ClassEnrollmentExportRow::getGymClassId),
+            ColumnSpec.of("enrolledAt", TIMESTAMP_DELTA, ClassEnrollmentExportRow::getEnrolledAt),
+            ColumnSpec.of("status", STRING_DICTIONARY, ClassEnrollmentExportRow::getStatus));
+
+    private static final List<ColumnSpec<TrainingSessionExportRow>> SESSION_COLUMNS = List.of(
+            ColumnSpec.of("id", UUID_PLAIN, TrainingSessionExportRow::getId),
+            ColumnSpec.of("memberId", UUID_DICTIONARY, TrainingSessionExportRow::getMemberId),
+            ColumnSpec.of("trainerId", UUID_DICTIONARY, TrainingSessionExportRow::getTrainerId),
+            ColumnSpec.of("scheduledAt", TIMESTAMP_DELTA, TrainingSessionExportRow::getScheduledAt),
+            ColumnSpec.of("durationMinutes", INT_PLAIN, TrainingSessionExportRow::getDurationMinutes),
+            ColumnSpec.of("status", STRING_DICTIONARY, TrainingSessionExportRow::getStatus),
+            ColumnSpec.of("createdAt", TIMESTAMP_DELTA, TrainingSessionExportRow::getCreatedAt));
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveRepository archiveRepository;
+    private final ClassEnrollmentRepository enrollmentRepository;
+    private final TrainingSessionRepository sessionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final int rowGroupSize;
+
+    public ColumnarExportService(AttendanceRepository attendanceRepository,
+                                 AttendanceArchiveRepository archiveRepository,
+                                 ClassEnrollmentRepository enrollmentRepository,
+                                 TrainingSessionRepository sessionRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${gymapp.export.columnar.row-group-size:65536}") int rowGroupSize) {
+        this.attendanceRepository = attendanceRepository;
+        this.archiveRepository = archiveRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.sessionRepository = sessionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    public static Path monthFile(Path directory, String dataset, YearMonth month) {
+        return directory.resolve(dataset).resolve(month + FILE_EXTENSION);
+    }
+
+    // Writes the month's files that are not there yet; existing files are only replaced when rewrite is set.
+    public int exportMonth(YearMonth month, Path directory, boolean rewrite) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        int written = 0;
+        written += export(monthFile(directory, "attendance", month), rewrite, ATTENDANCE_COLUMNS,
+                () -> Stream.concat(
+                        archiveRepository.streamForExportBetween(month.atDay(1), month.atEndOfMonth()),
+                        attendanceRepository.streamForExportBetween(month.atDay(1), month.atEndOfMonth())));
+        written += export(monthFile(directory, "enrollments", month), rewrite, ENROLLMENT_COLUMNS,
+                () -> enrollmentRepository.streamForExportBetween(from, to));
+        written += export(monthFile(directory, "sessions", month), rewrite, SESSION_COLUMNS,
+                () -> sessionRepository.streamForExportBetween(from, to));
+        return written;
+    }
+
+    private <T> int export(Path target, boolean rewrite, List<ColumnSpec<T>> columns, Supplier<Stream<T>> rows) {
+        if (!rewrite && Files.exists(target)) {
+            return 0;
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Long count;
+        try {
+            count = readOnlyTransaction.execute(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    return write(stream.iterator(), columns, temp);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            // Analysts only ever see complete files, including while a month is being rewritten.
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+        String dataset = target.getParent().getFileName().toString();
+        meterRegistry.counter(ROWS_METRIC, "dataset", dataset).increment(count);
+        log.info("Exported {} {} rows to {}", count, dataset, target);
+        return 1;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete partial export {}: {}", file, e.getMessage());
+        }
+    }
+
+    private <T> long write(Iterator<T> rows, List<ColumnSpec<T>> columns, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (ColumnarWriter<T> writer = new ColumnarWriter<>(
+                new BufferedOutputStream(Files.newOutputStream(file), WRITE_BUFFER_SIZE), columns, rowGroupSize)) {
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+            }
+            return writer.rowCount();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.datasource.ConnectionHoldTracker;
+import com.gymapp.backend.dtos.requests.ResizeConnectionPoolRequest;
+import com.gymapp.backend.dtos.responses.ConnectionLeakResponse;
+import com.gymapp.backend.dtos.responses.ConnectionPoolResponse;
+import com.gymapp.backend.dtos.responses.EndpointConnectionStats;
+import com.gymapp.backend.exceptions.InvalidOperationException;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConnectionPoolService {
+    private final DataSource dataSource;
+    private final ConnectionHoldTracker holdTracker;
+
+    public ConnectionPoolResponse getPoolStatus() {
+        return toResponse(hikari());
+    }
+
+    public ConnectionPoolResponse resizePool(ResizeConnectionPoolRequest request) {
+        HikariDataSource pool = hikari();
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+
+        int maximumPoolSize = request.getMaximumPoolSize() != null
+                ? request.getMaximumPoolSize() : config.getMaximumPoolSize();
+        int minimumIdle = request.getMinimumIdle() != null ? request.getMinimumIdle() : config.getMinimumIdle();
+        if (minimumIdle > maximumPoolSize) {
+            throw new InvalidOperationException("Minimum idle cannot exceed the maximum pool size");
+        }
+
+        log.info("Resizing connection pool {} to max {} / min idle {}", config.getPoolName(), maximumPoolSize, minimumIdle);
+        if (maximumPoolSize < config.getMaximumPoolSize()) {
+            config.setMinimumIdle(minimumIdle);
+            config.setMaximumPoolSize(maximumPoolSize);
+        } else {
+            config.setMaximumPoolSize(maximumPoolSize);
+            config.setMinimumIdle(minimumIdle);
+        }
+        if (request.getConnectionTimeoutMs() != null) {
+            config.setConnectionTimeout(request.getConnectionTimeoutMs());
+        }
+        return toResponse(pool);
+    }
+
+    private ConnectionPoolResponse toResponse(HikariDataSource pool) {
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        HikariPoolMXBean stats = pool.getHikariPoolMXBean();
+        return ConnectionPoolResponse.builder()
+                .poolName(config.getPoolName())
+                .maximumPoolSize(config.getMaximumPoolSize())
+                .minimumIdle(config.getMinimumIdle())
+                .connectionTimeoutMs(config.getConnectionTimeout())
+                .activeConnections(stats != null ? stats.getActiveConnections() : 0)
+                .idleConnections(stats != null ? stats.getIdleConnections() : 0)
+                .totalConnections(stats != null ? stats.getTotalConnections() : 0)
+                .threadsAwaitingConnection(stats != null ? stats.getThreadsAwaitingConnection() : 0)
+                .trackedOpenConnections(holdTracker.openConnections())
+                .endpoints(holdTracker.endpointStats().stream()
+                        .map(endpoint -> EndpointConnectionStats.builder()
+                                .endpoint(endpoint.endpoint())
+                                .connections(endpoint.count())
+                                .totalHoldMs(endpoint.totalMillis())
+                                .averageHoldMs(endpoint.count() > 0 ? endpoint.totalMillis() / endpoint.count() : 0)
+                                .maxHoldMs(endpoint.maxMillis())
+                                .build())
+                        .toList())
+                .suspectedLeaks(holdTracker.suspectedLeaks().stream()
+                        .map(lease -> ConnectionLeakResponse.builder()
+                                .endpoint(lease.endpoint())
+                                .thread(lease.threadName())
+                                .heldMs(lease.heldMillis())
+                                .acquiredAt(lease.acquiredAt())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            throw new InvalidOperationException("The primary connection pool is not managed by Hikari");
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.exports.AttendanceExportRow;
+import com.gymapp.backend.dtos.exports.MemberExportRow;
+import com.gymapp.backend.dtos.exports.TrainingSessionExportRow;
+import com.gymapp.backend.enums.ExportFormat;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.TrainingSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final List<ExportColumn<MemberExportRow>> MEMBER_COLUMNS = List.of(
+            column("id", MemberExportRow::getId),
+            column("firstName", MemberExportRow::getFirstName),
+            column("lastName", MemberExportRow::getLastName),
+            column("email", MemberExportRow::getEmail),
+            column("phone", MemberExportRow::getPhone),
+            column("dateOfBirth", MemberExportRow::getDateOfBirth),
+            column("active", MemberExportRow::isActive),
+            column("createdAt", MemberExportRow::getCreatedAt));
+
+    private static final List<ExportColumn<AttendanceExportRow>> ATTENDANCE_COLUMNS = List.of(
+            column("id", AttendanceExportRow::getId),
+            column("memberId", AttendanceExportRow::getMemberId),
+            column("checkInTime", AttendanceExportRow::getCheckInTime),
+            column("checkOutTime", AttendanceExportRow::getCheckOutTime),
+            column("visitDate", AttendanceExportRow::getVisitDate));
+
+    private static final List<ExportColumn<TrainingSessionExportRow>> SESSION_COLUMNS = List.of(
+            column("id", TrainingSessionExportRow::getId),
+            column("memberId", TrainingSessionExportRow::getMemberId),
+            column("trainerId", TrainingSessionExportRow::getTrainerId),
+            column("scheduledAt", TrainingSessionExportRow::getScheduledAt),
+            column("durationMinutes", TrainingSessionExportRow::getDurationMinutes),
+            column("status", TrainingSessionExportRow::getStatus),
+            column("createdAt", TrainingSessionExportRow::getCreatedAt));
+
+    private final MemberRepository memberRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveRepository archiveRepository;
+    private final TrainingSessionRepository sessionRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportMembers(ExportFormat format, OutputStream out) {
+        log.info("Exporting members as {}", format);
+        try (Stream<MemberExportRow> rows = memberRepository.streamAllForExport()) {
+            return write(rows, MEMBER_COLUMNS, format, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportAttendance(ExportFormat format, OutputStream out) {
+        log.info("Exporting attendance as {}", format);
+        try (Stream<AttendanceExportRow> archived = archiveRepository.streamAllForExport();
+             Stream<AttendanceExportRow> hot = attendanceRepository.streamAllForExport()) {
+            return write(Stream.concat(archived, hot), ATTENDANCE_COLUMNS, format, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportSessions(ExportFormat format, OutputStream out) {
+        log.info("Exporting training sessions as {}", format);
+        try (Stream<TrainingSessionExportRow> rows = sessionRepository.streamAllForExport()) {
+            return write(rows, SESSION_COLUMNS, format, out);
+        }
+    }
+
+    private <T> long write(Stream<T> rows, List<ExportColumn<T>> columns,
+                           ExportFormat format, OutputStream out) {
+        try {
+            long count = format == ExportFormat.CSV
+                    ? writeCsv(rows.iterator(), columns, out)
+                    : writeNdjson(rows.iterator(), out);
+            log.info("Export finished with {} rows", count);
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> long writeNdjson(Iterator<T> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+                count++;
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private <T> long writeCsv(Iterator<T> rows, List<ExportColumn<T>> columns,
+                              OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writer.write(columns.stream().map(ExportColumn::name).collect(Collectors.joining(",")));
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            boolean first = true;
+            for (ExportColumn<T> column : columns) {
+                if (!first) {
+                    writer.write(',');
+                }
+                writeCsvValue(writer, column.value().apply(row));
+                first = false;
+            }
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean needsQuotes = false;
+        for (int i = 0; i < text.length() && !needsQuotes; i++) {
+            char c = text.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static <T> ExportColumn<T> column(String name, Function<T, Object> value) {
+        return new ExportColumn<>(name, value);
+    }
+
+    private record ExportColumn<T>(String name, Function<T, Object> value) {
+    }
+}
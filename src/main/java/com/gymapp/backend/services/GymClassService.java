@@ -1,10 +1,19 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.aop.RetryOnConflict;
+import com.gymapp.backend.cache.AvailableClassIndex;
+import com.gymapp.backend.cache.ClassTimetable;
+import com.gymapp.backend.cache.MemberEntitlement;
+import com.gymapp.backend.cache.MemberEntitlementCache;
 import com.gymapp.backend.dtos.requests.CreateGymClassRequest;
 import com.gymapp.backend.dtos.requests.UpdateGymClassRequest;
 import com.gymapp.backend.dtos.responses.ClassEnrollmentResponse;
 import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import com.gymapp.backend.events.MemberChangedEvent;
 import com.gymapp.backend.exceptions.*;
+import com.gymapp.backend.logging.HotPathEvents;
 import com.gymapp.backend.mappers.ClassEnrollmentMapper;
 import com.gymapp.backend.mappers.GymClassMapper;
 import com.gymapp.backend.entities.ClassEnrollment;
@@ -14,28 +23,44 @@ import com.gymapp.backend.enums.ClassType;
 import com.gymapp.backend.enums.EnrollmentStatus;
 import com.gymapp.backend.repositories.ClassEnrollmentRepository;
 import com.gymapp.backend.repositories.GymClassRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GymClassService {
+    private static final String ENROLLED = "class.enrolled";
+    private static final String ENROLLMENT_CANCELLED = "class.enrollment_cancelled";
+
     private final GymClassRepository classRepository;
     private final ClassEnrollmentRepository enrollmentRepository;
     private final GymClassMapper classMapper;
     private final ClassEnrollmentMapper enrollmentMapper;
     private final MemberService memberService;
-    private final SubscriptionService subscriptionService;
+    private final MemberEntitlementCache entitlementCache;
+    private final MemberActivityService memberActivityService;
+    private final ClassQuotaService classQuotaService;
+    private final ClassTimetable classTimetable;
+    private final AvailableClassIndex availableClassIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final EntityManager entityManager;
+    private final HotPathEvents hotPathEvents;
 
     @Transactional
     public GymClassResponse createClass(CreateGymClassRequest request) {
@@ -43,9 +68,11 @@ public class GymClassService {
 
         GymClass gymClass = classMapper.toEntity(request);
         GymClass savedClass = classRepository.save(gymClass);
+        GymClassResponse response = classMapper.toResponse(savedClass);
+        eventPublisher.publishEvent(new GymClassChangedEvent(response));
 
         log.info("Gym class created with ID: {}", savedClass.getId());
-        return classMapper.toResponse(savedClass);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -56,11 +83,17 @@ public class GymClassService {
     }
 
     @Transactional(readOnly = true)
-    public List<GymClassResponse> getAllActiveClasses() {
-        log.debug("Fetching all active gym classes");
-        return classRepository.findByActiveTrue().stream()
-                .map(classMapper::toResponse)
-                .collect(Collectors.toList());
+    public LocalDateTime getClassLastModified(UUID id) {
+        return classRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("GymClass", "id", id));
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachActiveClass(Consumer<GymClassResponse> action) {
+        log.debug("Streaming all active gym classes");
+        try (Stream<GymClass> classes = classRepository.streamByActiveTrue()) {
+            StreamingReads.forEach(classes, entityManager, classMapper::toResponse, action);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -70,6 +103,14 @@ public class GymClassService {
                 .map(classMapper::toResponse);
     }
 
+    public List<GymClassResponse> getCalendar(LocalDate from, LocalDate to, ClassType classType) {
+        log.debug("Fetching class calendar from {} to {} for type {}", from, to, classType);
+        if (to.isBefore(from)) {
+            throw new InvalidOperationException("Calendar end date cannot be before its start date");
+        }
+        return classTimetable.between(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), classType);
+    }
+
     @Transactional(readOnly = true)
     public List<GymClassResponse> getClassesByType(ClassType classType) {
         log.debug("Fetching gym classes by type: {}", classType);
@@ -78,12 +119,9 @@ public class GymClassService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public List<GymClassResponse> getAvailableClasses() {
         log.debug("Fetching available gym classes");
-        return classRepository.findAvailableClasses(LocalDateTime.now()).stream()
-                .map(classMapper::toResponse)
-                .collect(Collectors.toList());
+        return availableClassIndex.current();
     }
 
     @Transactional(readOnly = true)
@@ -93,37 +131,41 @@ public class GymClassService {
                 .map(classMapper::toResponse);
     }
 
+    @RetryOnConflict
     @Transactional
     public GymClassResponse updateClass(UUID id, UpdateGymClassRequest request) {
         log.info("Updating gym class with ID: {}", id);
 
         GymClass gymClass = findClassById(id);
         classMapper.updateEntity(request, gymClass);
-        GymClass updatedClass = classRepository.save(gymClass);
+        GymClass updatedClass = classRepository.saveAndFlush(gymClass);
+        GymClassResponse response = classMapper.toResponse(updatedClass);
+        eventPublisher.publishEvent(new GymClassChangedEvent(response));
 
         log.info("Gym class updated with ID: {}", updatedClass.getId());
-        return classMapper.toResponse(updatedClass);
+        return response;
     }
 
+    @RetryOnConflict
     @Transactional
     public void deleteClass(UUID id) {
         log.info("Deleting gym class with ID: {}", id);
         GymClass gymClass = findClassById(id);
         gymClass.setActive(false);
-        classRepository.save(gymClass);
+        classRepository.saveAndFlush(gymClass);
+        eventPublisher.publishEvent(new GymClassChangedEvent(classMapper.toResponse(gymClass)));
         log.info("Gym class deactivated with ID: {}", id);
     }
 
     @Transactional
     public ClassEnrollmentResponse enrollMember(UUID classId, UUID memberId) {
-        log.info("Enrolling member {} in class {}", memberId, classId);
+        log.debug("Enrolling member {} in class {}", memberId, classId);
 
-        GymClass gymClass = findClassById(classId);
+        GymClass gymClass = lockClassById(classId);
         Member member = memberService.findMemberById(memberId);
 
-        if (!subscriptionService.hasActiveSubscription(memberId)) {
-            throw new MembershipExpiredException(member.getFullName());
-        }
+        MemberEntitlement entitlement = entitlementCache.findActive(memberId)
+                .orElseThrow(() -> new MembershipExpiredException(member.getFullName()));
 
         if (enrollmentRepository.existsByMemberIdAndGymClassId(memberId, classId)) {
             throw new DuplicateResourceException("Member is already enrolled in this class");
@@ -133,6 +175,8 @@ public class GymClassService {
             throw new ClassFullException(gymClass.getName(), gymClass.getMaxCapacity());
         }
 
+        classQuotaService.reserve(entitlement, gymClass.getScheduledAt());
+
         ClassEnrollment enrollment = ClassEnrollment.builder()
                 .member(member)
                 .gymClass(gymClass)
@@ -140,19 +184,25 @@ public class GymClassService {
                 .build();
 
         ClassEnrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        memberActivityService.recordClassEnrollment(memberId, gymClass.getScheduledAt(), 1);
 
         gymClass.setCurrentEnrollment(gymClass.getCurrentEnrollment() + 1);
-        classRepository.save(gymClass);
+        classRepository.saveAndFlush(gymClass);
+        eventPublisher.publishEvent(new GymClassChangedEvent(classMapper.toResponse(gymClass)));
+
+        ClassEnrollmentResponse response = enrollmentMapper.toResponse(savedEnrollment);
+        outboxService.append(OutboxEventType.MEMBER_ENROLLED, OutboxService.MEMBER, memberId, response);
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
 
-        log.info("Member enrolled successfully");
-        return enrollmentMapper.toResponse(savedEnrollment);
+        hotPathEvents.event(GymClassService.class, ENROLLED).record("memberId", memberId, "classId", classId, "enrollment", gymClass.getCurrentEnrollment());
+        return response;
     }
 
     @Transactional
     public void cancelEnrollment(UUID classId, UUID memberId) {
-        log.info("Cancelling enrollment for member {} in class {}", memberId, classId);
+        log.debug("Cancelling enrollment for member {} in class {}", memberId, classId);
 
-        GymClass gymClass = findClassById(classId);
+        GymClass gymClass = lockClassById(classId);
         ClassEnrollment enrollment = enrollmentRepository.findByMemberIdAndGymClassId(memberId, classId)
                 .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found"));
 
@@ -162,11 +212,15 @@ public class GymClassService {
 
         enrollment.setStatus(EnrollmentStatus.CANCELLED);
         enrollmentRepository.save(enrollment);
+        memberActivityService.recordClassEnrollment(memberId, gymClass.getScheduledAt(), -1);
+        classQuotaService.release(memberId, gymClass.getScheduledAt());
 
         gymClass.setCurrentEnrollment(gymClass.getCurrentEnrollment() - 1);
-        classRepository.save(gymClass);
+        classRepository.saveAndFlush(gymClass);
+        eventPublisher.publishEvent(new GymClassChangedEvent(classMapper.toResponse(gymClass)));
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
 
-        log.info("Enrollment cancelled successfully");
+        hotPathEvents.event(GymClassService.class, ENROLLMENT_CANCELLED).record("memberId", memberId, "classId", classId);
     }
 
     @Transactional(readOnly = true)
@@ -190,4 +244,9 @@ public class GymClassService {
         return classRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("GymClass", "id", id));
     }
+
+    private GymClass lockClassById(UUID id) {
+        return classRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("GymClass", "id", id));
+    }
 }
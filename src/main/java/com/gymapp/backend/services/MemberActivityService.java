@@ -0,0 +1,208 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.entities.MemberActivityCounter;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.ClassEnrollmentRepository;
+import com.gymapp.backend.repositories.MemberActivityCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberActivityService {
+    private final MemberActivityCounterRepository counterRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveRepository archiveRepository;
+    private final ClassEnrollmentRepository enrollmentRepository;
+
+    @Transactional
+    public void recordVisits(UUID memberId, LocalDate visitDate, long delta) {
+        YearMonth month = YearMonth.from(visitDate);
+        // Checked first: on MySQL an UPDATE that matches nothing still gap-locks the unique index.
+        if (counterRepository.existsByMemberIdAndPeriodStart(memberId, month.atDay(1))) {
+            counterRepository.addVisits(memberId, month.atDay(1), delta);
+        } else {
+            seed(memberId, month, delta, 0);
+        }
+    }
+
+    // Batch variant: the chunk's counters are locked in one query, missing ones are seeded with grouped counts
+    // and inserted together, and increments ride on dirty checking so they flush as batched updates.
+    @Transactional
+    public void recordVisits(Map<UUID, Map<YearMonth, Long>> visitsByMember) {
+        Set<LocalDate> periodStarts = visitsByMember.values().stream()
+                .flatMap(visitsByMonth -> visitsByMonth.keySet().stream())
+                .map(month -> month.atDay(1))
+                .collect(Collectors.toSet());
+        Map<UUID, Map<LocalDate, MemberActivityCounter>> counters = new HashMap<>();
+        for (MemberActivityCounter counter : counterRepository.findAllForUpdate(visitsByMember.keySet(), periodStarts)) {
+            counters.computeIfAbsent(counter.getMemberId(), id -> new HashMap<>()).put(counter.getPeriodStart(), counter);
+        }
+
+        List<MemberActivityCounter> missing = new ArrayList<>();
+        visitsByMember.forEach((memberId, visitsByMonth) -> visitsByMonth.forEach((month, visits) -> {
+            MemberActivityCounter counter = counters.getOrDefault(memberId, Map.of()).get(month.atDay(1));
+            if (counter != null) {
+                counter.setVisitCount(counter.getVisitCount() + visits);
+            } else {
+                missing.add(MemberActivityCounter.builder().memberId(memberId).periodStart(month.atDay(1)).build());
+            }
+        }));
+        if (!missing.isEmpty()) {
+            // Seed counts run after the caller's visits flush, so they already include them.
+            counterRepository.saveAll(fill(missing));
+        }
+    }
+
+    @Transactional
+    public void recordClassEnrollment(UUID memberId, LocalDateTime scheduledAt, long delta) {
+        YearMonth month = YearMonth.from(scheduledAt);
+        if (counterRepository.existsByMemberIdAndPeriodStart(memberId, month.atDay(1))) {
+            counterRepository.addClasses(memberId, month.atDay(1), delta);
+        } else {
+            seed(memberId, month, 0, delta);
+        }
+    }
+
+    @Transactional
+    public MemberActivityCounter recompute(UUID memberId, YearMonth month) {
+        log.debug("Recomputing activity counters for member {} in {}", memberId, month);
+        MemberActivityCounter counter = counterRepository.findByMemberIdAndPeriodStart(memberId, month.atDay(1))
+                .orElseGet(() -> MemberActivityCounter.builder().memberId(memberId).periodStart(month.atDay(1)).build());
+        return counterRepository.save(fill(counter, month));
+    }
+
+    @Transactional(readOnly = true)
+    public long countVisits(UUID memberId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return 0;
+        }
+
+        Map<LocalDate, MemberActivityCounter> buckets = counterRepository
+                .findByMemberIdAndPeriodStartBetween(memberId, startDate.withDayOfMonth(1), endDate.withDayOfMonth(1))
+                .stream()
+                .collect(Collectors.toMap(MemberActivityCounter::getPeriodStart, Function.identity()));
+
+        long total = 0;
+        LocalDate today = LocalDate.now();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            LocalDate from = max(month.atDay(1), startDate);
+            LocalDate to = min(month.atEndOfMonth(), endDate);
+            MemberActivityCounter bucket = buckets.get(month.atDay(1));
+            if (bucket == null) {
+                total += countVisitsBetween(memberId, from, to);
+            } else {
+                total += countWithinBucket(memberId, bucket, month, from, to, today);
+            }
+        }
+        return total;
+    }
+
+    @Transactional(readOnly = true)
+    public long countClasses(UUID memberId, YearMonth month) {
+        return counterRepository.findByMemberIdAndPeriodStart(memberId, month.atDay(1))
+                .map(MemberActivityCounter::getClassCount)
+                .orElseGet(() -> enrollmentRepository.countMemberEnrollmentsBetween(
+                        memberId, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+    }
+
+    // Callers record after writing their row, so the seed counts, which flush and run in the caller's
+    // transaction, already include it; the deltas only apply if a concurrent transaction seeded first.
+    private void seed(UUID memberId, YearMonth month, long visitDelta, long classDelta) {
+        MemberActivityCounter counter = fill(
+                MemberActivityCounter.builder().memberId(memberId).periodStart(month.atDay(1)).build(), month);
+        counterRepository.seed(UUID.randomUUID(), memberId, month.atDay(1),
+                counter.getVisitCount(), counter.getClassCount(), visitDelta, classDelta);
+    }
+
+    private MemberActivityCounter fill(MemberActivityCounter counter, YearMonth month) {
+        LocalDate periodStart = month.atDay(1);
+        counter.setVisitCount(countVisitsBetween(counter.getMemberId(), periodStart, month.atEndOfMonth()));
+        counter.setClassCount(enrollmentRepository.countMemberEnrollmentsBetween(
+                counter.getMemberId(), periodStart.atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+        return counter;
+    }
+
+    private List<MemberActivityCounter> fill(List<MemberActivityCounter> counters) {
+        Set<UUID> memberIds = counters.stream().map(MemberActivityCounter::getMemberId).collect(Collectors.toSet());
+        LocalDate from = counters.stream().map(MemberActivityCounter::getPeriodStart).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = YearMonth.from(counters.stream().map(MemberActivityCounter::getPeriodStart)
+                .max(LocalDate::compareTo).orElseThrow()).atEndOfMonth();
+
+        Map<UUID, Map<LocalDate, Long>> visits = perMonth(attendanceRepository.countVisitsByMembersPerMonth(memberIds, from, to));
+        Map<UUID, Map<LocalDate, Long>> archived = perMonth(archiveRepository.countVisitsByMembersPerMonth(memberIds, from, to));
+        Map<UUID, Map<LocalDate, Long>> classes = perMonth(enrollmentRepository.countEnrollmentsByMembersPerMonth(
+                memberIds, from.atStartOfDay(), to.plusDays(1).atStartOfDay()));
+        for (MemberActivityCounter counter : counters) {
+            counter.setVisitCount(countFor(visits, counter) + countFor(archived, counter));
+            counter.setClassCount(countFor(classes, counter));
+        }
+        return counters;
+    }
+
+    private static Map<UUID, Map<LocalDate, Long>> perMonth(List<Object[]> rows) {
+        Map<UUID, Map<LocalDate, Long>> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.computeIfAbsent((UUID) row[0], id -> new HashMap<>())
+                    .put(LocalDate.of((Integer) row[1], (Integer) row[2], 1), (Long) row[3]);
+        }
+        return counts;
+    }
+
+    private static long countFor(Map<UUID, Map<LocalDate, Long>> counts, MemberActivityCounter counter) {
+        return counts.getOrDefault(counter.getMemberId(), Map.of()).getOrDefault(counter.getPeriodStart(), 0L);
+    }
+
+    private long countWithinBucket(UUID memberId, MemberActivityCounter bucket, YearMonth month,
+                                   LocalDate from, LocalDate to, LocalDate today) {
+        LocalDate monthStart = month.atDay(1);
+        LocalDate lastPastDay = min(month.atEndOfMonth(), today);
+        long leadingDays = ChronoUnit.DAYS.between(monthStart, from);
+        long trailingDays = Math.max(0, ChronoUnit.DAYS.between(to, lastPastDay));
+        if (leadingDays + trailingDays == 0) {
+            return bucket.getVisitCount();
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 <= leadingDays + trailingDays) {
+            return countVisitsBetween(memberId, from, to);
+        }
+
+        long outside = 0;
+        if (leadingDays > 0) {
+            outside += countVisitsBetween(memberId, monthStart, from.minusDays(1));
+        }
+        if (trailingDays > 0) {
+            outside += countVisitsBetween(memberId, to.plusDays(1), lastPastDay);
+        }
+        return bucket.getVisitCount() - outside;
+    }
+
+    private long countVisitsBetween(UUID memberId, LocalDate from, LocalDate to) {
+        return attendanceRepository.countVisitsByMemberBetweenDates(memberId, from, to)
+                + archiveRepository.countVisitsByMemberBetweenDates(memberId, from, to);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,171 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.responses.MemberDashboardResponse;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.entities.MemberDashboard;
+import com.gymapp.backend.events.MemberChangedEvent;
+import com.gymapp.backend.events.SubscriptionChangedEvent;
+import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.mappers.ClassEnrollmentMapper;
+import com.gymapp.backend.mappers.SubscriptionMapper;
+import com.gymapp.backend.mappers.TrainingSessionMapper;
+import com.gymapp.backend.repositories.ClassEnrollmentRepository;
+import com.gymapp.backend.repositories.MemberDashboardRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.SubscriptionRepository;
+import com.gymapp.backend.repositories.TrainingSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class MemberDashboardService {
+    static final String READ_METRIC = "gymapp.dashboard.read";
+
+    private final MemberDashboardRepository dashboardRepository;
+    private final MemberRepository memberRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final ClassEnrollmentRepository enrollmentRepository;
+    private final TrainingSessionRepository sessionRepository;
+    private final SubscriptionMapper subscriptionMapper;
+    private final ClassEnrollmentMapper enrollmentMapper;
+    private final TrainingSessionMapper sessionMapper;
+    private final MemberActivityService memberActivityService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate rebuildTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxAge;
+
+    public MemberDashboardService(MemberDashboardRepository dashboardRepository,
+                                  MemberRepository memberRepository,
+                                  SubscriptionRepository subscriptionRepository,
+                                  ClassEnrollmentRepository enrollmentRepository,
+                                  TrainingSessionRepository sessionRepository,
+                                  SubscriptionMapper subscriptionMapper,
+                                  ClassEnrollmentMapper enrollmentMapper,
+                                  TrainingSessionMapper sessionMapper,
+                                  MemberActivityService memberActivityService,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${gymapp.dashboard.max-age:15m}") Duration maxAge) {
+        this.dashboardRepository = dashboardRepository;
+        this.memberRepository = memberRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.sessionRepository = sessionRepository;
+        this.subscriptionMapper = subscriptionMapper;
+        this.enrollmentMapper = enrollmentMapper;
+        this.sessionMapper = sessionMapper;
+        this.memberActivityService = memberActivityService;
+        this.objectMapper = objectMapper;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.maxAge = maxAge;
+    }
+
+    public MemberDashboardResponse getDashboard(UUID memberId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Optional<MemberDashboard> stored = dashboardRepository.findById(memberId)
+                .filter(dashboard -> dashboard.getRefreshedAt().isAfter(LocalDateTime.now().minus(maxAge)));
+
+        MemberDashboardResponse dashboard = stored
+                .map(row -> objectMapper.readValue(row.getSnapshot(), MemberDashboardResponse.class))
+                .orElseGet(() -> rebuild(memberId));
+        sample.stop(meterRegistry.timer(READ_METRIC, "source", stored.isPresent() ? "snapshot" : "rebuilt"));
+        return asOfNow(dashboard);
+    }
+
+    public MemberDashboardResponse rebuild(UUID memberId) {
+        try {
+            return rebuildTransaction.execute(status -> write(memberId));
+        } catch (DataIntegrityViolationException e) {
+            // Another rebuild inserted the first snapshot concurrently; redo under its row lock.
+            return rebuildTransaction.execute(status -> write(memberId));
+        }
+    }
+
+    private MemberDashboardResponse write(UUID memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new ResourceNotFoundException("Member", "id", memberId));
+        // Serializes rebuilds per member so a slower rebuild cannot overwrite a newer snapshot.
+        MemberDashboard row = dashboardRepository.findByIdForUpdate(memberId)
+                .orElseGet(() -> MemberDashboard.builder().memberId(memberId).build());
+        MemberDashboardResponse dashboard = project(member);
+        row.setSnapshot(objectMapper.writeValueAsString(dashboard));
+        row.setRefreshedAt(dashboard.getRefreshedAt());
+        dashboardRepository.saveAndFlush(row);
+        log.debug("Rebuilt dashboard for member {}", memberId);
+        return dashboard;
+    }
+
+    // Runs inside the writer's transaction, so the snapshot goes away atomically with the write and on the
+    // same connection; the next read rebuilds it.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        dashboardRepository.deleteAllByIdInBatch(List.of(event.memberId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        dashboardRepository.deleteAllByIdInBatch(List.of(event.memberId()));
+    }
+
+    private MemberDashboardResponse project(Member member) {
+        UUID memberId = member.getId();
+        LocalDateTime now = LocalDateTime.now();
+        YearMonth month = YearMonth.from(now);
+        return MemberDashboardResponse.builder()
+                .memberId(memberId)
+                .firstName(member.getFirstName())
+                .lastName(member.getLastName())
+                .email(member.getEmail())
+                .phone(member.getPhone())
+                .active(member.isActive())
+                .subscription(subscriptionRepository.findByMemberId(memberId)
+                        .map(subscriptionMapper::toResponse)
+                        .orElse(null))
+                .activeEnrollments(enrollmentRepository.findActiveEnrollmentsByMember(memberId).stream()
+                        .map(enrollmentMapper::toResponse)
+                        .toList())
+                .upcomingSessions(sessionRepository.findUpcomingByMember(memberId, now).stream()
+                        .map(sessionMapper::toResponse)
+                        .toList())
+                .visitMonth(month)
+                .visitsThisMonth(memberActivityService.countVisits(memberId, month.atDay(1), now.toLocalDate()))
+                .refreshedAt(now)
+                .build();
+    }
+
+    private static MemberDashboardResponse asOfNow(MemberDashboardResponse dashboard) {
+        LocalDateTime now = LocalDateTime.now();
+        dashboard.setUpcomingSessions(dashboard.getUpcomingSessions().stream()
+                .filter(session -> session.getScheduledAt().isAfter(now))
+                .toList());
+        YearMonth month = YearMonth.from(now);
+        if (!month.equals(dashboard.getVisitMonth())) {
+            // Any visit since the rollover would have rebuilt the snapshot, so the new month is still empty.
+            dashboard.setVisitMonth(month);
+            dashboard.setVisitsThisMonth(0);
+        }
+        return dashboard;
+    }
+}
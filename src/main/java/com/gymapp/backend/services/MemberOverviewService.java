@@ -0,0 +1,163 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.datasource.ReadYourWritesContext;
+import com.gymapp.backend.dtos.responses.ClassEnrollmentResponse;
+import com.gymapp.backend.dtos.responses.MemberOverviewResponse;
+import com.gymapp.backend.dtos.responses.MemberResponse;
+import com.gymapp.backend.dtos.responses.SubscriptionResponse;
+import com.gymapp.backend.dtos.responses.TrainingSessionResponse;
+import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.exceptions.UpstreamTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class MemberOverviewService {
+    static final String TIMEOUTS_METRIC = "gymapp.overview.branch.timeouts";
+    static final String FAILURES_METRIC = "gymapp.overview.branch.failures";
+
+    private final MemberService memberService;
+    private final SubscriptionService subscriptionService;
+    private final GymClassService gymClassService;
+    private final TrainingSessionService sessionService;
+    private final AttendanceService attendanceService;
+    private final MeterRegistry meterRegistry;
+    private final long memberTimeoutNanos;
+    private final long branchTimeoutNanos;
+    private final Semaphore branchPermits;
+    private final ExecutorService branches = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("overview-", 0).factory());
+
+    public MemberOverviewService(MemberService memberService,
+                                 SubscriptionService subscriptionService,
+                                 GymClassService gymClassService,
+                                 TrainingSessionService sessionService,
+                                 AttendanceService attendanceService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${gymapp.overview.member-timeout:1s}") Duration memberTimeout,
+                                 @Value("${gymapp.overview.branch-timeout:300ms}") Duration branchTimeout,
+                                 @Value("${gymapp.overview.max-concurrent-branches:${spring.datasource.hikari.maximum-pool-size:10}}")
+                                 int maxConcurrentBranches) {
+        this.memberService = memberService;
+        this.subscriptionService = subscriptionService;
+        this.gymClassService = gymClassService;
+        this.sessionService = sessionService;
+        this.attendanceService = attendanceService;
+        this.meterRegistry = meterRegistry;
+        this.memberTimeoutNanos = memberTimeout.toNanos();
+        this.branchTimeoutNanos = branchTimeout.toNanos();
+        this.branchPermits = new Semaphore(maxConcurrentBranches);
+    }
+
+    public MemberOverviewResponse getOverview(UUID memberId) {
+        long start = System.nanoTime();
+        YearMonth month = YearMonth.now();
+        LocalDate today = LocalDate.now();
+
+        Future<MemberResponse> member = submit(() -> memberService.getMemberById(memberId));
+        Future<SubscriptionResponse> subscription = submit(() -> {
+            try {
+                return subscriptionService.getMemberSubscription(memberId);
+            } catch (ResourceNotFoundException e) {
+                return null;
+            }
+        });
+        Future<List<ClassEnrollmentResponse>> enrollments = submit(() -> gymClassService.getMemberEnrollments(memberId));
+        Future<List<TrainingSessionResponse>> sessions = submit(() -> sessionService.getUpcomingMemberSessions(memberId));
+        Future<Long> visits = submit(() -> attendanceService.getMemberVisitCount(memberId, month.atDay(1), today));
+
+        List<String> unavailable = new ArrayList<>();
+        MemberOverviewResponse overview = MemberOverviewResponse.builder()
+                .member(awaitMember(member, start))
+                .subscription(await("subscription", subscription, start, unavailable))
+                .activeEnrollments(await("activeEnrollments", enrollments, start, unavailable))
+                .upcomingSessions(await("upcomingSessions", sessions, start, unavailable))
+                .visitMonth(month)
+                .visitsThisMonth(await("visitsThisMonth", visits, start, unavailable))
+                .unavailable(unavailable)
+                .build();
+        log.debug("Built overview for member {} in {} ms (unavailable: {})",
+                memberId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), unavailable);
+        return overview;
+    }
+
+    private MemberResponse awaitMember(Future<MemberResponse> member, long start) {
+        try {
+            return member.get(remaining(start, memberTimeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            member.cancel(true);
+            meterRegistry.counter(TIMEOUTS_METRIC, "branch", "member").increment();
+            throw new UpstreamTimeoutException("Member lookup", TimeUnit.NANOSECONDS.toMillis(memberTimeoutNanos));
+        } catch (ExecutionException e) {
+            // The member branch decides the response status, so its failures (404 included) surface unchanged.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building member overview", e);
+        }
+    }
+
+    private <T> T await(String branch, Future<T> future, long start, List<String> unavailable) {
+        try {
+            return future.get(remaining(start, branchTimeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter(TIMEOUTS_METRIC, "branch", branch).increment();
+            log.warn("Overview branch {} timed out", branch);
+        } catch (ExecutionException e) {
+            meterRegistry.counter(FAILURES_METRIC, "branch", branch).increment();
+            log.warn("Overview branch {} failed: {}", branch, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        unavailable.add(branch);
+        return null;
+    }
+
+    private static long remaining(long start, long timeoutNanos) {
+        return Math.max(0, start + timeoutNanos - System.nanoTime());
+    }
+
+    private <T> Future<T> submit(Supplier<T> branch) {
+        // Branches run on their own threads, so carry over the caller's read-your-writes pin to the primary.
+        long primaryPinnedUntil = ReadYourWritesContext.pinnedUntil();
+        return branches.submit(() -> {
+            // Virtual threads are unbounded but connections are not; queue here rather than on the pool's timeout.
+            branchPermits.acquire();
+            ReadYourWritesContext.pinPrimaryUntil(primaryPinnedUntil);
+            try {
+                return branch.get();
+            } finally {
+                ReadYourWritesContext.clear();
+                branchPermits.release();
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        branches.shutdownNow();
+    }
+}
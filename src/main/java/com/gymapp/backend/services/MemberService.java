@@ -3,6 +3,7 @@ package com.gymapp.backend.services;
 import com.gymapp.backend.dtos.requests.CreateMemberRequest;
 import com.gymapp.backend.dtos.requests.UpdateMemberRequest;
 import com.gymapp.backend.dtos.responses.MemberResponse;
+import com.gymapp.backend.events.MemberChangedEvent;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
 import com.gymapp.backend.mappers.MemberMapper;
@@ -10,11 +11,13 @@ import com.gymapp.backend.entities.Member;
 import com.gymapp.backend.repositories.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -23,6 +26,7 @@ import java.util.UUID;
 public class MemberService {
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MemberResponse createMember(CreateMemberRequest request) {
@@ -46,6 +50,12 @@ public class MemberService {
         return memberMapper.toResponse(member);
     }
 
+    @Transactional(readOnly = true)
+    public LocalDateTime getMemberLastModified(UUID id) {
+        return memberRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Member", "id", id));
+    }
+
     @Transactional(readOnly = true)
     public MemberResponse getMemberByEmail(String email) {
         log.debug("Fetching member with email: {}", email);
@@ -82,6 +92,7 @@ public class MemberService {
 
         memberMapper.updateEntity(request, member);
         Member updatedMember = memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberChangedEvent(id));
 
         log.info("Member updated successfully with ID: {}", updatedMember.getId());
         return memberMapper.toResponse(updatedMember);
@@ -93,6 +104,7 @@ public class MemberService {
         Member member = findMemberById(id);
         member.setActive(false);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberChangedEvent(id));
         log.info("Member deactivated successfully with ID: {}", id);
     }
 
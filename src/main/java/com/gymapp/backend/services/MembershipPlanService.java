@@ -1,21 +1,27 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.cache.PlanCatalog;
 import com.gymapp.backend.dtos.requests.CreateMembershipPlanRequest;
 import com.gymapp.backend.dtos.requests.UpdateMembershipPlanRequest;
 import com.gymapp.backend.dtos.responses.MembershipPlanResponse;
+import com.gymapp.backend.events.MembershipPlanChangedEvent;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
 import com.gymapp.backend.mappers.MembershipPlanMapper;
 import com.gymapp.backend.entities.MembershipPlan;
 import com.gymapp.backend.repositories.MembershipPlanRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -23,6 +29,9 @@ import java.util.stream.Collectors;
 public class MembershipPlanService {
     private final MembershipPlanRepository planRepository;
     private final MembershipPlanMapper planMapper;
+    private final PlanCatalog planCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     @Transactional
     public MembershipPlanResponse createPlan(CreateMembershipPlanRequest request) {
@@ -34,6 +43,7 @@ public class MembershipPlanService {
 
         MembershipPlan plan = planMapper.toEntity(request);
         MembershipPlan savedPlan = planRepository.save(plan);
+        eventPublisher.publishEvent(new MembershipPlanChangedEvent(savedPlan.getId()));
 
         log.info("Membership plan created with ID: {}", savedPlan.getId());
         return planMapper.toResponse(savedPlan);
@@ -47,19 +57,26 @@ public class MembershipPlanService {
     }
 
     @Transactional(readOnly = true)
+    public LocalDateTime getPlanLastModified(UUID id) {
+        return planRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("MembershipPlan", "id", id));
+    }
+
     public List<MembershipPlanResponse> getAllActivePlans() {
         log.debug("Fetching all active membership plans");
-        return planRepository.findByActiveTrueOrderByPriceAsc().stream()
-                .map(planMapper::toResponse)
-                .collect(Collectors.toList());
+        return planCatalog.current().plans();
+    }
+
+    public PlanCatalog.Snapshot getActivePlanCatalog() {
+        return planCatalog.current();
     }
 
     @Transactional(readOnly = true)
-    public List<MembershipPlanResponse> getAllPlans() {
-        log.debug("Fetching all membership plans");
-        return planRepository.findAll().stream()
-                .map(planMapper::toResponse)
-                .collect(Collectors.toList());
+    public void forEachPlan(Consumer<MembershipPlanResponse> action) {
+        log.debug("Streaming all membership plans");
+        try (Stream<MembershipPlan> plans = planRepository.streamAll()) {
+            StreamingReads.forEach(plans, entityManager, planMapper::toResponse, action);
+        }
     }
 
     @Transactional
@@ -76,6 +93,7 @@ public class MembershipPlanService {
 
         planMapper.updateEntity(request, plan);
         MembershipPlan updatedPlan = planRepository.save(plan);
+        eventPublisher.publishEvent(new MembershipPlanChangedEvent(updatedPlan.getId()));
 
         log.info("Membership plan updated with ID: {}", updatedPlan.getId());
         return planMapper.toResponse(updatedPlan);
@@ -87,6 +105,7 @@ public class MembershipPlanService {
         MembershipPlan plan = findPlanById(id);
         plan.setActive(false);
         planRepository.save(plan);
+        eventPublisher.publishEvent(new MembershipPlanChangedEvent(id));
         log.info("Membership plan deactivated with ID: {}", id);
     }
 
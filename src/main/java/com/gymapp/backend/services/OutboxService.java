@@ -0,0 +1,36 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.entities.OutboxEvent;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.repositories.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    public static final String MEMBER = "Member";
+
+    private final OutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, String aggregateType, UUID aggregateId, Object payload) {
+        log.debug("Appending {} outbox event for {} {}", eventType, aggregateType, aggregateId);
+        outboxRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .payload(objectMapper.writeValueAsString(payload))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
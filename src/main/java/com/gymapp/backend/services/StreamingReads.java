@@ -0,0 +1,29 @@
+package com.gymapp.backend.services;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+final class StreamingReads {
+    static final int CLEAR_INTERVAL = 500;
+
+    private StreamingReads() {
+    }
+
+    // Streamed entities stay managed until the transaction ends, so the persistence context is cleared
+    // every CLEAR_INTERVAL rows to keep memory flat however many rows the cursor returns.
+    static <E, R> void forEach(Stream<E> rows, EntityManager entityManager,
+                               Function<E, R> mapper, Consumer<R> action) {
+        Iterator<E> iterator = rows.iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            action.accept(mapper.apply(iterator.next()));
+            if (++count % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        }
+    }
+}
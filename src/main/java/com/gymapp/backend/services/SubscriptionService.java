@@ -1,7 +1,10 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.aop.RetryOnConflict;
 import com.gymapp.backend.dtos.requests.CreateSubscriptionRequest;
 import com.gymapp.backend.dtos.responses.SubscriptionResponse;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.events.SubscriptionChangedEvent;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
 import com.gymapp.backend.exceptions.InvalidOperationException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
@@ -13,6 +16,7 @@ import com.gymapp.backend.enums.SubscriptionStatus;
 import com.gymapp.backend.repositories.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +33,8 @@ public class SubscriptionService {
     private final SubscriptionMapper subscriptionMapper;
     private final MemberService memberService;
     private final MembershipPlanService planService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     @Transactional
     public SubscriptionResponse createSubscription(CreateSubscriptionRequest request) {
@@ -53,9 +59,13 @@ public class SubscriptionService {
                 .build();
 
         Subscription savedSubscription = subscriptionRepository.save(subscription);
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(member.getId()));
+
+        SubscriptionResponse response = subscriptionMapper.toResponse(savedSubscription);
+        outboxService.append(OutboxEventType.SUBSCRIPTION_CREATED, OutboxService.MEMBER, member.getId(), response);
 
         log.info("Subscription created with ID: {}", savedSubscription.getId());
-        return subscriptionMapper.toResponse(savedSubscription);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -73,6 +83,7 @@ public class SubscriptionService {
         return subscriptionMapper.toResponse(subscription);
     }
 
+    @RetryOnConflict
     @Transactional
     public SubscriptionResponse cancelSubscription(UUID id) {
         log.info("Cancelling subscription with ID: {}", id);
@@ -85,11 +96,17 @@ public class SubscriptionService {
 
         subscription.setStatus(SubscriptionStatus.CANCELLED);
         Subscription updatedSubscription = subscriptionRepository.save(subscription);
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(subscription.getMember().getId()));
+
+        SubscriptionResponse response = subscriptionMapper.toResponse(updatedSubscription);
+        outboxService.append(OutboxEventType.SUBSCRIPTION_CANCELLED, OutboxService.MEMBER,
+                subscription.getMember().getId(), response);
 
         log.info("Subscription cancelled with ID: {}", id);
-        return subscriptionMapper.toResponse(updatedSubscription);
+        return response;
     }
 
+    @RetryOnConflict
     @Transactional
     public SubscriptionResponse renewSubscription(UUID id, UUID newPlanId) {
         log.info("Renewing subscription with ID: {}", id);
@@ -106,6 +123,7 @@ public class SubscriptionService {
         subscription.setStatus(SubscriptionStatus.ACTIVE);
 
         Subscription renewedSubscription = subscriptionRepository.save(subscription);
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(subscription.getMember().getId()));
 
         log.info("Subscription renewed with ID: {}", id);
         return subscriptionMapper.toResponse(renewedSubscription);
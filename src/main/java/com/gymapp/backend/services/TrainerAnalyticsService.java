@@ -0,0 +1,85 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.analytics.TrainerSessionTotals;
+import com.gymapp.backend.dtos.responses.TrainerAnalyticsResponse;
+import com.gymapp.backend.dtos.responses.TrainerUtilizationResponse;
+import com.gymapp.backend.exceptions.InvalidOperationException;
+import com.gymapp.backend.repositories.TrainingSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrainerAnalyticsService {
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+
+    private final TrainingSessionRepository sessionRepository;
+
+    @Transactional(readOnly = true)
+    public TrainerAnalyticsResponse getAnalytics(LocalDate from, LocalDate to) {
+        log.debug("Computing trainer analytics from {} to {}", from, to);
+        if (to.isBefore(from)) {
+            throw new InvalidOperationException("Analytics end date cannot be before its start date");
+        }
+
+        List<TrainerUtilizationResponse> trainers = sessionRepository
+                .summarizeByTrainer(from.atStartOfDay(), to.plusDays(1).atStartOfDay()).stream()
+                .map(TrainerAnalyticsService::toUtilization)
+                .sorted(Comparator.comparing(TrainerUtilizationResponse::getRevenue)
+                        .thenComparing(TrainerUtilizationResponse::getBookedHours)
+                        .reversed())
+                .toList();
+
+        return TrainerAnalyticsResponse.builder()
+                .from(from)
+                .to(to)
+                .totalSessions(trainers.stream().mapToLong(TrainerUtilizationResponse::getSessions).sum())
+                .totalBookedHours(trainers.stream().map(TrainerUtilizationResponse::getBookedHours)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .totalRevenue(trainers.stream().map(TrainerUtilizationResponse::getRevenue)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .trainers(trainers)
+                .build();
+    }
+
+    private static TrainerUtilizationResponse toUtilization(TrainerSessionTotals totals) {
+        // Only completed sessions are billed; rates compare completions with no-shows and ignore sessions still scheduled.
+        long resolved = totals.completed() + totals.noShows();
+        BigDecimal completedHours = hours(totals.completedMinutes());
+        BigDecimal revenue = totals.hourlyRate() == null
+                ? BigDecimal.ZERO.setScale(2)
+                : totals.hourlyRate().multiply(BigDecimal.valueOf(totals.completedMinutes()))
+                        .divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP);
+        return TrainerUtilizationResponse.builder()
+                .trainerId(totals.trainerId())
+                .trainerName(totals.firstName() + " " + totals.lastName())
+                .hourlyRate(totals.hourlyRate())
+                .sessions(totals.sessions())
+                .completedSessions(totals.completed())
+                .noShowSessions(totals.noShows())
+                .scheduledSessions(totals.sessions() - resolved)
+                .bookedHours(hours(totals.bookedMinutes()))
+                .completedHours(completedHours)
+                .completionRate(ratio(totals.completed(), resolved))
+                .noShowRate(ratio(totals.noShows(), resolved))
+                .revenue(revenue)
+                .build();
+    }
+
+    private static BigDecimal hours(long minutes) {
+        return BigDecimal.valueOf(minutes).divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal ratio(long part, long whole) {
+        return whole == 0 ? null : BigDecimal.valueOf(part).divide(BigDecimal.valueOf(whole), 4, RoundingMode.HALF_UP);
+    }
+}
@@ -8,6 +8,7 @@ import com.gymapp.backend.exceptions.ResourceNotFoundException;
 import com.gymapp.backend.mappers.TrainerMapper;
 import com.gymapp.backend.entities.Trainer;
 import com.gymapp.backend.repositories.TrainerRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -15,9 +16,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -25,6 +29,7 @@ import java.util.stream.Collectors;
 public class TrainerService {
     private final TrainerRepository trainerRepository;
     private final TrainerMapper trainerMapper;
+    private final EntityManager entityManager;
 
     @Transactional
     public TrainerResponse createTrainer(CreateTrainerRequest request) {
@@ -49,11 +54,17 @@ public class TrainerService {
     }
 
     @Transactional(readOnly = true)
-    public List<TrainerResponse> getAllActiveTrainers() {
-        log.debug("Fetching all active trainers");
-        return trainerRepository.findByActiveTrue().stream()
-                .map(trainerMapper::toResponse)
-                .collect(Collectors.toList());
+    public LocalDateTime getTrainerLastModified(UUID id) {
+        return trainerRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Trainer", "id", id));
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachActiveTrainer(Consumer<TrainerResponse> action) {
+        log.debug("Streaming all active trainers");
+        try (Stream<Trainer> trainers = trainerRepository.streamByActiveTrue()) {
+            StreamingReads.forEach(trainers, entityManager, trainerMapper::toResponse, action);
+        }
     }
 
     @Transactional(readOnly = true)
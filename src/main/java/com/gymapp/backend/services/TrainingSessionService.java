@@ -1,11 +1,18 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.aop.RetryOnConflict;
+import com.gymapp.backend.cache.MemberEntitlement;
+import com.gymapp.backend.cache.MemberEntitlementCache;
 import com.gymapp.backend.dtos.requests.BookTrainingSessionRequest;
 import com.gymapp.backend.dtos.responses.TrainingSessionResponse;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.events.MemberChangedEvent;
 import com.gymapp.backend.exceptions.CancellationNotAllowedException;
 import com.gymapp.backend.exceptions.InvalidOperationException;
 import com.gymapp.backend.exceptions.MembershipExpiredException;
+import com.gymapp.backend.exceptions.PlanNotEntitledException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.logging.HotPathEvents;
 import com.gymapp.backend.mappers.TrainingSessionMapper;
 import com.gymapp.backend.entities.Member;
 import com.gymapp.backend.entities.Trainer;
@@ -14,6 +21,7 @@ import com.gymapp.backend.enums.SessionStatus;
 import com.gymapp.backend.repositories.TrainingSessionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,22 +36,29 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class TrainingSessionService {
+    private static final String BOOKED = "session.booked";
+
     private final TrainingSessionRepository sessionRepository;
     private final TrainingSessionMapper sessionMapper;
     private final MemberService memberService;
     private final TrainerService trainerService;
-    private final SubscriptionService subscriptionService;
+    private final MemberEntitlementCache entitlementCache;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotPathEvents hotPathEvents;
 
     @Transactional
     public TrainingSessionResponse bookSession(BookTrainingSessionRequest request) {
-        log.info("Booking training session for member: {} with trainer: {}",
+        log.debug("Booking training session for member: {} with trainer: {}",
                 request.getMemberId(), request.getTrainerId());
 
         Member member = memberService.findMemberById(request.getMemberId());
         Trainer trainer = trainerService.findTrainerById(request.getTrainerId());
 
-        if (!subscriptionService.hasActiveSubscription(request.getMemberId())) {
-            throw new MembershipExpiredException(member.getFullName());
+        MemberEntitlement entitlement = entitlementCache.findActive(request.getMemberId())
+                .orElseThrow(() -> new MembershipExpiredException(member.getFullName()));
+        if (!entitlement.personalTraining()) {
+            throw new PlanNotEntitledException(entitlement.planName(), "personal training");
         }
 
         LocalDateTime endTime = request.getScheduledAt().plusMinutes(request.getDurationMinutes());
@@ -64,9 +79,13 @@ public class TrainingSessionService {
                 .build();
 
         TrainingSession savedSession = sessionRepository.save(session);
+        TrainingSessionResponse response = sessionMapper.toResponse(savedSession);
+        outboxService.append(OutboxEventType.SESSION_BOOKED, OutboxService.MEMBER, request.getMemberId(), response);
+        eventPublisher.publishEvent(new MemberChangedEvent(request.getMemberId()));
 
-        log.info("Training session booked with ID: {}", savedSession.getId());
-        return sessionMapper.toResponse(savedSession);
+        hotPathEvents.event(TrainingSessionService.class, BOOKED).record("memberId", request.getMemberId(), "trainerId", request.getTrainerId(),
+                "sessionId", savedSession.getId());
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -91,6 +110,14 @@ public class TrainingSessionService {
                 .map(sessionMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public List<TrainingSessionResponse> getUpcomingMemberSessions(UUID memberId) {
+        log.debug("Fetching upcoming sessions for member: {}", memberId);
+        return sessionRepository.findUpcomingByMember(memberId, LocalDateTime.now()).stream()
+                .map(sessionMapper::toResponse)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public List<TrainingSessionResponse> getTrainerSessions(UUID trainerId) {
         log.debug("Fetching sessions for trainer: {}", trainerId);
@@ -106,6 +133,7 @@ public class TrainingSessionService {
                 .map(sessionMapper::toResponse);
     }
 
+    @RetryOnConflict
     @Transactional
     public TrainingSessionResponse cancelSession(UUID id) {
         log.info("Cancelling training session with ID: {}", id);
@@ -122,11 +150,13 @@ public class TrainingSessionService {
 
         session.setStatus(SessionStatus.NO_SHOW);
         TrainingSession updatedSession = sessionRepository.save(session);
+        eventPublisher.publishEvent(new MemberChangedEvent(session.getMember().getId()));
 
         log.info("Training session cancelled with ID: {}", id);
         return sessionMapper.toResponse(updatedSession);
     }
 
+    @RetryOnConflict
     @Transactional
     public TrainingSessionResponse completeSession(UUID id) {
         log.info("Completing training session with ID: {}", id);
@@ -139,6 +169,7 @@ public class TrainingSessionService {
 
         session.setStatus(SessionStatus.COMPLETED);
         TrainingSession updatedSession = sessionRepository.save(session);
+        eventPublisher.publishEvent(new MemberChangedEvent(session.getMember().getId()));
 
         log.info("Training session completed with ID: {}", id);
         return sessionMapper.toResponse(updatedSession);
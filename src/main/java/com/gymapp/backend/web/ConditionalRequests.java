@@ -0,0 +1,33 @@
+package com.gymapp.backend.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+public final class ConditionalRequests {
+    private ConditionalRequests() {
+    }
+
+    public static <T> ResponseEntity<T> ifModified(WebRequest request, LocalDateTime lastModified, Supplier<T> body) {
+        long lastModifiedMillis = lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String etag = "\"" + Long.toHexString(lastModifiedMillis) + "\"";
+
+        if (request.checkNotModified(etag, lastModifiedMillis)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .lastModified(lastModifiedMillis)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModifiedMillis)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
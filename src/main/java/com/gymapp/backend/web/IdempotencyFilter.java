@@ -0,0 +1,161 @@
+package com.gymapp.backend.web;
+
+import com.gymapp.backend.exceptions.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final List<PathPattern> IDEMPOTENT_PATHS = List.of(
+            PathPatternParser.defaultInstance.parse("/api/attendance/check-in"),
+            PathPatternParser.defaultInstance.parse("/api/attendance/batch"),
+            PathPatternParser.defaultInstance.parse("/api/classes/{id}/enroll"),
+            PathPatternParser.defaultInstance.parse("/api/training-sessions"),
+            PathPatternParser.defaultInstance.parse("/api/subscriptions"));
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final long inFlightTimeoutMillis;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, Duration inFlightTimeout) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.inFlightTimeoutMillis = inFlightTimeout.toMillis();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return IDEMPOTENT_PATHS.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).strip();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "IDEMPOTENCY_KEY_INVALID",
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = cachedRequest.sha256();
+        String key = request.getRequestURI() + " " + idempotencyKey;
+        Optional<IdempotentResponse> stored = store.find(key);
+        if (stored.isPresent()) {
+            log.debug("Replaying stored response for idempotency key {}", idempotencyKey);
+            replay(stored.get(), requestHash, request, response);
+            return;
+        }
+
+        CompletableFuture<IdempotentResponse> execution = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            awaitAndReplay(running, idempotencyKey, requestHash, request, response);
+            return;
+        }
+
+        try {
+            stored = store.find(key);
+            if (stored.isPresent()) {
+                execution.complete(stored.get());
+                replay(stored.get(), requestHash, request, response);
+                return;
+            }
+
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(cachedRequest, wrapper);
+            IdempotentResponse result = new IdempotentResponse(
+                    wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray(), requestHash);
+            if (result.isSuccessful()) {
+                store.save(key, result);
+            }
+            wrapper.copyBodyToResponse();
+            execution.complete(result);
+        } catch (IOException | ServletException | RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    private void awaitAndReplay(CompletableFuture<IdempotentResponse> running, String idempotencyKey, String requestHash,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Waiting for in-flight request with idempotency key {}", idempotencyKey);
+        try {
+            replay(running.get(inFlightTimeoutMillis, TimeUnit.MILLISECONDS), requestHash, request, response);
+        } catch (TimeoutException | ExecutionException e) {
+            writeError(request, response, HttpStatus.CONFLICT, "IDEMPOTENCY_IN_PROGRESS",
+                    "A request with this Idempotency-Key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(request, response, HttpStatus.CONFLICT, "IDEMPOTENCY_IN_PROGRESS",
+                    "A request with this Idempotency-Key is still being processed");
+        }
+    }
+
+    private void replay(IdempotentResponse stored, String requestHash,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!stored.matches(requestHash)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_CONTENT, "IDEMPOTENCY_KEY_REUSED",
+                    "Idempotency-Key was already used with a different request body");
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            HttpStatus status, String errorCode, String message) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .errorCode(errorCode)
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
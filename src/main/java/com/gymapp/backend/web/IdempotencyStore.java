@@ -0,0 +1,9 @@
+package com.gymapp.backend.web;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+    Optional<IdempotentResponse> find(String key);
+
+    void save(String key, IdempotentResponse response);
+}
@@ -0,0 +1,11 @@
+package com.gymapp.backend.web;
+
+public record IdempotentResponse(int status, String contentType, byte[] body, String requestHash) {
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+
+    public boolean matches(String hash) {
+        return requestHash == null || requestHash.equals(hash);
+    }
+}
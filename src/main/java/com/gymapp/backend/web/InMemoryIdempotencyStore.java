@@ -0,0 +1,35 @@
+package com.gymapp.backend.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    // Rough per-entry cost of the key, record and cache node, so bodiless responses still count.
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<String, IdempotentResponse> responses;
+
+    public InMemoryIdempotencyStore(Duration ttl, DataSize maxSize) {
+        // Weighed by body size: batch responses run to megabytes, so an entry count would not bound the heap.
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, IdempotentResponse response) -> ENTRY_OVERHEAD_BYTES + key.length()
+                        + (response.body() == null ? 0 : response.body().length))
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    @Override
+    public void save(String key, IdempotentResponse response) {
+        responses.put(key, response);
+    }
+}
@@ -0,0 +1,48 @@
+package com.gymapp.backend.web;
+
+import com.gymapp.backend.entities.IdempotencyRecord;
+import com.gymapp.backend.repositories.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+public class JpaIdempotencyStore implements IdempotencyStore {
+    private final IdempotencyRecordRepository recordRepository;
+    private final Duration ttl;
+
+    public JpaIdempotencyStore(IdempotencyRecordRepository recordRepository, Duration ttl) {
+        this.recordRepository = recordRepository;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        return recordRepository.findByIdempotencyKeyAndExpiresAtAfter(key, LocalDateTime.now())
+                .map(record -> new IdempotentResponse(
+                        record.getStatus(), record.getContentType(), record.getBody(), record.getRequestHash()));
+    }
+
+    @Override
+    public void save(String key, IdempotentResponse response) {
+        recordRepository.save(IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .status(response.status())
+                .contentType(response.contentType())
+                .body(response.body())
+                .requestHash(response.requestHash())
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+    }
+
+    @Transactional
+    @Scheduled(cron = "${gymapp.idempotency.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        int purged = recordRepository.deleteExpired(LocalDateTime.now());
+        log.info("Purged {} expired idempotency records", purged);
+    }
+}
@@ -0,0 +1,31 @@
+package com.gymapp.backend.web;
+
+import com.gymapp.backend.logging.LoggingOverhead;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class LoggingOverheadFilter extends OncePerRequestFilter {
+    private final Timer overhead;
+
+    public LoggingOverheadFilter(Timer overhead) {
+        this.overhead = overhead;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        LoggingOverhead.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            overhead.record(LoggingOverhead.takeThreadNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.gymapp.backend.web;
+
+import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.dtos.responses.SeatAvailabilityResponse;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class SeatAvailabilityBroadcaster {
+    private static final String EVENT_NAME = "seats";
+
+    private final long coalesceIntervalNanos;
+    private final long streamTimeoutMillis;
+    private final Map<UUID, ClassChannel> channels = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("seat-flush").daemon().factory());
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("seat-sse-", 0).factory());
+
+    public SeatAvailabilityBroadcaster(
+            @Value("${gymapp.seats.coalesce-interval:250ms}") Duration coalesceInterval,
+            @Value("${gymapp.seats.stream-timeout:30m}") Duration streamTimeout) {
+        this.coalesceIntervalNanos = coalesceInterval.toNanos();
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+    }
+
+    public SseEmitter subscribe(UUID classId, Supplier<GymClassResponse> snapshot) {
+        SseEmitter emitter = createEmitter(streamTimeoutMillis);
+        Subscriber subscriber = new Subscriber(classId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        ClassChannel channel = channels.compute(classId, (id, existing) -> {
+            ClassChannel target = existing != null ? existing : new ClassChannel();
+            target.subscribers.add(subscriber);
+            return target;
+        });
+
+        // Read only once registered, so a change committing in between reaches the stream as an update.
+        GymClassResponse gymClass;
+        try {
+            gymClass = snapshot.get();
+        } catch (RuntimeException e) {
+            subscriber.close();
+            throw e;
+        }
+        subscriber.offer(SeatAvailabilityResponse.from(gymClass), versionOf(gymClass));
+        log.debug("Seat stream opened for class {} ({} subscribers)", classId, channel.subscribers.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClassChanged(GymClassChangedEvent event) {
+        ClassChannel channel = channels.get(event.gymClass().getId());
+        if (channel != null) {
+            channel.offer(SeatAvailabilityResponse.from(event.gymClass()), event.version());
+        }
+    }
+
+    public int subscriberCount(UUID classId) {
+        ClassChannel channel = channels.get(classId);
+        return channel != null ? channel.subscribers.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdownNow();
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        channels.clear();
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private static long versionOf(GymClassResponse gymClass) {
+        return gymClass.getVersion() != null ? gymClass.getVersion() : 0L;
+    }
+
+    private final class ClassChannel {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private SeatAvailabilityResponse pending;
+        private long pendingVersion = -1;
+        private boolean flushScheduled;
+        private long lastFlushNanos = System.nanoTime() - coalesceIntervalNanos;
+
+        // After-commit listeners of concurrent enrollments can run out of order; never go back to an older count.
+        private synchronized void offer(SeatAvailabilityResponse update, long version) {
+            if (version < pendingVersion) {
+                return;
+            }
+            pending = update;
+            pendingVersion = version;
+            if (!flushScheduled) {
+                flushScheduled = true;
+                long delay = Math.max(0, lastFlushNanos + coalesceIntervalNanos - System.nanoTime());
+                flushScheduler.schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void flush() {
+            SeatAvailabilityResponse update;
+            long version;
+            synchronized (this) {
+                update = pending;
+                version = pendingVersion;
+                pending = null;
+                flushScheduled = false;
+                lastFlushNanos = System.nanoTime();
+            }
+            if (update != null) {
+                subscribers.forEach(subscriber -> subscriber.offer(update, version));
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID classId;
+        private final SseEmitter emitter;
+        private final AtomicReference<SeatAvailabilityResponse> mailbox = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private long offeredVersion = -1;
+
+        private Subscriber(UUID classId, SseEmitter emitter) {
+            this.classId = classId;
+            this.emitter = emitter;
+        }
+
+        // The snapshot and channel flushes race for a new subscriber, so the version check is repeated here.
+        private void offer(SeatAvailabilityResponse update, long version) {
+            synchronized (this) {
+                if (version < offeredVersion) {
+                    return;
+                }
+                offeredVersion = version;
+                mailbox.set(update);
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SeatAvailabilityResponse next;
+                while ((next = mailbox.getAndSet(null)) != null) {
+                    emitter.send(SseEmitter.event().name(EVENT_NAME).data(next));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping seat stream subscriber for class {}: {}", classId, e.getMessage());
+                close();
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (mailbox.get() != null && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void close() {
+            channels.computeIfPresent(classId, (id, channel) -> {
+                channel.subscribers.remove(this);
+                return channel.subscribers.isEmpty() ? null : channel;
+            });
+        }
+    }
+}
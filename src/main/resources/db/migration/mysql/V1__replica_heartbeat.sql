@@ -0,0 +1,5 @@
+-- Written on the primary by ReplicaLagMonitor and read back from each replica to measure replication lag
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id INT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
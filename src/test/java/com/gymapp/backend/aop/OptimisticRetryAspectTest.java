@@ -0,0 +1,94 @@
+package com.gymapp.backend.aop;
+
+import com.gymapp.backend.exceptions.ConcurrentUpdateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticRetryAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetryAspect aspect;
+    private RetryOnConflict retryOnConflict;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new OptimisticRetryAspect(meterRegistry);
+        retryOnConflict = getClass().getDeclaredMethod("contended").getAnnotation(RetryOnConflict.class);
+
+        when(joinPoint.getSignature()).thenReturn(signature);
+        doReturn(OptimisticRetryAspectTest.class).when(signature).getDeclaringType();
+        when(signature.getName()).thenReturn("contended");
+    }
+
+    @Test
+    @DisplayName("Should retry a conflicting call and record the conflict")
+    void retry_RecoversFromConflict() throws Throwable {
+        when(joinPoint.proceed())
+                .thenThrow(conflict())
+                .thenReturn("done");
+
+        Object result = aspect.retry(joinPoint, retryOnConflict);
+
+        assertThat(result).isEqualTo("done");
+        verify(joinPoint, times(2)).proceed();
+        assertThat(count(OptimisticRetryAspect.CONFLICTS_METRIC)).isEqualTo(1);
+        assertThat(meterRegistry.counter(OptimisticRetryAspect.OUTCOMES_METRIC,
+                "method", "OptimisticRetryAspectTest.contended", "outcome", "retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up with a concurrent update error once attempts are exhausted")
+    void retry_ExhaustsAttempts() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(conflict());
+
+        assertThatThrownBy(() -> aspect.retry(joinPoint, retryOnConflict))
+                .isInstanceOf(ConcurrentUpdateException.class);
+
+        verify(joinPoint, times(3)).proceed();
+        assertThat(count(OptimisticRetryAspect.CONFLICTS_METRIC)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not retry failures other than optimistic lock conflicts")
+    void retry_PropagatesOtherFailures() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.retry(joinPoint, retryOnConflict))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(joinPoint, times(1)).proceed();
+        assertThat(count(OptimisticRetryAspect.CONFLICTS_METRIC)).isZero();
+    }
+
+    private double count(String metric) {
+        return meterRegistry.counter(metric, "method", "OptimisticRetryAspectTest.contended").count();
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(Object.class, "id");
+    }
+
+    @RetryOnConflict(maxAttempts = 3, backoffMillis = 1)
+    private void contended() {
+    }
+}
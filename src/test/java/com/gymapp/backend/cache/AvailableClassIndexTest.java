@@ -0,0 +1,175 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.entities.GymClass;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import com.gymapp.backend.mappers.GymClassMapper;
+import com.gymapp.backend.repositories.GymClassRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailableClassIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 3, 12, 0);
+
+    @Mock
+    private GymClassRepository classRepository;
+
+    @Mock
+    private GymClassMapper classMapper;
+
+    private MutableClock clock;
+    private AvailableClassIndex index;
+    private GymClassResponse early;
+    private GymClassResponse late;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        index = new AvailableClassIndex(classRepository, classMapper, clock);
+
+        early = openClass(NOW.plusHours(1));
+        late = openClass(NOW.plusHours(3));
+        GymClass earlyEntity = GymClass.builder().build();
+        GymClass lateEntity = GymClass.builder().build();
+
+        when(classRepository.findAvailableClasses(any(LocalDateTime.class))).thenReturn(List.of(lateEntity, earlyEntity));
+        when(classMapper.toResponse(earlyEntity)).thenReturn(early);
+        when(classMapper.toResponse(lateEntity)).thenReturn(late);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should load once and return open classes ordered by start time")
+    void current_LoadsOnce() {
+        assertThat(index.current()).containsExactly(early, late);
+        assertThat(index.current()).containsExactly(early, late);
+        verify(classRepository, times(1)).findAvailableClasses(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should hide classes that have started even before eviction runs")
+    void current_SkipsStartedClasses() {
+        index.current();
+        clock.set(NOW.plusHours(2));
+
+        assertThat(index.current()).containsExactly(late);
+    }
+
+    @Test
+    @DisplayName("Should remove a class when it fills and re-add it on cancellation")
+    void onClassChanged_TracksCapacity() {
+        index.current();
+
+        GymClassResponse full = openClass(early.getScheduledAt());
+        full.setId(early.getId());
+        full.setCurrentEnrollment(full.getMaxCapacity());
+        index.onClassChanged(new GymClassChangedEvent(full));
+        assertThat(index.current()).containsExactly(late);
+
+        GymClassResponse reopened = openClass(early.getScheduledAt());
+        reopened.setId(early.getId());
+        reopened.setCurrentEnrollment(full.getMaxCapacity() - 1);
+        index.onClassChanged(new GymClassChangedEvent(reopened));
+        assertThat(index.current()).containsExactly(reopened, late);
+    }
+
+    @Test
+    @DisplayName("Should ignore change events older than the cached version")
+    void onClassChanged_IgnoresStaleVersion() {
+        index.current();
+
+        GymClassResponse full = openClass(early.getScheduledAt());
+        full.setId(early.getId());
+        full.setCurrentEnrollment(full.getMaxCapacity());
+        full.setVersion(2L);
+        GymClassResponse outdated = openClass(early.getScheduledAt());
+        outdated.setId(early.getId());
+        outdated.setVersion(1L);
+
+        index.onClassChanged(new GymClassChangedEvent(full));
+        index.onClassChanged(new GymClassChangedEvent(outdated));
+
+        assertThat(index.current()).containsExactly(late);
+    }
+
+    @Test
+    @DisplayName("Should drop deactivated classes")
+    void onClassChanged_RemovesInactive() {
+        index.current();
+
+        GymClassResponse cancelled = openClass(late.getScheduledAt());
+        cancelled.setId(late.getId());
+        cancelled.setActive(false);
+        index.onClassChanged(new GymClassChangedEvent(cancelled));
+
+        assertThat(index.current()).containsExactly(early);
+    }
+
+    @Test
+    @DisplayName("Should ignore events before the index is loaded")
+    void onClassChanged_BeforeLoad() {
+        index.onClassChanged(new GymClassChangedEvent(openClass(NOW.plusHours(2))));
+
+        assertThat(index.current()).containsExactly(early, late);
+    }
+
+    private static GymClassResponse openClass(LocalDateTime scheduledAt) {
+        return GymClassResponse.builder()
+                .id(UUID.randomUUID())
+                .scheduledAt(scheduledAt)
+                .maxCapacity(20)
+                .currentEnrollment(5)
+                .availableSpots(15)
+                .active(true)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        private MutableClock(LocalDateTime now) {
+            set(now);
+        }
+
+        private void set(LocalDateTime now) {
+            instant = now.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.entities.GymClass;
+import com.gymapp.backend.enums.ClassType;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import com.gymapp.backend.mappers.GymClassMapper;
+import com.gymapp.backend.repositories.GymClassRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClassTimetableTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 0, 0);
+
+    @Mock
+    private GymClassRepository classRepository;
+
+    @Mock
+    private GymClassMapper classMapper;
+
+    private ClassTimetable classTimetable;
+
+    private GymClassResponse yoga;
+    private GymClassResponse hiit;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(MONDAY.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        classTimetable = new ClassTimetable(classRepository, classMapper, clock, 7);
+        yoga = classAt(MONDAY.plusHours(9), ClassType.YOGA);
+        hiit = classAt(MONDAY.plusHours(9), ClassType.HIIT);
+        GymClass yogaEntity = GymClass.builder().build();
+        GymClass hiitEntity = GymClass.builder().build();
+
+        when(classRepository.findByActiveTrue()).thenReturn(List.of(yogaEntity, hiitEntity));
+        when(classMapper.toResponse(yogaEntity)).thenReturn(yoga);
+        when(classMapper.toResponse(hiitEntity)).thenReturn(hiit);
+    }
+
+    @Test
+    @DisplayName("Should load once and answer range queries from memory")
+    void between_LoadsOnce() {
+        List<GymClassResponse> day = classTimetable.between(MONDAY, MONDAY.plusDays(1), null);
+        List<GymClassResponse> yogaOnly = classTimetable.between(MONDAY, MONDAY.plusDays(1), ClassType.YOGA);
+
+        assertThat(day).containsExactlyInAnyOrder(yoga, hiit);
+        assertThat(yogaOnly).containsExactly(yoga);
+        assertThat(classTimetable.between(MONDAY.plusDays(1), MONDAY.plusDays(2), null)).isEmpty();
+        verify(classRepository, times(1)).findByActiveTrue();
+    }
+
+    @Test
+    @DisplayName("Should treat the end of the range as exclusive")
+    void between_EndExclusive() {
+        assertThat(classTimetable.between(MONDAY, MONDAY.plusHours(9), null)).isEmpty();
+        assertThat(classTimetable.between(MONDAY.plusHours(9), MONDAY.plusHours(10), null)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should move, update and remove classes on change events")
+    void onClassChanged_AppliesChanges() {
+        classTimetable.between(MONDAY, MONDAY.plusDays(1), null);
+
+        GymClassResponse movedYoga = classAt(MONDAY.plusDays(1).plusHours(9), ClassType.YOGA);
+        movedYoga.setId(yoga.getId());
+        movedYoga.setAvailableSpots(3);
+        GymClassResponse deletedHiit = classAt(hiit.getScheduledAt(), ClassType.HIIT);
+        deletedHiit.setId(hiit.getId());
+        deletedHiit.setActive(false);
+
+        classTimetable.onClassChanged(new GymClassChangedEvent(movedYoga));
+        classTimetable.onClassChanged(new GymClassChangedEvent(deletedHiit));
+
+        assertThat(classTimetable.between(MONDAY, MONDAY.plusDays(1), null)).isEmpty();
+        assertThat(classTimetable.between(MONDAY.plusDays(1), MONDAY.plusDays(2), ClassType.YOGA))
+                .singleElement()
+                .extracting(GymClassResponse::getAvailableSpots)
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should ignore change events older than the cached version")
+    void onClassChanged_IgnoresStaleVersion() {
+        classTimetable.between(MONDAY, MONDAY.plusDays(1), null);
+
+        GymClassResponse cancelled = classAt(yoga.getScheduledAt(), ClassType.YOGA);
+        cancelled.setId(yoga.getId());
+        cancelled.setActive(false);
+        cancelled.setVersion(3L);
+        GymClassResponse outdated = classAt(yoga.getScheduledAt(), ClassType.YOGA);
+        outdated.setId(yoga.getId());
+        outdated.setVersion(2L);
+
+        classTimetable.onClassChanged(new GymClassChangedEvent(cancelled));
+        classTimetable.onClassChanged(new GymClassChangedEvent(outdated));
+
+        assertThat(classTimetable.between(MONDAY, MONDAY.plusDays(1), null)).containsExactly(hiit);
+    }
+
+    @Test
+    @DisplayName("Should evict classes past the retention window and read older ranges from the database")
+    void evictPast_DropsOldClasses() {
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(MONDAY.toInstant(ZoneOffset.UTC));
+        classTimetable = new ClassTimetable(classRepository, classMapper, clock, 7);
+        GymClassResponse upcoming = classAt(MONDAY.plusDays(10), ClassType.YOGA);
+        classTimetable.between(MONDAY, MONDAY.plusDays(1), null);
+        classTimetable.onClassChanged(new GymClassChangedEvent(upcoming));
+
+        when(clock.instant()).thenReturn(MONDAY.plusDays(9).toInstant(ZoneOffset.UTC));
+        classTimetable.evictPast();
+
+        assertThat(classTimetable.between(MONDAY.plusDays(2), MONDAY.plusDays(11), null)).containsExactly(upcoming);
+        when(classRepository.findClassesBetweenDates(MONDAY, MONDAY.plusDays(1))).thenReturn(List.of());
+        assertThat(classTimetable.between(MONDAY, MONDAY.plusDays(1), null)).isEmpty();
+        verify(classRepository).findClassesBetweenDates(MONDAY, MONDAY.plusDays(1));
+    }
+
+    private static GymClassResponse classAt(LocalDateTime scheduledAt, ClassType classType) {
+        return GymClassResponse.builder()
+                .id(UUID.randomUUID())
+                .name(classType.name())
+                .classType(classType)
+                .scheduledAt(scheduledAt)
+                .maxCapacity(20)
+                .currentEnrollment(0)
+                .availableSpots(20)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.events.MembershipPlanChangedEvent;
+import com.gymapp.backend.events.SubscriptionChangedEvent;
+import com.gymapp.backend.repositories.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberEntitlementCacheTest {
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    private MemberEntitlementCache cache;
+    private UUID memberId;
+    private MemberEntitlement entitlement;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MemberEntitlementCache(subscriptionRepository, Duration.ofMinutes(10), 100);
+        memberId = UUID.randomUUID();
+        entitlement = new MemberEntitlement(memberId, "Premium", true, true, 8, LocalDate.now().plusMonths(1));
+    }
+
+    @Test
+    @DisplayName("Should load the snapshot once and serve repeats from memory")
+    void findActive_CachesSnapshot() {
+        when(subscriptionRepository.findActiveEntitlement(memberId)).thenReturn(Optional.of(entitlement));
+
+        assertThat(cache.findActive(memberId)).contains(entitlement);
+        assertThat(cache.findActive(memberId)).contains(entitlement);
+
+        verify(subscriptionRepository, times(1)).findActiveEntitlement(memberId);
+    }
+
+    @Test
+    @DisplayName("Should cache members without an active subscription")
+    void findActive_CachesAbsence() {
+        when(subscriptionRepository.findActiveEntitlement(memberId)).thenReturn(Optional.empty());
+
+        assertThat(cache.findActive(memberId)).isEmpty();
+        assertThat(cache.findActive(memberId)).isEmpty();
+
+        verify(subscriptionRepository, times(1)).findActiveEntitlement(memberId);
+    }
+
+    @Test
+    @DisplayName("Should treat a snapshot past its end date as inactive")
+    void findActive_PastEndDate() {
+        MemberEntitlement lapsed = new MemberEntitlement(memberId, "Premium", true, true, 8, LocalDate.now().minusDays(1));
+        when(subscriptionRepository.findActiveEntitlement(memberId)).thenReturn(Optional.of(lapsed));
+
+        assertThat(cache.findActive(memberId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reload after the member's subscription changes")
+    void onSubscriptionChanged_Invalidates() {
+        when(subscriptionRepository.findActiveEntitlement(memberId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(entitlement));
+        cache.findActive(memberId);
+
+        cache.onSubscriptionChanged(new SubscriptionChangedEvent(memberId));
+
+        assertThat(cache.findActive(memberId)).contains(entitlement);
+    }
+
+    @Test
+    @DisplayName("Should not cache a snapshot loaded concurrently with an invalidation")
+    void findActive_DropsLoadRacingInvalidation() {
+        when(subscriptionRepository.findActiveEntitlement(memberId))
+                .thenAnswer(invocation -> {
+                    cache.onSubscriptionChanged(new SubscriptionChangedEvent(memberId));
+                    return Optional.empty();
+                })
+                .thenReturn(Optional.of(entitlement));
+
+        assertThat(cache.findActive(memberId)).isEmpty();
+        assertThat(cache.findActive(memberId)).contains(entitlement);
+        assertThat(cache.findActive(memberId)).contains(entitlement);
+
+        verify(subscriptionRepository, times(2)).findActiveEntitlement(memberId);
+    }
+
+    @Test
+    @DisplayName("Should drop every snapshot when a plan changes")
+    void onPlanChanged_InvalidatesAll() {
+        when(subscriptionRepository.findActiveEntitlement(memberId)).thenReturn(Optional.of(entitlement));
+        cache.findActive(memberId);
+
+        cache.onPlanChanged(new MembershipPlanChangedEvent(UUID.randomUUID()));
+        cache.findActive(memberId);
+
+        verify(subscriptionRepository, times(2)).findActiveEntitlement(memberId);
+    }
+}
@@ -0,0 +1,134 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.dtos.responses.MemberVisitHistoryResponse;
+import com.gymapp.backend.dtos.responses.VisitResponse;
+import com.gymapp.backend.events.VisitRecordedEvent;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberVisitIndexTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 6, 2, 7, 0);
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceArchiveRepository archiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MemberVisitIndex index;
+    private UUID memberId;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberVisitIndex(attendanceRepository, archiveRepository, transactionManager, 1_000, Duration.ofHours(1));
+        memberId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should merge hot and archived visits newest first with duration totals")
+    void getHistory_MergesBothTables() {
+        when(attendanceRepository.findVisitTimesByMemberId(memberId)).thenReturn(rows(
+                new Object[]{DAY.plusDays(10), null},
+                new Object[]{DAY.plusDays(5), DAY.plusDays(5).plusMinutes(45)}));
+        when(archiveRepository.findVisitTimesByMemberId(memberId)).thenReturn(rows(
+                new Object[]{DAY, DAY.plusMinutes(90)}));
+
+        MemberVisitHistoryResponse history = index.getHistory(memberId, 10);
+
+        assertThat(history.getTotalVisits()).isEqualTo(3);
+        assertThat(history.getCompletedVisits()).isEqualTo(2);
+        assertThat(history.getTotalMinutes()).isEqualTo(135);
+        assertThat(history.getAverageMinutes()).isEqualTo(67);
+        assertThat(history.getLongestMinutes()).isEqualTo(90);
+        assertThat(history.getLastCheckIn()).isEqualTo(DAY.plusDays(10));
+        assertThat(history.getRecentVisits()).extracting(VisitResponse::getCheckInTime)
+                .containsExactly(DAY.plusDays(10), DAY.plusDays(5), DAY);
+        assertThat(history.getRecentVisits().getFirst().getDurationMinutes()).isNull();
+        // Read-write, so the routing data source loads from the primary instead of a lagging replica.
+        verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()));
+    }
+
+    @Test
+    @DisplayName("Should apply check-ins and check-outs to a loaded history without reloading")
+    void onVisitRecorded_AppendsToLoadedHistory() {
+        when(attendanceRepository.findVisitTimesByMemberId(memberId)).thenReturn(rows(
+                new Object[]{DAY, DAY.plusMinutes(60)}));
+        when(archiveRepository.findVisitTimesByMemberId(memberId)).thenReturn(List.of());
+        index.getHistory(memberId, 10);
+
+        index.onVisitRecorded(new VisitRecordedEvent(memberId, DAY.plusDays(1), null));
+        index.onVisitRecorded(new VisitRecordedEvent(memberId, DAY.plusDays(1), DAY.plusDays(1).plusMinutes(30)));
+        // A late turnstile scan lands between the existing visits.
+        index.onVisitRecorded(new VisitRecordedEvent(memberId, DAY.plusHours(12), DAY.plusHours(13)));
+        // Replays of an already indexed check-in must not duplicate it.
+        index.onVisitRecorded(new VisitRecordedEvent(memberId, DAY.plusDays(1), null));
+        MemberVisitHistoryResponse history = index.getHistory(memberId, 2);
+
+        assertThat(history.getTotalVisits()).isEqualTo(3);
+        assertThat(history.getTotalMinutes()).isEqualTo(150);
+        assertThat(history.getRecentVisits()).extracting(VisitResponse::getCheckInTime)
+                .containsExactly(DAY.plusDays(1), DAY.plusHours(12));
+        assertThat(history.getRecentVisits().getFirst().getDurationMinutes()).isEqualTo(30);
+        verify(attendanceRepository, times(1)).findVisitTimesByMemberId(memberId);
+    }
+
+    @Test
+    @DisplayName("Should apply a visit recorded while the member's history is loading")
+    void onVisitRecorded_AppliesVisitRacingLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(attendanceRepository.findVisitTimesByMemberId(memberId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return rows(new Object[]{DAY, DAY.plusMinutes(60)});
+        });
+        when(archiveRepository.findVisitTimesByMemberId(memberId)).thenReturn(List.of());
+        Thread reader = Thread.ofPlatform().start(() -> index.getHistory(memberId, 10));
+        loading.await();
+
+        Thread recorder = Thread.ofPlatform().start(() ->
+                index.onVisitRecorded(new VisitRecordedEvent(memberId, DAY.plusDays(1), null)));
+        while (recorder.getState() == Thread.State.NEW || recorder.getState() == Thread.State.RUNNABLE) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        reader.join();
+        recorder.join();
+
+        assertThat(index.getHistory(memberId, 10).getTotalVisits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore visits of members whose history is not loaded")
+    void onVisitRecorded_IgnoresUnloadedMembers() {
+        index.onVisitRecorded(new VisitRecordedEvent(memberId, DAY, null));
+
+        verifyNoInteractions(attendanceRepository, archiveRepository);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
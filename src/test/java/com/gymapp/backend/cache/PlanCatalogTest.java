@@ -0,0 +1,85 @@
+package com.gymapp.backend.cache;
+
+import com.gymapp.backend.dtos.responses.MembershipPlanResponse;
+import com.gymapp.backend.entities.MembershipPlan;
+import com.gymapp.backend.events.MembershipPlanChangedEvent;
+import com.gymapp.backend.mappers.MembershipPlanMapper;
+import com.gymapp.backend.repositories.MembershipPlanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlanCatalogTest {
+    @Mock
+    private MembershipPlanRepository planRepository;
+
+    @Mock
+    private MembershipPlanMapper planMapper;
+
+    private PlanCatalog planCatalog;
+    private MembershipPlan plan;
+    private MembershipPlanResponse planResponse;
+
+    @BeforeEach
+    void setUp() {
+        planCatalog = new PlanCatalog(planRepository, planMapper, JsonMapper.builder().build());
+
+        plan = MembershipPlan.builder()
+                .name("Basic")
+                .price(BigDecimal.valueOf(29.99))
+                .durationMonths(1)
+                .active(true)
+                .build();
+
+        planResponse = MembershipPlanResponse.builder()
+                .id(UUID.randomUUID())
+                .name("Basic")
+                .price(BigDecimal.valueOf(29.99))
+                .durationMonths(1)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should build the snapshot once and serve it from memory")
+    void current_BuildsOnce() {
+        when(planRepository.findByActiveTrueOrderByPriceAsc()).thenReturn(List.of(plan));
+        when(planMapper.toResponse(plan)).thenReturn(planResponse);
+
+        PlanCatalog.Snapshot first = planCatalog.current();
+        PlanCatalog.Snapshot second = planCatalog.current();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.plans()).containsExactly(planResponse);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).contains("\"name\":\"Basic\"");
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        verify(planRepository, times(1)).findByActiveTrueOrderByPriceAsc();
+    }
+
+    @Test
+    @DisplayName("Should swap in a new snapshot when a plan changes")
+    void onPlanChanged_Rebuilds() {
+        when(planRepository.findByActiveTrueOrderByPriceAsc()).thenReturn(List.of(plan)).thenReturn(List.of());
+        when(planMapper.toResponse(plan)).thenReturn(planResponse);
+
+        PlanCatalog.Snapshot before = planCatalog.current();
+        planCatalog.onPlanChanged(new MembershipPlanChangedEvent(planResponse.getId()));
+        PlanCatalog.Snapshot after = planCatalog.current();
+
+        assertThat(after.plans()).isEmpty();
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+}
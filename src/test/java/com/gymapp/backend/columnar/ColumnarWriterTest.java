@@ -0,0 +1,102 @@
+package com.gymapp.backend.columnar;
+
+import com.gymapp.backend.dtos.exports.TrainingSessionExportRow;
+import com.gymapp.backend.enums.SessionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarWriterTest {
+    private static final List<ColumnSpec<TrainingSessionExportRow>> COLUMNS = List.of(
+            ColumnSpec.of("id", ColumnEncoding.UUID_PLAIN, TrainingSessionExportRow::getId),
+            ColumnSpec.of("memberId", ColumnEncoding.UUID_DICTIONARY, TrainingSessionExportRow::getMemberId),
+            ColumnSpec.of("scheduledAt", ColumnEncoding.TIMESTAMP_DELTA, TrainingSessionExportRow::getScheduledAt),
+            ColumnSpec.of("durationMinutes", ColumnEncoding.INT_PLAIN, TrainingSessionExportRow::getDurationMinutes),
+            ColumnSpec.of("status", ColumnEncoding.STRING_DICTIONARY, TrainingSessionExportRow::getStatus));
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should read back every value, including nulls, across several row groups")
+    void write_RoundTrip() throws IOException {
+        UUID[] members = {UUID.randomUUID(), UUID.randomUUID()};
+        LocalDateTime start = LocalDateTime.of(2024, 2, 28, 7, 30, 15, 123_456_000);
+        List<TrainingSessionExportRow> rows = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            rows.add(TrainingSessionExportRow.builder()
+                    .id(UUID.randomUUID())
+                    .memberId(members[i % 2])
+                    .scheduledAt(i == 3 ? null : start.plusHours(i * 5L).minusMinutes(i % 2 == 0 ? 0 : 90))
+                    .durationMinutes(i == 5 ? null : 30 + i)
+                    .status(i % 3 == 0 ? SessionStatus.COMPLETED : SessionStatus.SCHEDULED)
+                    .build());
+        }
+        Path file = directory.resolve("sessions.gcol");
+
+        try (ColumnarWriter<TrainingSessionExportRow> writer =
+                     new ColumnarWriter<>(Files.newOutputStream(file), COLUMNS, 3)) {
+            for (TrainingSessionExportRow row : rows) {
+                writer.write(row);
+            }
+        }
+
+        ColumnarReader reader = new ColumnarReader(file);
+        List<Object[]> read = new ArrayList<>();
+        reader.forEachRow(read::add);
+        assertThat(reader.columnNames()).containsExactly("id", "memberId", "scheduledAt", "durationMinutes", "status");
+        assertThat(reader.rowCount()).isEqualTo(7);
+        assertThat(read).hasSize(7);
+        for (int i = 0; i < rows.size(); i++) {
+            TrainingSessionExportRow row = rows.get(i);
+            assertThat(read.get(i)).containsExactly(row.getId(), row.getMemberId(), row.getScheduledAt(),
+                    row.getDurationMinutes(), row.getStatus().name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should store repeated member ids and close timestamps far below their plain size")
+    void write_EncodingsShrinkRepeatedValues() throws IOException {
+        UUID memberId = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 6, 0);
+        List<ColumnSpec<TrainingSessionExportRow>> columns = List.of(COLUMNS.get(1), COLUMNS.get(2));
+        Path file = directory.resolve("dense.gcol");
+
+        try (ColumnarWriter<TrainingSessionExportRow> writer =
+                     new ColumnarWriter<>(Files.newOutputStream(file), columns, 1_000)) {
+            for (int i = 0; i < 1_000; i++) {
+                writer.write(TrainingSessionExportRow.builder()
+                        .memberId(memberId)
+                        .scheduledAt(start.plusMinutes(i))
+                        .build());
+            }
+        }
+
+        // Plain storage would need 16 bytes per id and 8 per timestamp.
+        assertThat(Files.size(file)).isLessThan(1_000 * 24 / 4);
+        assertThat(new ColumnarReader(file).rowCount()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("Should reject files without the columnar trailer")
+    void read_RejectsForeignFiles() throws IOException {
+        Path file = directory.resolve("other.gcol");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            out.write("{\"not\":\"columnar\"}\n".getBytes());
+        }
+
+        assertThatThrownBy(() -> new ColumnarReader(file)).isInstanceOf(IOException.class);
+    }
+}
@@ -1,11 +1,19 @@
 package com.gymapp.backend.controllers;
 
+import com.gymapp.backend.dtos.requests.BatchAttendanceRequest;
 import com.gymapp.backend.dtos.requests.CheckInRequest;
+import com.gymapp.backend.dtos.requests.TurnstileEventRequest;
 import com.gymapp.backend.dtos.responses.AttendanceReportResponse;
 import com.gymapp.backend.dtos.responses.AttendanceResponse;
+import com.gymapp.backend.dtos.responses.BatchAttendanceResponse;
+import com.gymapp.backend.dtos.responses.MemberVisitHistoryResponse;
+import com.gymapp.backend.dtos.responses.TurnstileEventResult;
+import com.gymapp.backend.enums.BatchEventStatus;
+import com.gymapp.backend.enums.TurnstileEventType;
 import com.gymapp.backend.exceptions.GlobalExceptionHandler;
 import com.gymapp.backend.exceptions.InvalidOperationException;
 import com.gymapp.backend.exceptions.MembershipExpiredException;
+import com.gymapp.backend.services.AttendanceBatchService;
 import com.gymapp.backend.services.AttendanceService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,10 +53,17 @@ class AttendanceControllerTest {
     @Autowired
     private JacksonTester<CheckInRequest> checkInRequestJson;
 
+    @Autowired
+    private JacksonTester<BatchAttendanceRequest> batchRequestJson;
+
     @MockitoBean
     @SuppressWarnings("unused")
     private AttendanceService attendanceService;
 
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private AttendanceBatchService attendanceBatchService;
+
     private UUID memberId;
 
     private UUID attendanceId;
@@ -116,6 +131,51 @@ class AttendanceControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("POST /api/attendance/batch - Should return a result per event")
+    void ingestBatch_Success() throws Exception {
+        BatchAttendanceRequest request = BatchAttendanceRequest.builder()
+            .events(List.of(
+                TurnstileEventRequest.builder().memberId(memberId).type(TurnstileEventType.CHECK_IN)
+                    .timestamp(LocalDateTime.now().minusHours(2)).build(),
+                TurnstileEventRequest.builder().memberId(memberId).type(TurnstileEventType.CHECK_IN)
+                    .timestamp(LocalDateTime.now().minusHours(1)).build()))
+            .build();
+        BatchAttendanceResponse response = BatchAttendanceResponse.builder()
+            .received(2)
+            .accepted(1)
+            .rejected(1)
+            .results(List.of(
+                TurnstileEventResult.builder().index(0).memberId(memberId).type(TurnstileEventType.CHECK_IN)
+                    .status(BatchEventStatus.ACCEPTED).attendanceId(attendanceId).build(),
+                TurnstileEventResult.builder().index(1).memberId(memberId).type(TurnstileEventType.CHECK_IN)
+                    .status(BatchEventStatus.REJECTED).reason("Member already checked in").build()))
+            .build();
+        when(attendanceBatchService.ingest(any(BatchAttendanceRequest.class))).thenReturn(response);
+
+        mockMvc.perform(
+            post("/api/attendance/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchRequestJson.write(request).getJson())
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accepted").value(1))
+        .andExpect(jsonPath("$.results[0].attendanceId").value(attendanceId.toString()))
+        .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+        .andExpect(jsonPath("$.results[1].reason").value("Member already checked in"));
+    }
+
+    @Test
+    @DisplayName("POST /api/attendance/batch - Should return 400 for an empty batch")
+    void ingestBatch_Empty() throws Exception {
+        mockMvc.perform(
+            post("/api/attendance/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchRequestJson.write(BatchAttendanceRequest.builder().events(List.of()).build()).getJson())
+        )
+        .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("PUT /api/attendance/{id}/check-out - Should check out successfully")
     void checkOut_Success() throws Exception {
@@ -190,4 +250,23 @@ class AttendanceControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("15"));
     }
+
+    @Test
+    @DisplayName("GET /api/attendance/member/{memberId}/visits - Should return visit history")
+    void getMemberVisitHistory_Success() throws Exception {
+        MemberVisitHistoryResponse history = MemberVisitHistoryResponse.builder()
+                .memberId(memberId)
+                .totalVisits(12)
+                .averageMinutes(55)
+                .recentVisits(List.of())
+                .build();
+
+        when(attendanceService.getMemberVisitHistory(memberId, 5)).thenReturn(history);
+
+        mockMvc.perform(get("/api/attendance/member/{memberId}/visits", memberId)
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVisits").value(12))
+                .andExpect(jsonPath("$.averageMinutes").value(55));
+    }
 }
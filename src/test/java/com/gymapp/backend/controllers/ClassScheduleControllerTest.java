@@ -0,0 +1,167 @@
+package com.gymapp.backend.controllers;
+
+import com.gymapp.backend.dtos.requests.CreateClassScheduleRequest;
+import com.gymapp.backend.dtos.responses.ClassScheduleResponse;
+import com.gymapp.backend.dtos.responses.ScheduleMaterializationResponse;
+import com.gymapp.backend.enums.ClassType;
+import com.gymapp.backend.exceptions.GlobalExceptionHandler;
+import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.services.ClassScheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
+import org.springframework.boot.test.json.JacksonTester;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ClassScheduleController.class)
+@Import(GlobalExceptionHandler.class)
+@AutoConfigureJsonTesters
+class ClassScheduleControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JacksonTester<CreateClassScheduleRequest> createClassScheduleRequestJson;
+
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private ClassScheduleService scheduleService;
+
+    private UUID scheduleId;
+
+    private ClassScheduleResponse scheduleResponse;
+
+    private CreateClassScheduleRequest createRequest;
+
+    @BeforeEach
+    void setUp() {
+        scheduleId = UUID.randomUUID();
+
+        scheduleResponse = ClassScheduleResponse.builder()
+            .id(scheduleId)
+            .name("Evening HIIT")
+            .instructor("Jane Doe")
+            .maxCapacity(20)
+            .durationMinutes(45)
+            .classType(ClassType.HIIT)
+            .daysOfWeek(Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+            .startTime(LocalTime.of(18, 30))
+            .startDate(LocalDate.now())
+            .active(true)
+            .build();
+
+        createRequest = CreateClassScheduleRequest.builder()
+            .name("Evening HIIT")
+            .instructor("Jane Doe")
+            .maxCapacity(20)
+            .durationMinutes(45)
+            .classType(ClassType.HIIT)
+            .daysOfWeek(Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+            .startTime(LocalTime.of(18, 30))
+            .startDate(LocalDate.now())
+            .build();
+    }
+
+    @Test
+    @DisplayName("POST /api/class-schedules - Should create schedule successfully")
+    void createSchedule_Success() throws Exception {
+        when(scheduleService.createSchedule(any(CreateClassScheduleRequest.class))).thenReturn(scheduleResponse);
+
+        mockMvc.perform(
+            post("/api/class-schedules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createClassScheduleRequestJson.write(createRequest).getJson())
+        )
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id").value(scheduleId.toString()))
+        .andExpect(jsonPath("$.startTime").value("18:30:00"));
+    }
+
+    @Test
+    @DisplayName("POST /api/class-schedules - Should reject schedule without days")
+    void createSchedule_NoDays() throws Exception {
+        createRequest.setDaysOfWeek(Set.of());
+
+        mockMvc.perform(
+            post("/api/class-schedules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createClassScheduleRequestJson.write(createRequest).getJson())
+        )
+        .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/class-schedules/{id} - Should return 404 for non-existent schedule")
+    void getScheduleById_NotFound() throws Exception {
+        when(scheduleService.getScheduleById(scheduleId))
+            .thenThrow(new ResourceNotFoundException("ClassSchedule", "id", scheduleId));
+
+        mockMvc.perform(get("/api/class-schedules/{id}", scheduleId))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/class-schedules - Should return active schedules")
+    void getActiveSchedules_Success() throws Exception {
+        when(scheduleService.getActiveSchedules()).thenReturn(List.of(scheduleResponse));
+
+        mockMvc.perform(get("/api/class-schedules"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].name").value("Evening HIIT"));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/class-schedules/{id} - Should deactivate schedule")
+    void deactivateSchedule_Success() throws Exception {
+        mockMvc.perform(delete("/api/class-schedules/{id}", scheduleId))
+            .andExpect(status().isNoContent());
+
+        verify(scheduleService).deactivateSchedule(scheduleId);
+    }
+
+    @Test
+    @DisplayName("POST /api/class-schedules/materialize - Should materialize up to the requested horizon")
+    void materialize_Success() throws Exception {
+        when(scheduleService.materializeOccurrences(14))
+            .thenReturn(new ScheduleMaterializationResponse(LocalDate.now().plusDays(14), 1, 4));
+
+        mockMvc.perform(post("/api/class-schedules/materialize").param("horizonDays", "14"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.classesCreated").value(4));
+    }
+
+    @Test
+    @DisplayName("POST /api/class-schedules/materialize - Should reject horizon outside 1-90 days")
+    void materialize_HorizonOutOfRange() throws Exception {
+        mockMvc.perform(post("/api/class-schedules/materialize").param("horizonDays", "0"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        mockMvc.perform(post("/api/class-schedules/materialize").param("horizonDays", "91"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validationErrors.horizonDays").exists());
+
+        verify(scheduleService, never()).materializeOccurrences(anyInt());
+    }
+}
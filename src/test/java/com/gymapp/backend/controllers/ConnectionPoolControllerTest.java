@@ -0,0 +1,125 @@
+package com.gymapp.backend.controllers;
+
+import com.gymapp.backend.dtos.requests.ResizeConnectionPoolRequest;
+import com.gymapp.backend.dtos.responses.ConnectionPoolResponse;
+import com.gymapp.backend.dtos.responses.EndpointConnectionStats;
+import com.gymapp.backend.exceptions.GlobalExceptionHandler;
+import com.gymapp.backend.exceptions.InvalidOperationException;
+import com.gymapp.backend.services.ConnectionPoolService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
+import org.springframework.boot.test.json.JacksonTester;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ConnectionPoolController.class)
+@Import(GlobalExceptionHandler.class)
+@AutoConfigureJsonTesters
+class ConnectionPoolControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JacksonTester<ResizeConnectionPoolRequest> resizeRequestJson;
+
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private ConnectionPoolService connectionPoolService;
+
+    private ConnectionPoolResponse poolResponse;
+
+    @BeforeEach
+    void setUp() {
+        poolResponse = ConnectionPoolResponse.builder()
+            .poolName("gymapp-primary")
+            .maximumPoolSize(20)
+            .minimumIdle(5)
+            .connectionTimeoutMs(5000)
+            .activeConnections(3)
+            .endpoints(List.of(EndpointConnectionStats.builder()
+                .endpoint("POST /api/attendance/check-in")
+                .connections(10)
+                .totalHoldMs(40)
+                .averageHoldMs(4)
+                .maxHoldMs(9)
+                .build()))
+            .suspectedLeaks(List.of())
+            .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/pool - Should return pool status with per-endpoint hold times")
+    void getPoolStatus_Success() throws Exception {
+        when(connectionPoolService.getPoolStatus()).thenReturn(poolResponse);
+
+        mockMvc.perform(get("/api/admin/pool"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.poolName").value("gymapp-primary"))
+            .andExpect(jsonPath("$.activeConnections").value(3))
+            .andExpect(jsonPath("$.endpoints[0].endpoint").value("POST /api/attendance/check-in"))
+            .andExpect(jsonPath("$.endpoints[0].maxHoldMs").value(9));
+    }
+
+    @Test
+    @DisplayName("PUT /api/admin/pool - Should resize the pool")
+    void resizePool_Success() throws Exception {
+        ResizeConnectionPoolRequest request = ResizeConnectionPoolRequest.builder()
+            .maximumPoolSize(40)
+            .build();
+        poolResponse.setMaximumPoolSize(40);
+        when(connectionPoolService.resizePool(any(ResizeConnectionPoolRequest.class))).thenReturn(poolResponse);
+
+        mockMvc.perform(put("/api/admin/pool")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(resizeRequestJson.write(request).getJson()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.maximumPoolSize").value(40));
+    }
+
+    @Test
+    @DisplayName("PUT /api/admin/pool - Should reject a non-positive maximum pool size")
+    void resizePool_InvalidSize() throws Exception {
+        ResizeConnectionPoolRequest request = ResizeConnectionPoolRequest.builder()
+            .maximumPoolSize(0)
+            .build();
+
+        mockMvc.perform(put("/api/admin/pool")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(resizeRequestJson.write(request).getJson()))
+            .andExpect(status().isBadRequest());
+
+        verify(connectionPoolService, never()).resizePool(any());
+    }
+
+    @Test
+    @DisplayName("PUT /api/admin/pool - Should return 400 when minimum idle exceeds the maximum")
+    void resizePool_MinimumIdleAboveMaximum() throws Exception {
+        ResizeConnectionPoolRequest request = ResizeConnectionPoolRequest.builder()
+            .maximumPoolSize(5)
+            .minimumIdle(10)
+            .build();
+        when(connectionPoolService.resizePool(any(ResizeConnectionPoolRequest.class)))
+            .thenThrow(new InvalidOperationException("Minimum idle cannot exceed the maximum pool size"));
+
+        mockMvc.perform(put("/api/admin/pool")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(resizeRequestJson.write(request).getJson()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("INVALID_OPERATION"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.gymapp.backend.controllers;
+
+import com.gymapp.backend.enums.ExportFormat;
+import com.gymapp.backend.exceptions.GlobalExceptionHandler;
+import com.gymapp.backend.services.ExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+@Import(GlobalExceptionHandler.class)
+class ExportControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private ExportService exportService;
+
+    @Test
+    @DisplayName("GET /api/export/attendance - Should stream NDJSON by default")
+    void exportAttendance_Ndjson() throws Exception {
+        when(exportService.exportAttendance(eq(ExportFormat.NDJSON), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/export/attendance"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-ndjson"))
+            .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/export/members - Should gzip CSV output on request")
+    void exportMembers_CsvGzip() throws Exception {
+        when(exportService.exportMembers(eq(ExportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/export/members")
+                .param("format", "CSV")
+                .param("gzip", "true"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        MvcResult completed = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/gzip"))
+            .andReturn();
+
+        byte[] body = completed.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id\n1\n");
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/export/members - Should leave a failed gzip export without a trailer")
+    void exportMembers_GzipFailureIsTruncated() throws Exception {
+        when(exportService.exportMembers(eq(ExportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            throw new IllegalStateException("Database went away");
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/export/members")
+                .param("format", "CSV")
+                .param("gzip", "true"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result));
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        assertThatThrownBy(() -> {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                in.readAllBytes();
+            }
+        }).isInstanceOf(IOException.class);
+    }
+}
@@ -5,14 +5,18 @@ import com.gymapp.backend.dtos.requests.EnrollInClassRequest;
 import com.gymapp.backend.dtos.responses.ClassEnrollmentResponse;
 import com.gymapp.backend.dtos.responses.GymClassResponse;
 import com.gymapp.backend.exceptions.ClassFullException;
+import com.gymapp.backend.exceptions.ClassQuotaExceededException;
 import com.gymapp.backend.exceptions.GlobalExceptionHandler;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
 import com.gymapp.backend.enums.ClassType;
 import com.gymapp.backend.enums.EnrollmentStatus;
 import com.gymapp.backend.services.GymClassService;
+import com.gymapp.backend.web.JsonArrayStreamer;
+import com.gymapp.backend.web.SeatAvailabilityBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
@@ -24,21 +28,32 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(GymClassController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, JsonArrayStreamer.class})
 @AutoConfigureJsonTesters
 class GymClassControllerTest {
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2025, 1, 15, 10, 30);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -52,6 +67,10 @@ class GymClassControllerTest {
     @SuppressWarnings("unused")
     private GymClassService classService;
 
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private SeatAvailabilityBroadcaster seatBroadcaster;
+
     private UUID classId;
 
     private UUID memberId;
@@ -106,6 +125,7 @@ class GymClassControllerTest {
     @Test
     @DisplayName("GET /api/classes/{id} - Should return class by ID")
     void getClassById_Success() throws Exception {
+        when(classService.getClassLastModified(classId)).thenReturn(LAST_MODIFIED);
         when(classService.getClassById(classId)).thenReturn(classResponse);
 
         mockMvc.perform(get("/api/classes/{id}", classId))
@@ -113,16 +133,93 @@ class GymClassControllerTest {
             .andExpect(jsonPath("$.name").value("Morning Yoga"));
     }
 
+    @Test
+    @DisplayName("GET /api/classes/{id} - Should return 304 when ETag matches")
+    void getClassById_NotModified() throws Exception {
+        when(classService.getClassLastModified(classId)).thenReturn(LAST_MODIFIED);
+
+        String etag = mockMvc.perform(get("/api/classes/{id}", classId))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/classes/{id}", classId).header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+
+        verify(classService, times(1)).getClassById(classId);
+    }
+
     @Test
     @DisplayName("GET /api/classes/{id} - Should return 404 for non-existent class")
     void getClassById_NotFound() throws Exception {
-        when(classService.getClassById(classId))
+        when(classService.getClassLastModified(classId))
             .thenThrow(new ResourceNotFoundException("GymClass", "id", classId));
 
         mockMvc.perform(get("/api/classes/{id}", classId))
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /api/classes/list - Should stream active classes as a JSON array")
+    void getAllActiveClasses_Success() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<GymClassResponse> action = invocation.getArgument(0);
+            action.accept(classResponse);
+            return null;
+        }).when(classService).forEachActiveClass(any());
+
+        MvcResult result = mockMvc.perform(get("/api/classes/list"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(classId.toString()));
+    }
+
+    @Test
+    @DisplayName("GET /api/classes/calendar - Should return classes in range for a type")
+    void getCalendar_Success() throws Exception {
+        LocalDate from = LocalDate.of(2025, 3, 3);
+        when(classService.getCalendar(from, from.plusDays(6), ClassType.YOGA)).thenReturn(List.of(classResponse));
+
+        mockMvc.perform(get("/api/classes/calendar")
+                .param("from", "2025-03-03")
+                .param("to", "2025-03-09")
+                .param("type", "YOGA"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(classId.toString()));
+    }
+
+    @Test
+    @DisplayName("GET /api/classes/{id}/seats/stream - Should open an event stream")
+    void streamSeatAvailability_Success() throws Exception {
+        when(classService.getClassById(classId)).thenReturn(classResponse);
+        when(seatBroadcaster.subscribe(eq(classId), any())).thenAnswer(readingSnapshot());
+
+        mockMvc.perform(get("/api/classes/{id}/seats/stream", classId)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+
+        verify(classService).getClassById(classId);
+    }
+
+    @Test
+    @DisplayName("GET /api/classes/{id}/seats/stream - Should return 404 for non-existent class")
+    void streamSeatAvailability_NotFound() throws Exception {
+        when(classService.getClassById(classId))
+            .thenThrow(new ResourceNotFoundException("GymClass", "id", classId));
+        when(seatBroadcaster.subscribe(eq(classId), any())).thenAnswer(readingSnapshot());
+
+        mockMvc.perform(get("/api/classes/{id}/seats/stream", classId))
+            .andExpect(status().isNotFound());
+    }
+
+    private static Answer<SseEmitter> readingSnapshot() {
+        return invocation -> {
+            invocation.<Supplier<GymClassResponse>>getArgument(1).get();
+            return new SseEmitter();
+        };
+    }
+
     @Test
     @DisplayName("GET /api/classes - Should return paginated classes")
     void getAllClasses_Success() throws Exception {
@@ -200,6 +297,25 @@ class GymClassControllerTest {
         .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("POST /api/classes/{id}/enroll - Should return 403 when monthly class quota is used up")
+    void enrollMember_QuotaExceeded() throws Exception {
+        EnrollInClassRequest enrollRequest = EnrollInClassRequest.builder()
+            .memberId(memberId)
+            .build();
+
+        when(classService.enrollMember(eq(classId), eq(memberId)))
+            .thenThrow(new ClassQuotaExceededException(8, YearMonth.now()));
+
+        mockMvc.perform(
+            post("/api/classes/{id}/enroll", classId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(enrollInClassRequestJson.write(enrollRequest).getJson())
+        )
+        .andExpect(status().isForbidden())
+        .andExpect(jsonPath("$.errorCode").value("CLASS_QUOTA_EXCEEDED"));
+    }
+
     @Test
     @DisplayName("DELETE /api/classes/{id}/enroll/{memberId} - Should cancel enrollment")
     void cancelEnrollment_Success() throws Exception {
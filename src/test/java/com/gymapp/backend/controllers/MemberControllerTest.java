@@ -2,10 +2,15 @@ package com.gymapp.backend.controllers;
 
 import com.gymapp.backend.dtos.requests.CreateMemberRequest;
 import com.gymapp.backend.dtos.requests.UpdateMemberRequest;
+import com.gymapp.backend.dtos.responses.MemberDashboardResponse;
+import com.gymapp.backend.dtos.responses.MemberOverviewResponse;
 import com.gymapp.backend.dtos.responses.MemberResponse;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
 import com.gymapp.backend.exceptions.GlobalExceptionHandler;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.exceptions.UpstreamTimeoutException;
+import com.gymapp.backend.services.MemberDashboardService;
+import com.gymapp.backend.services.MemberOverviewService;
 import com.gymapp.backend.services.MemberService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,12 +28,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,6 +46,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Import(GlobalExceptionHandler.class)
 @AutoConfigureJsonTesters
 class MemberControllerTest {
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2025, 1, 15, 10, 30);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -50,6 +61,14 @@ class MemberControllerTest {
     @SuppressWarnings("unused")
     private MemberService memberService;
 
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private MemberDashboardService memberDashboardService;
+
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private MemberOverviewService memberOverviewService;
+
     private UUID memberId;
 
     private MemberResponse memberResponse;
@@ -128,6 +147,7 @@ class MemberControllerTest {
     @Test
     @DisplayName("GET /api/members/{id} - Should return member by ID")
     void getMemberById_Success() throws Exception {
+        when(memberService.getMemberLastModified(memberId)).thenReturn(LAST_MODIFIED);
         when(memberService.getMemberById(memberId)).thenReturn(memberResponse);
 
         mockMvc.perform(get("/api/members/{id}", memberId))
@@ -136,10 +156,83 @@ class MemberControllerTest {
             .andExpect(jsonPath("$.firstName").value("John"));
     }
 
+    @Test
+    @DisplayName("GET /api/members/{id}/dashboard - Should return the member dashboard")
+    void getMemberDashboard_Success() throws Exception {
+        MemberDashboardResponse dashboard = MemberDashboardResponse.builder()
+            .memberId(memberId)
+            .firstName("John")
+            .activeEnrollments(List.of())
+            .upcomingSessions(List.of())
+            .visitMonth(YearMonth.of(2025, 1))
+            .visitsThisMonth(7)
+            .build();
+        when(memberDashboardService.getDashboard(memberId)).thenReturn(dashboard);
+
+        mockMvc.perform(get("/api/members/{id}/dashboard", memberId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.memberId").value(memberId.toString()))
+            .andExpect(jsonPath("$.visitMonth").value("2025-01"))
+            .andExpect(jsonPath("$.visitsThisMonth").value(7));
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id}/dashboard - Should return 404 for unknown member")
+    void getMemberDashboard_NotFound() throws Exception {
+        when(memberDashboardService.getDashboard(memberId))
+            .thenThrow(new ResourceNotFoundException("Member", "id", memberId));
+
+        mockMvc.perform(get("/api/members/{id}/dashboard", memberId))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id}/overview - Should return a partial overview")
+    void getMemberOverview_Partial() throws Exception {
+        MemberOverviewResponse overview = MemberOverviewResponse.builder()
+            .member(memberResponse)
+            .activeEnrollments(List.of())
+            .visitsThisMonth(3L)
+            .unavailable(List.of("upcomingSessions"))
+            .build();
+        when(memberOverviewService.getOverview(memberId)).thenReturn(overview);
+
+        mockMvc.perform(get("/api/members/{id}/overview", memberId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.member.id").value(memberId.toString()))
+            .andExpect(jsonPath("$.visitsThisMonth").value(3))
+            .andExpect(jsonPath("$.unavailable[0]").value("upcomingSessions"));
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id}/overview - Should return 503 when the member lookup times out")
+    void getMemberOverview_Timeout() throws Exception {
+        when(memberOverviewService.getOverview(memberId))
+            .thenThrow(new UpstreamTimeoutException("Member lookup", 1000));
+
+        mockMvc.perform(get("/api/members/{id}/overview", memberId))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.errorCode").value("UPSTREAM_TIMEOUT"));
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id} - Should return 304 when ETag matches")
+    void getMemberById_NotModified() throws Exception {
+        when(memberService.getMemberLastModified(memberId)).thenReturn(LAST_MODIFIED);
+
+        String etag = mockMvc.perform(get("/api/members/{id}", memberId))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/members/{id}", memberId).header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+
+        verify(memberService, times(1)).getMemberById(memberId);
+    }
+
     @Test
     @DisplayName("GET /api/members/{id} - Should return 404 for non-existent member")
     void getMemberById_NotFound() throws Exception {
-        when(memberService.getMemberById(memberId))
+        when(memberService.getMemberLastModified(memberId))
             .thenThrow(new ResourceNotFoundException("Member", "id", memberId));
 
         mockMvc.perform(get("/api/members/{id}", memberId))
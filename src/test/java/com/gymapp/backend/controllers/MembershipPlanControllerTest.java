@@ -1,10 +1,12 @@
 package com.gymapp.backend.controllers;
 
+import com.gymapp.backend.cache.PlanCatalog;
 import com.gymapp.backend.dtos.requests.CreateMembershipPlanRequest;
 import com.gymapp.backend.dtos.responses.MembershipPlanResponse;
 import com.gymapp.backend.exceptions.GlobalExceptionHandler;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
 import com.gymapp.backend.services.MembershipPlanService;
+import com.gymapp.backend.web.JsonArrayStreamer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,26 +18,38 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(MembershipPlanController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, JsonArrayStreamer.class})
 @AutoConfigureJsonTesters
 class MembershipPlanControllerTest {
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2025, 1, 15, 10, 30);
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private JacksonTester<CreateMembershipPlanRequest> createMembershipPlanRequestJson;
 
+    @Autowired
+    private JacksonTester<List<MembershipPlanResponse>> planListJson;
+
     @MockitoBean
     @SuppressWarnings("unused")
     private MembershipPlanService planService;
@@ -90,6 +104,7 @@ class MembershipPlanControllerTest {
     @Test
     @DisplayName("GET /api/plans/{id} - Should return plan by ID")
     void getPlanById_Success() throws Exception {
+        when(planService.getPlanLastModified(planId)).thenReturn(LAST_MODIFIED);
         when(planService.getPlanById(planId)).thenReturn(planResponse);
 
         mockMvc.perform(get("/api/plans/{id}", planId))
@@ -97,10 +112,24 @@ class MembershipPlanControllerTest {
             .andExpect(jsonPath("$.name").value("Premium"));
     }
 
+    @Test
+    @DisplayName("GET /api/plans/{id} - Should return 304 when ETag matches")
+    void getPlanById_NotModified() throws Exception {
+        when(planService.getPlanLastModified(planId)).thenReturn(LAST_MODIFIED);
+
+        String etag = mockMvc.perform(get("/api/plans/{id}", planId))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/plans/{id}", planId).header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+
+        verify(planService, times(1)).getPlanById(planId);
+    }
+
     @Test
     @DisplayName("GET /api/plans/{id} - Should return 404 for non-existent plan")
     void getPlanById_NotFound() throws Exception {
-        when(planService.getPlanById(planId))
+        when(planService.getPlanLastModified(planId))
             .thenThrow(new ResourceNotFoundException("MembershipPlan", "id", planId));
 
         mockMvc.perform(get("/api/plans/{id}", planId))
@@ -110,13 +139,61 @@ class MembershipPlanControllerTest {
     @Test
     @DisplayName("GET /api/plans - Should return all active plans")
     void getAllActivePlans_Success() throws Exception {
-        when(planService.getAllActivePlans()).thenReturn(List.of(planResponse));
+        when(planService.getActivePlanCatalog()).thenReturn(catalog());
 
         mockMvc.perform(get("/api/plans"))
             .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"v1\""))
             .andExpect(jsonPath("$[0].name").value("Premium"));
     }
 
+    @Test
+    @DisplayName("GET /api/plans - Should return 304 when ETag matches")
+    void getAllActivePlans_NotModified() throws Exception {
+        when(planService.getActivePlanCatalog()).thenReturn(catalog());
+
+        mockMvc.perform(get("/api/plans").header("If-None-Match", "\"v1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/plans/all - Should stream all plans as a JSON array")
+    void getAllPlans_Success() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<MembershipPlanResponse> action = invocation.getArgument(0);
+            action.accept(planResponse);
+            return null;
+        }).when(planService).forEachPlan(any());
+
+        MvcResult result = mockMvc.perform(get("/api/plans/all"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].name").value("Premium"));
+    }
+
+    @Test
+    @DisplayName("GET /api/plans/all - Should stream an empty array when there are no plans")
+    void getAllPlans_Empty() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/plans/all"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[]"));
+    }
+
+    private PlanCatalog.Snapshot catalog() throws Exception {
+        List<MembershipPlanResponse> plans = List.of(planResponse);
+        byte[] json = planListJson.write(plans).getJson().getBytes(StandardCharsets.UTF_8);
+        return new PlanCatalog.Snapshot(plans, json, "\"v1\"");
+    }
+
     @Test
     @DisplayName("DELETE /api/plans/{id} - Should delete plan successfully")
     void deletePlan_Success() throws Exception {
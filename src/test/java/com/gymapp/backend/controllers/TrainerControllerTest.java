@@ -2,14 +2,18 @@ package com.gymapp.backend.controllers;
 
 import com.gymapp.backend.dtos.requests.CreateTrainerRequest;
 import com.gymapp.backend.dtos.requests.UpdateTrainerRequest;
+import com.gymapp.backend.dtos.responses.TrainerAnalyticsResponse;
 import com.gymapp.backend.dtos.responses.TrainerResponse;
+import com.gymapp.backend.dtos.responses.TrainerUtilizationResponse;
 import com.gymapp.backend.dtos.responses.TrainingSessionResponse;
 import com.gymapp.backend.enums.SessionStatus;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
 import com.gymapp.backend.exceptions.GlobalExceptionHandler;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.services.TrainerAnalyticsService;
 import com.gymapp.backend.services.TrainerService;
 import com.gymapp.backend.services.TrainingSessionService;
+import com.gymapp.backend.web.JsonArrayStreamer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,23 +28,31 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TrainerController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, JsonArrayStreamer.class})
 @AutoConfigureJsonTesters
 class TrainerControllerTest {
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2025, 1, 15, 10, 30);
+
 
     @Autowired
     private MockMvc mockMvc;
@@ -59,6 +71,10 @@ class TrainerControllerTest {
     @SuppressWarnings("unused")
     private TrainingSessionService sessionService;
 
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private TrainerAnalyticsService analyticsService;
+
     private UUID trainerId;
     private TrainerResponse trainerResponse;
     private CreateTrainerRequest createRequest;
@@ -140,6 +156,7 @@ class TrainerControllerTest {
     @Test
     @DisplayName("GET /api/trainers/{id} - Should return trainer by ID")
     void getTrainerById_Success() throws Exception {
+        when(trainerService.getTrainerLastModified(trainerId)).thenReturn(LAST_MODIFIED);
         when(trainerService.getTrainerById(trainerId)).thenReturn(trainerResponse);
 
         mockMvc.perform(get("/api/trainers/{id}", trainerId))
@@ -148,10 +165,24 @@ class TrainerControllerTest {
                 .andExpect(jsonPath("$.firstName").value("Mike"));
     }
 
+    @Test
+    @DisplayName("GET /api/trainers/{id} - Should return 304 when ETag matches")
+    void getTrainerById_NotModified() throws Exception {
+        when(trainerService.getTrainerLastModified(trainerId)).thenReturn(LAST_MODIFIED);
+
+        String etag = mockMvc.perform(get("/api/trainers/{id}", trainerId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/trainers/{id}", trainerId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(trainerService, times(1)).getTrainerById(trainerId);
+    }
+
     @Test
     @DisplayName("GET /api/trainers/{id} - Should return 404 for non-existent trainer")
     void getTrainerById_NotFound() throws Exception {
-        when(trainerService.getTrainerById(trainerId))
+        when(trainerService.getTrainerLastModified(trainerId))
                 .thenThrow(new ResourceNotFoundException("Trainer", "id", trainerId));
 
         mockMvc.perform(get("/api/trainers/{id}", trainerId))
@@ -172,9 +203,17 @@ class TrainerControllerTest {
     @Test
     @DisplayName("GET /api/trainers/list - Should return all active trainers")
     void getAllActiveTrainers_Success() throws Exception {
-        when(trainerService.getAllActiveTrainers()).thenReturn(List.of(trainerResponse));
+        doAnswer(invocation -> {
+            Consumer<TrainerResponse> action = invocation.getArgument(0);
+            action.accept(trainerResponse);
+            return null;
+        }).when(trainerService).forEachActiveTrainer(any());
+
+        MvcResult result = mockMvc.perform(get("/api/trainers/list"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
 
-        mockMvc.perform(get("/api/trainers/list"))
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(trainerId.toString()));
     }
@@ -248,10 +287,37 @@ class TrainerControllerTest {
     @Test
     @DisplayName("DELETE /api/trainers/{id} - Should return 404 for non-existent trainer")
     void deleteTrainer_NotFound() throws Exception {
-        when(trainerService.getTrainerById(trainerId))
+        when(trainerService.getTrainerLastModified(trainerId))
                 .thenThrow(new ResourceNotFoundException("Trainer", "id", trainerId));
 
         mockMvc.perform(get("/api/trainers/{id}", trainerId))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("GET /api/trainers/analytics - Should return per-trainer analytics")
+    void getTrainerAnalytics_Success() throws Exception {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        TrainerAnalyticsResponse analytics = TrainerAnalyticsResponse.builder()
+                .from(from)
+                .to(to)
+                .totalSessions(3)
+                .totalRevenue(new BigDecimal("150.00"))
+                .trainers(List.of(TrainerUtilizationResponse.builder()
+                        .trainerId(trainerId)
+                        .sessions(3)
+                        .revenue(new BigDecimal("150.00"))
+                        .build()))
+                .build();
+
+        when(analyticsService.getAnalytics(from, to)).thenReturn(analytics);
+
+        mockMvc.perform(get("/api/trainers/analytics")
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalSessions").value(3))
+                .andExpect(jsonPath("$.trainers[0].trainerId").value(trainerId.toString()));
+    }
 }
@@ -0,0 +1,81 @@
+package com.gymapp.backend.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionHoldTrackerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionHoldTracker tracker;
+    private TrackingDataSource dataSource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new ConnectionHoldTracker(meterRegistry, Duration.ZERO, true);
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:tracker-" + UUID.randomUUID());
+        ObjectProvider<ConnectionHoldTracker> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(tracker);
+        dataSource = new TrackingDataSource(h2, provider);
+    }
+
+    @Test
+    @DisplayName("Should record hold time per endpoint when a connection is returned")
+    void recordsHoldTime() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("SELECT 1");
+            assertThat(tracker.openConnections()).isEqualTo(1);
+        }
+
+        assertThat(tracker.openConnections()).isZero();
+        assertThat(tracker.endpointStats()).singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.endpoint()).isEqualTo(ConnectionHoldTracker.BACKGROUND);
+                    assertThat(stats.count()).isEqualTo(1);
+                });
+        assertThat(meterRegistry.timer("gymapp.db.connection.hold", "endpoint", ConnectionHoldTracker.BACKGROUND)
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report a connection held past the threshold once, with its acquisition stack")
+    void detectsLeaks() throws Exception {
+        Connection connection = dataSource.getConnection();
+
+        assertThat(tracker.detectLeaks()).isEqualTo(1);
+        assertThat(tracker.detectLeaks()).isZero();
+        assertThat(tracker.suspectedLeaks()).singleElement()
+                .satisfies(lease -> assertThat(lease.acquiredAt())
+                        .anyMatch(frame -> frame.contains(ConnectionHoldTrackerTest.class.getName())));
+        assertThat(meterRegistry.counter("gymapp.db.connection.leaks").count()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+        assertThat(tracker.suspectedLeaks()).isEmpty();
+        assertThat(tracker.endpointStats().getFirst().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should expose the pooled connection to Spring's connection utilities")
+    void exposesTargetConnection() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isInstanceOf(ConnectionProxy.class);
+            assertThat(((ConnectionProxy) connection).getTargetConnection()).isNotInstanceOf(ConnectionProxy.class);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.gymapp.backend.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+    private static final String HEARTBEAT_TABLE =
+            "CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)";
+
+    private JdbcDataSource primary;
+    private JdbcDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE origin (name VARCHAR(20))");
+        new JdbcTemplate(primary).update("INSERT INTO origin VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE origin (name VARCHAR(20))");
+        new JdbcTemplate(replica).update("INSERT INTO origin VALUES ('replica')");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), Duration.ofSeconds(5));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to a healthy replica and writes to the primary")
+    void routesByTransactionType() {
+        routingDataSource.updateHealthyReplicas(List.of("replica-0"));
+
+        assertThat(origin(readOnly)).isEqualTo("replica");
+        assertThat(origin(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica is within the lag limit")
+    void fallsBackWithoutHealthyReplicas() {
+        assertThat(origin(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary after a write on the same thread")
+    void pinsReadsAfterWrite() {
+        routingDataSource.updateHealthyReplicas(List.of("replica-0"));
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO origin VALUES ('written')"));
+
+        assertThat(origin(readOnly)).isEqualTo("primary");
+        ReadYourWritesContext.clear();
+        assertThat(origin(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should admit a replica only once its heartbeat has caught up with the primary")
+    void lagMonitorTracksHeartbeat() {
+        new JdbcTemplate(primary).execute(HEARTBEAT_TABLE);
+        new JdbcTemplate(replica).execute(HEARTBEAT_TABLE);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, primary, Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+
+        monitor.check();
+        assertThat(routingDataSource.getHealthyReplicas()).isEmpty();
+
+        copyHeartbeat(0);
+        monitor.check();
+        assertThat(routingDataSource.getHealthyReplicas()).containsExactly("replica-0");
+        assertThat(monitor.currentLag().get("replica-0")).isZero();
+
+        copyHeartbeat(-60_000);
+        monitor.check();
+        assertThat(routingDataSource.getHealthyReplicas()).isEmpty();
+        assertThat(monitor.currentLag().get("replica-0")).isGreaterThanOrEqualTo(60_000);
+    }
+
+    private void copyHeartbeat(long offsetMillis) {
+        Long beat = new JdbcTemplate(primary).queryForObject("SELECT beat_millis FROM replica_heartbeat WHERE id = 1", Long.class);
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.update("DELETE FROM replica_heartbeat");
+        replicaTemplate.update("INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, ?)", beat + offsetMillis);
+    }
+
+    private String origin(TransactionTemplate transaction) {
+        return transaction.execute(status -> origin());
+    }
+
+    private String origin() {
+        return jdbcTemplate.queryForObject("SELECT name FROM origin FETCH FIRST 1 ROWS ONLY", String.class);
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,109 @@
+package com.gymapp.backend.jobs;
+
+import com.gymapp.backend.dtos.responses.AttendanceReportResponse;
+import com.gymapp.backend.dtos.responses.AttendanceResponse;
+import com.gymapp.backend.entities.Attendance;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.services.AttendanceArchiveService;
+import com.gymapp.backend.services.AttendanceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AttendanceArchiverTest {
+
+    @Autowired
+    private AttendanceArchiver archiver;
+
+    @Autowired
+    private AttendanceArchiveService archiveService;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceArchiveRepository archiveRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    private LocalDate oldDay;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .firstName("Archive")
+                .lastName("Visitor")
+                .email(UUID.randomUUID() + "@archive.test")
+                .dateOfBirth(LocalDate.of(1988, 6, 1))
+                .build());
+        oldDay = archiveService.cutoff(LocalDate.now()).minusDays(10);
+    }
+
+    @Test
+    @DisplayName("Should move only closed visits older than the cutoff into the archive")
+    void archive_MovesOldClosedVisits() {
+        Attendance oldClosed = visit(oldDay, true);
+        Attendance oldOpen = visit(oldDay, false);
+        Attendance recent = visit(LocalDate.now().minusDays(1), true);
+
+        archiver.archive();
+
+        assertThat(attendanceRepository.findById(oldClosed.getId())).isEmpty();
+        assertThat(archiveRepository.findById(oldClosed.getId())).isPresent();
+        assertThat(attendanceRepository.findById(oldOpen.getId())).isPresent();
+        assertThat(attendanceRepository.findById(recent.getId())).isPresent();
+        assertThat(archiveRepository.countByMemberId(member.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep archived visits visible in history and reports")
+    void archive_ReadsSpanBothTables() {
+        Attendance oldClosed = visit(oldDay, true);
+        visit(oldDay.minusDays(1), true);
+        Attendance recent = visit(LocalDate.now().minusDays(1), true);
+
+        archiver.archive();
+
+        assertThat(attendanceService.getMemberAttendance(member.getId()))
+                .extracting(AttendanceResponse::getId)
+                .hasSize(3)
+                .startsWith(recent.getId());
+        Page<AttendanceResponse> secondPage = attendanceService.getMemberAttendancePaged(member.getId(), PageRequest.of(1, 1));
+        assertThat(secondPage.getTotalElements()).isEqualTo(3);
+        assertThat(secondPage.getContent()).extracting(AttendanceResponse::getId).containsExactly(oldClosed.getId());
+
+        AttendanceReportResponse report = attendanceService.getAttendanceReport(oldDay, oldDay);
+        assertThat(report.getDailyVisits().get(oldDay)).isGreaterThanOrEqualTo(1L);
+        assertThat(report.getRecentAttendance()).extracting(AttendanceResponse::getId).contains(oldClosed.getId());
+    }
+
+    private Attendance visit(LocalDate day, boolean closed) {
+        LocalDateTime checkIn = day.atTime(9, 0);
+        return attendanceRepository.save(Attendance.builder()
+                .member(member)
+                .checkInTime(checkIn)
+                .checkOutTime(closed ? checkIn.plusHours(1) : null)
+                .visitDate(day)
+                .build());
+    }
+}
@@ -0,0 +1,97 @@
+package com.gymapp.backend.jobs;
+
+import com.gymapp.backend.entities.OutboxEvent;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.repositories.OutboxEventRepository;
+import com.gymapp.backend.services.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gymapp.outbox.file-sink.path}")
+    private Path sinkFile;
+
+    @Test
+    @DisplayName("Should relay committed events to the sink and mark them published")
+    void relay_PublishesCommittedEvents() throws Exception {
+        UUID memberId = UUID.randomUUID();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.append(OutboxEventType.MEMBER_CHECKED_IN, OutboxService.MEMBER, memberId,
+                    Map.of("memberId", memberId, "visit", 1));
+            outboxService.append(OutboxEventType.SESSION_BOOKED, OutboxService.MEMBER, memberId,
+                    Map.of("memberId", memberId, "visit", 2));
+        });
+
+        outboxRelay.relay();
+
+        List<JsonNode> published = Files.readAllLines(sinkFile).stream()
+                .map(objectMapper::readTree)
+                .filter(node -> node.get("aggregateId").asString().equals(memberId.toString()))
+                .toList();
+        assertThat(published).extracting(node -> node.get("eventType").asString())
+                .containsExactly("MEMBER_CHECKED_IN", "SESSION_BOOKED");
+        assertThat(published.getFirst().get("payload").get("visit").asInt()).isEqualTo(1);
+        assertThat(outboxRepository.findAll()).filteredOn(e -> e.getAggregateId().equals(memberId))
+                .extracting(OutboxEvent::getPublishedAt)
+                .doesNotContainNull();
+        assertThat(meterRegistry.get("gymapp.outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not leave events behind when the business transaction rolls back")
+    void append_RolledBackWithBusinessTransaction() {
+        UUID memberId = UUID.randomUUID();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.append(OutboxEventType.MEMBER_ENROLLED, OutboxService.MEMBER, memberId, Map.of());
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxRepository.findAll()).noneMatch(e -> e.getAggregateId().equals(memberId));
+    }
+
+    @Test
+    @DisplayName("Should refuse to append events outside a transaction")
+    void append_RequiresTransaction() {
+        assertThatThrownBy(() -> outboxService.append(OutboxEventType.MEMBER_ENROLLED, OutboxService.MEMBER,
+                UUID.randomUUID(), Map.of()))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
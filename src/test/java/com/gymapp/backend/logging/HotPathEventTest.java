@@ -0,0 +1,55 @@
+package com.gymapp.backend.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotPathEventTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ListAppender<ILoggingEvent> appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        logger = (Logger) LoggerFactory.getLogger(HotPathEventTest.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Should count every event but log only one in N as structured key/value pairs")
+    void record_SamplesLogOutput() {
+        HotPathEvent event = new HotPathEvents(meterRegistry, 4).event(HotPathEventTest.class, "test.sampled");
+        UUID memberId = UUID.randomUUID();
+
+        for (int i = 0; i < 10; i++) {
+            event.record("memberId", memberId, "attempt", i);
+        }
+
+        assertThat(meterRegistry.counter("gymapp.hotpath.events", "event", "test.sampled").count()).isEqualTo(10);
+        assertThat(appender.list).hasSize(3);
+        ILoggingEvent first = appender.list.getFirst();
+        assertThat(first.getMessage()).isEqualTo("test.sampled");
+        assertThat(first.getKeyValuePairs())
+                .extracting(pair -> pair.key + "=" + pair.value)
+                .containsExactly("memberId=" + memberId, "attempt=0");
+    }
+}
@@ -0,0 +1,99 @@
+package com.gymapp.backend.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredAsyncAppenderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch workerBlocked = new CountDownLatch(1);
+    private LoggerContext context;
+    private MeteredAsyncAppender asyncAppender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        BlockingAppender blocking = new BlockingAppender();
+        blocking.setContext(context);
+        blocking.start();
+
+        asyncAppender = new MeteredAsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(blocking);
+
+        logger = context.getLogger("hot-path");
+        logger.setAdditive(false);
+        logger.addAppender(asyncAppender);
+        LoggingOverhead.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        asyncAppender.stop();
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("Should drop instead of blocking when the queue is full, and account caller time")
+    void dropsWhenFull() {
+        asyncAppender.setQueueSize(2);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.start();
+
+        for (int i = 0; i < 10; i++) {
+            logger.warn("event {}", i);
+        }
+
+        assertThat(asyncAppender.getDroppedCount()).isGreaterThanOrEqualTo(7);
+        assertThat(asyncAppender.getDiscardedCount()).isZero();
+        assertThat(LoggingOverhead.takeThreadNanos()).isPositive();
+        assertThat(LoggingOverhead.takeThreadNanos()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should shed INFO events first once the queue passes the discarding threshold")
+    void discardsInfoBelowThreshold() throws InterruptedException {
+        asyncAppender.setQueueSize(10);
+        asyncAppender.setDiscardingThreshold(5);
+        asyncAppender.start();
+        // Park the worker inside the downstream appender so it cannot drain the queue while we fill it.
+        logger.warn("first");
+        assertThat(workerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 10; i++) {
+            logger.info("event {}", i);
+        }
+        logger.warn("kept");
+
+        assertThat(asyncAppender.getDiscardedCount()).isEqualTo(4);
+        assertThat(asyncAppender.getNumberOfElementsInQueue()).isEqualTo(7);
+    }
+
+    private class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        @Override
+        protected void append(ILoggingEvent event) {
+            workerBlocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.gymapp.backend.outbox;
+
+import com.gymapp.backend.enums.OutboxEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonFileOutboxSinkTest {
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should append one JSON object per line with the payload embedded as JSON")
+    void publish_AppendsOneLinePerMessage() throws Exception {
+        Path file = tempDir.resolve("nested/events.ndjson");
+        NdjsonFileOutboxSink sink = new NdjsonFileOutboxSink(file, objectMapper);
+        UUID memberId = UUID.randomUUID();
+
+        sink.publish(List.of(message(OutboxEventType.SUBSCRIPTION_CREATED, memberId, "{\"plan\":\"Gold\"}")));
+        sink.publish(List.of(message(OutboxEventType.SUBSCRIPTION_CANCELLED, memberId, "{\"plan\":\"Gold\"}")));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.getFirst());
+        assertThat(first.get("eventType").asString()).isEqualTo("SUBSCRIPTION_CREATED");
+        assertThat(first.get("aggregateId").asString()).isEqualTo(memberId.toString());
+        assertThat(first.get("payload").get("plan").asString()).isEqualTo("Gold");
+        assertThat(objectMapper.readTree(lines.get(1)).get("eventType").asString())
+                .isEqualTo("SUBSCRIPTION_CANCELLED");
+    }
+
+    private static OutboxMessage message(OutboxEventType type, UUID memberId, String payload) {
+        return new OutboxMessage(UUID.randomUUID(), type, "Member", memberId, LocalDateTime.now(), payload);
+    }
+}
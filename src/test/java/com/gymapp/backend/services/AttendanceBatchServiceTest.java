@@ -0,0 +1,206 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.requests.BatchAttendanceRequest;
+import com.gymapp.backend.dtos.requests.TurnstileEventRequest;
+import com.gymapp.backend.dtos.responses.AttendanceResponse;
+import com.gymapp.backend.dtos.responses.BatchAttendanceResponse;
+import com.gymapp.backend.dtos.responses.TurnstileEventResult;
+import com.gymapp.backend.entities.Attendance;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.enums.BatchEventStatus;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.enums.TurnstileEventType;
+import com.gymapp.backend.events.VisitRecordedEvent;
+import com.gymapp.backend.mappers.AttendanceMapper;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.MemberDashboardRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.SubscriptionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceBatchServiceTest {
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberActivityService memberActivityService;
+
+    @Mock
+    private MemberDashboardRepository dashboardRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private AttendanceMapper attendanceMapper = Mappers.getMapper(AttendanceMapper.class);
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AttendanceBatchService batchService;
+
+    private UUID memberId;
+    private LocalDateTime morning;
+
+    @BeforeEach
+    void setUp() {
+        memberId = UUID.randomUUID();
+        morning = LocalDate.now().minusDays(1).atTime(7, 0);
+
+        lenient().when(memberRepository.getReferenceById(any(UUID.class))).thenAnswer(invocation -> {
+            Member member = Member.builder().build();
+            member.setId(invocation.getArgument(0));
+            return member;
+        });
+        lenient().when(attendanceRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<Attendance> visits = new ArrayList<>(invocation.getArgument(0));
+            visits.forEach(visit -> visit.setId(UUID.randomUUID()));
+            return visits;
+        });
+    }
+
+    @Test
+    @DisplayName("Should pair check-in and check-out into one inserted visit")
+    void ingest_PairsEvents() {
+        activeMembership(memberId);
+
+        BatchAttendanceResponse response = batchService.ingest(batch(
+                event(memberId, TurnstileEventType.CHECK_IN, morning),
+                event(memberId, TurnstileEventType.CHECK_OUT, morning.plusHours(1))));
+
+        assertThat(response.getAccepted()).isEqualTo(2);
+        assertThat(response.getRejected()).isZero();
+        assertThat(response.getResults()).extracting(TurnstileEventResult::getAttendanceId).doesNotContainNull();
+        assertThat(response.getResults().get(0).getAttendanceId()).isEqualTo(response.getResults().get(1).getAttendanceId());
+
+        ArgumentCaptor<List<Attendance>> saved = captor();
+        verify(attendanceRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement().satisfies(visit -> {
+            assertThat(visit.getCheckInTime()).isEqualTo(morning);
+            assertThat(visit.getCheckOutTime()).isEqualTo(morning.plusHours(1));
+            assertThat(visit.getVisitDate()).isEqualTo(morning.toLocalDate());
+        });
+        verify(entityManager).flush();
+        verify(memberActivityService).recordVisits(Map.of(memberId, Map.of(YearMonth.from(morning), 1L)));
+        verify(eventPublisher).publishEvent(new VisitRecordedEvent(memberId, morning, morning.plusHours(1)));
+
+        ArgumentCaptor<AttendanceResponse> payload = ArgumentCaptor.forClass(AttendanceResponse.class);
+        verify(outboxService).append(eq(OutboxEventType.MEMBER_CHECKED_IN), eq(OutboxService.MEMBER), eq(memberId),
+                payload.capture());
+        assertThat(payload.getValue().getId()).isEqualTo(saved.getValue().get(0).getId());
+        assertThat(payload.getValue().getCheckOutTime()).isEqualTo(morning.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("Should close a visit that was already open in the database")
+    void ingest_ClosesExistingVisit() {
+        activeMembership(memberId);
+        Member member = Member.builder().build();
+        member.setId(memberId);
+        Attendance open = Attendance.builder().member(member).checkInTime(morning).visitDate(morning.toLocalDate()).build();
+        open.setId(UUID.randomUUID());
+        when(attendanceRepository.findOpenVisitsByMemberIds(anyCollection())).thenReturn(List.of(open));
+
+        BatchAttendanceResponse response = batchService.ingest(batch(
+                event(memberId, TurnstileEventType.CHECK_IN, morning.plusMinutes(30)),
+                event(memberId, TurnstileEventType.CHECK_OUT, morning.plusHours(1))));
+
+        assertThat(response.getResults().get(0).getStatus()).isEqualTo(BatchEventStatus.REJECTED);
+        assertThat(response.getResults().get(0).getReason()).isEqualTo("Member already checked in");
+        assertThat(response.getResults().get(1).getAttendanceId()).isEqualTo(open.getId());
+        assertThat(open.getCheckOutTime()).isEqualTo(morning.plusHours(1));
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("Should reject events for members without an active membership on the visit date")
+    void ingest_RejectsWithoutMembership() {
+        UUID expiredId = UUID.randomUUID();
+        when(subscriptionRepository.findActiveWindowsByMemberIds(anyCollection())).thenReturn(List.<Object[]>of(
+                new Object[]{memberId, morning.toLocalDate(), morning.toLocalDate().plusMonths(1)},
+                new Object[]{expiredId, morning.toLocalDate().minusMonths(1), morning.toLocalDate().minusDays(1)}));
+
+        BatchAttendanceResponse response = batchService.ingest(batch(
+                event(expiredId, TurnstileEventType.CHECK_IN, morning),
+                event(memberId, TurnstileEventType.CHECK_IN, morning),
+                event(UUID.randomUUID(), TurnstileEventType.CHECK_IN, morning)));
+
+        assertThat(response.getResults()).extracting(TurnstileEventResult::getStatus).containsExactly(
+                BatchEventStatus.REJECTED, BatchEventStatus.ACCEPTED, BatchEventStatus.REJECTED);
+        assertThat(response.getResults()).extracting(TurnstileEventResult::getIndex).containsExactly(0, 1, 2);
+        verify(outboxService).append(eq(OutboxEventType.MEMBER_CHECKED_IN), eq(OutboxService.MEMBER), eq(memberId),
+                any(AttendanceResponse.class));
+        verifyNoMoreInteractions(outboxService);
+        verify(subscriptionRepository, times(1)).findActiveWindowsByMemberIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reject check-outs without an open visit or before check-in")
+    void ingest_RejectsInvalidCheckOuts() {
+        activeMembership(memberId);
+
+        BatchAttendanceResponse response = batchService.ingest(batch(
+                event(memberId, TurnstileEventType.CHECK_OUT, morning),
+                event(memberId, TurnstileEventType.CHECK_IN, morning.plusHours(1)),
+                event(memberId, TurnstileEventType.CHECK_OUT, morning.plusMinutes(30))));
+
+        assertThat(response.getResults()).extracting(TurnstileEventResult::getReason).containsExactly(
+                "No open visit to check out", null, "Event is older than the member's previous event in this batch");
+        assertThat(response.getAccepted()).isEqualTo(1);
+    }
+
+    private void activeMembership(UUID id) {
+        when(subscriptionRepository.findActiveWindowsByMemberIds(anyCollection())).thenReturn(List.<Object[]>of(
+                new Object[]{id, morning.toLocalDate().minusMonths(1), morning.toLocalDate().plusMonths(1)}));
+    }
+
+    private static BatchAttendanceRequest batch(TurnstileEventRequest... events) {
+        return BatchAttendanceRequest.builder().events(List.of(events)).build();
+    }
+
+    private static TurnstileEventRequest event(UUID memberId, TurnstileEventType type, LocalDateTime timestamp) {
+        return TurnstileEventRequest.builder().memberId(memberId).type(type).timestamp(timestamp).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Attendance>> captor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
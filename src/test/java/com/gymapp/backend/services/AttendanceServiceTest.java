@@ -1,21 +1,38 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.cache.MemberEntitlement;
+import com.gymapp.backend.cache.MemberEntitlementCache;
+import com.gymapp.backend.cache.MemberVisitIndex;
 import com.gymapp.backend.dtos.requests.CheckInRequest;
 import com.gymapp.backend.dtos.responses.AttendanceReportResponse;
 import com.gymapp.backend.dtos.responses.AttendanceResponse;
+import com.gymapp.backend.dtos.responses.MemberVisitHistoryResponse;
+import com.gymapp.backend.entities.AttendanceArchive;
+import com.gymapp.backend.enums.OutboxEventType;
+import com.gymapp.backend.events.VisitRecordedEvent;
 import com.gymapp.backend.exceptions.InvalidOperationException;
 import com.gymapp.backend.exceptions.MembershipExpiredException;
+import com.gymapp.backend.logging.HotPathEvents;
 import com.gymapp.backend.mappers.AttendanceMapper;
 import com.gymapp.backend.entities.Attendance;
 import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
 import com.gymapp.backend.repositories.AttendanceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -35,6 +52,9 @@ class AttendanceServiceTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceArchiveRepository archiveRepository;
+
     @Mock
     private AttendanceMapper attendanceMapper;
 
@@ -42,7 +62,22 @@ class AttendanceServiceTest {
     private MemberService memberService;
 
     @Mock
-    private SubscriptionService subscriptionService;
+    private MemberEntitlementCache entitlementCache;
+
+    @Mock
+    private MemberVisitIndex visitIndex;
+
+    @Mock
+    private MemberActivityService memberActivityService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private HotPathEvents hotPathEvents = new HotPathEvents(new SimpleMeterRegistry(), 1);
 
     @InjectMocks
     private AttendanceService attendanceService;
@@ -50,6 +85,7 @@ class AttendanceServiceTest {
     private Attendance attendance;
     private AttendanceResponse attendanceResponse;
     private CheckInRequest checkInRequest;
+    private MemberEntitlement entitlement;
     private Member member;
     private UUID attendanceId;
     private UUID memberId;
@@ -86,13 +122,15 @@ class AttendanceServiceTest {
         checkInRequest = CheckInRequest.builder()
                 .memberId(memberId)
                 .build();
+
+        entitlement = new MemberEntitlement(memberId, "Premium", true, true, null, LocalDate.now().plusMonths(1));
     }
 
     @Test
     @DisplayName("Should check in member successfully")
     void checkIn_Success() {
         when(memberService.findMemberById(memberId)).thenReturn(member);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(true);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(entitlement));
         when(attendanceRepository.findActiveCheckIn(memberId)).thenReturn(Optional.empty());
         when(attendanceRepository.save(any(Attendance.class))).thenReturn(attendance);
         when(attendanceMapper.toResponse(attendance)).thenReturn(attendanceResponse);
@@ -102,25 +140,29 @@ class AttendanceServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getMemberId()).isEqualTo(memberId);
         verify(attendanceRepository).save(any(Attendance.class));
+        verify(memberActivityService).recordVisits(memberId, attendance.getVisitDate(), 1);
+        verify(outboxService).append(OutboxEventType.MEMBER_CHECKED_IN, OutboxService.MEMBER, memberId,
+                attendanceResponse);
     }
 
     @Test
     @DisplayName("Should throw exception when membership expired")
     void checkIn_MembershipExpired() {
         when(memberService.findMemberById(memberId)).thenReturn(member);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(false);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> attendanceService.checkIn(checkInRequest))
                 .isInstanceOf(MembershipExpiredException.class);
 
         verify(attendanceRepository, never()).save(any());
+        verifyNoInteractions(memberActivityService, outboxService);
     }
 
     @Test
     @DisplayName("Should throw exception when already checked in")
     void checkIn_AlreadyCheckedIn() {
         when(memberService.findMemberById(memberId)).thenReturn(member);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(true);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(entitlement));
         when(attendanceRepository.findActiveCheckIn(memberId)).thenReturn(Optional.of(attendance));
 
         assertThatThrownBy(() -> attendanceService.checkIn(checkInRequest))
@@ -140,6 +182,8 @@ class AttendanceServiceTest {
 
         assertThat(result).isNotNull();
         verify(attendanceRepository).save(attendance);
+        verify(eventPublisher).publishEvent(
+                new VisitRecordedEvent(memberId, attendance.getCheckInTime(), attendance.getCheckOutTime()));
     }
 
     @Test
@@ -163,6 +207,75 @@ class AttendanceServiceTest {
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Should include archived visits in member attendance")
+    void getMemberAttendance_IncludesArchive() {
+        AttendanceArchive archived = archivedVisit();
+        AttendanceResponse archivedResponse = AttendanceResponse.builder().id(archived.getId()).build();
+        when(attendanceRepository.findByMemberId(memberId)).thenReturn(List.of(attendance));
+        when(archiveRepository.findByMemberId(memberId)).thenReturn(List.of(archived));
+        when(attendanceMapper.toResponse(attendance)).thenReturn(attendanceResponse);
+        when(attendanceMapper.toResponse(archived)).thenReturn(archivedResponse);
+
+        List<AttendanceResponse> result = attendanceService.getMemberAttendance(memberId);
+
+        assertThat(result).containsExactly(attendanceResponse, archivedResponse);
+    }
+
+    @Test
+    @DisplayName("Should interleave hot and archived visits by check-in time across pages")
+    void getMemberAttendancePaged_MergesHotAndArchive() {
+        LocalDateTime now = LocalDateTime.now();
+        Attendance lateCheckOut = hotVisit(now.minusYears(3));
+        Attendance recent = hotVisit(now.minusDays(1));
+        AttendanceArchive older = mappedArchivedVisit(now.minusYears(2));
+        AttendanceArchive oldest = mappedArchivedVisit(now.minusYears(4));
+        Pageable secondPage = PageRequest.of(1, 2);
+        when(attendanceRepository.countByMemberId(memberId)).thenReturn(2L);
+        when(archiveRepository.countByMemberId(memberId)).thenReturn(2L);
+        when(attendanceRepository.findByMemberId(eq(memberId), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(recent, lateCheckOut)));
+        when(archiveRepository.findByMemberId(eq(memberId), any(Pageable.class))).thenReturn(List.of(older, oldest));
+
+        Page<AttendanceResponse> result = attendanceService.getMemberAttendancePaged(memberId, secondPage);
+
+        assertThat(result.getContent()).extracting(AttendanceResponse::getId)
+                .containsExactly(lateCheckOut.getId(), oldest.getId());
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        Pageable head = PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "checkInTime"));
+        verify(attendanceRepository).findByMemberId(memberId, head);
+        verify(archiveRepository).findByMemberId(memberId, head);
+    }
+
+    @Test
+    @DisplayName("Should apply the requested sort to both hot and archived visits")
+    void getMemberAttendancePaged_HonorsSort() {
+        LocalDateTime now = LocalDateTime.now();
+        Attendance recent = hotVisit(now.minusDays(1));
+        AttendanceArchive older = mappedArchivedVisit(now.minusYears(2));
+        Pageable oldestFirst = PageRequest.of(0, 2, Sort.by("visitDate"));
+        when(attendanceRepository.countByMemberId(memberId)).thenReturn(1L);
+        when(archiveRepository.countByMemberId(memberId)).thenReturn(1L);
+        when(attendanceRepository.findByMemberId(eq(memberId), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(recent)));
+        when(archiveRepository.findByMemberId(eq(memberId), any(Pageable.class))).thenReturn(List.of(older));
+
+        Page<AttendanceResponse> result = attendanceService.getMemberAttendancePaged(memberId, oldestFirst);
+
+        assertThat(result.getContent()).extracting(AttendanceResponse::getId).containsExactly(older.getId(), recent.getId());
+        verify(archiveRepository).findByMemberId(memberId, PageRequest.of(0, 2, Sort.by("visitDate", "checkInTime")));
+    }
+
+    @Test
+    @DisplayName("Should reject sorting history by an unsupported property")
+    void getMemberAttendancePaged_UnsupportedSort() {
+        Pageable byDuration = PageRequest.of(0, 20, Sort.by("durationMinutes"));
+
+        assertThatThrownBy(() -> attendanceService.getMemberAttendancePaged(memberId, byDuration))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("durationMinutes");
+        verify(attendanceRepository, never()).findByMemberId(eq(memberId), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("Should generate attendance report")
     void getAttendanceReport_Success() {
@@ -171,18 +284,23 @@ class AttendanceServiceTest {
 
         List<Object[]> dailyStats = new ArrayList<>();
         dailyStats.add(new Object[]{LocalDate.now(), 5L});
+        List<Object[]> archivedStats = new ArrayList<>();
+        archivedStats.add(new Object[]{LocalDate.now(), 2L});
 
-        when(attendanceRepository.findAttendanceBetweenDates(startDate, endDate))
+        when(attendanceRepository.findAttendanceBetweenDates(eq(startDate), eq(endDate), any(Pageable.class)))
                 .thenReturn(List.of(attendance));
         when(attendanceRepository.getDailyAttendanceReport(startDate, endDate))
                 .thenReturn(dailyStats);
+        when(archiveRepository.getDailyAttendanceReport(startDate, endDate))
+                .thenReturn(archivedStats);
         when(attendanceMapper.toResponse(attendance)).thenReturn(attendanceResponse);
 
         AttendanceReportResponse result = attendanceService.getAttendanceReport(startDate, endDate);
 
         assertThat(result).isNotNull();
-        assertThat(result.getTotalVisits()).isEqualTo(1);
-        assertThat(result.getDailyVisits()).containsKey(LocalDate.now());
+        assertThat(result.getTotalVisits()).isEqualTo(7);
+        assertThat(result.getDailyVisits()).containsEntry(LocalDate.now(), 7L);
+        assertThat(result.getRecentAttendance()).containsExactly(attendanceResponse);
     }
 
     @Test
@@ -191,11 +309,55 @@ class AttendanceServiceTest {
         LocalDate startDate = LocalDate.now().minusDays(30);
         LocalDate endDate = LocalDate.now();
 
-        when(attendanceRepository.countVisitsByMemberBetweenDates(memberId, startDate, endDate))
-                .thenReturn(10L);
+        when(memberActivityService.countVisits(memberId, startDate, endDate)).thenReturn(10L);
 
         long result = attendanceService.getMemberVisitCount(memberId, startDate, endDate);
 
         assertThat(result).isEqualTo(10L);
     }
+
+    @Test
+    @DisplayName("Should serve visit history from the index with a bounded limit")
+    void getMemberVisitHistory_ClampsLimit() {
+        MemberVisitHistoryResponse history = MemberVisitHistoryResponse.builder().memberId(memberId).build();
+        when(visitIndex.getHistory(memberId, 500)).thenReturn(history);
+
+        assertThat(attendanceService.getMemberVisitHistory(memberId, 10_000)).isSameAs(history);
+    }
+
+    private Attendance hotVisit(LocalDateTime checkInTime) {
+        Attendance visit = Attendance.builder()
+                .member(member)
+                .checkInTime(checkInTime)
+                .checkOutTime(checkInTime.plusHours(1))
+                .visitDate(checkInTime.toLocalDate())
+                .build();
+        visit.setId(UUID.randomUUID());
+        when(attendanceMapper.toResponse(visit)).thenReturn(response(visit.getId(), checkInTime));
+        return visit;
+    }
+
+    private AttendanceArchive mappedArchivedVisit(LocalDateTime checkInTime) {
+        AttendanceArchive visit = archivedVisit(checkInTime);
+        when(attendanceMapper.toResponse(visit)).thenReturn(response(visit.getId(), checkInTime));
+        return visit;
+    }
+
+    private static AttendanceResponse response(UUID id, LocalDateTime checkInTime) {
+        return AttendanceResponse.builder().id(id).checkInTime(checkInTime).visitDate(checkInTime.toLocalDate()).build();
+    }
+
+    private AttendanceArchive archivedVisit() {
+        return archivedVisit(LocalDateTime.now().minusYears(2));
+    }
+
+    private AttendanceArchive archivedVisit(LocalDateTime checkInTime) {
+        return AttendanceArchive.builder()
+                .id(UUID.randomUUID())
+                .member(member)
+                .checkInTime(checkInTime)
+                .checkOutTime(checkInTime.plusHours(1))
+                .visitDate(checkInTime.toLocalDate())
+                .build();
+    }
 }
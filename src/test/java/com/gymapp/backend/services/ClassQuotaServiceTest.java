@@ -0,0 +1,156 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.cache.MemberEntitlement;
+import com.gymapp.backend.entities.MemberActivityCounter;
+import com.gymapp.backend.exceptions.ClassQuotaExceededException;
+import com.gymapp.backend.exceptions.PlanNotEntitledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClassQuotaServiceTest {
+
+    @Mock
+    private MemberActivityService memberActivityService;
+
+    @InjectMocks
+    private ClassQuotaService quotaService;
+
+    private UUID memberId;
+    private MemberEntitlement entitlement;
+    private LocalDateTime scheduledAt;
+    private YearMonth month;
+
+    @BeforeEach
+    void setUp() {
+        memberId = UUID.randomUUID();
+        scheduledAt = LocalDateTime.now().plusDays(1);
+        month = YearMonth.from(scheduledAt);
+        entitlement = entitlement(true, 2);
+    }
+
+    @Test
+    @DisplayName("Should load recorded usage once and enforce the monthly limit from memory")
+    void reserve_EnforcesLimit() {
+        when(memberActivityService.countClasses(memberId, month)).thenReturn(1L);
+
+        quotaService.reserve(entitlement, scheduledAt);
+
+        assertThatThrownBy(() -> quotaService.reserve(entitlement, scheduledAt))
+                .isInstanceOf(ClassQuotaExceededException.class);
+        assertThat(quotaService.usage(memberId, month)).isEqualTo(2);
+        verify(memberActivityService, times(1)).countClasses(memberId, month);
+    }
+
+    @Test
+    @DisplayName("Should reject plans without group classes")
+    void reserve_RequiresGroupClasses() {
+        assertThatThrownBy(() -> quotaService.reserve(entitlement(false, 2), scheduledAt))
+                .isInstanceOf(PlanNotEntitledException.class);
+        verifyNoInteractions(memberActivityService);
+    }
+
+    @Test
+    @DisplayName("Should not count enrollments for unlimited plans")
+    void reserve_Unlimited() {
+        quotaService.reserve(entitlement(true, null), scheduledAt);
+
+        verifyNoInteractions(memberActivityService);
+    }
+
+    @Test
+    @DisplayName("Should free a slot when an enrollment is cancelled")
+    void release_FreesSlot() {
+        when(memberActivityService.countClasses(memberId, month)).thenReturn(1L);
+        quotaService.reserve(entitlement, scheduledAt);
+
+        quotaService.release(memberId, scheduledAt);
+        quotaService.reserve(entitlement, scheduledAt);
+
+        assertThat(quotaService.usage(memberId, month)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should never admit more than the limit under concurrent enrollment")
+    void reserve_Concurrent() throws Exception {
+        entitlement = entitlement(true, 10);
+        when(memberActivityService.countClasses(memberId, month)).thenReturn(0L);
+        AtomicInteger admitted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 100; i++) {
+                executor.submit(() -> {
+                    try {
+                        quotaService.reserve(entitlement, scheduledAt);
+                        admitted.incrementAndGet();
+                    } catch (ClassQuotaExceededException ignored) {
+                    }
+                });
+            }
+        }
+
+        assertThat(admitted).hasValue(10);
+        assertThat(quotaService.usage(memberId, month)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reset in-memory usage to the recorded ledger during reconciliation")
+    void reconcile_CorrectsDrift() {
+        when(memberActivityService.countClasses(memberId, month)).thenReturn(0L);
+        quotaService.reserve(entitlement, scheduledAt);
+        when(memberActivityService.recompute(memberId, month))
+                .thenReturn(MemberActivityCounter.builder().memberId(memberId).classCount(2).build());
+
+        int corrected = quotaService.reconcile();
+
+        assertThat(corrected).isEqualTo(1);
+        assertThat(quotaService.usage(memberId, month)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep in-flight reservations when reconciling against the recorded ledger")
+    void reconcile_KeepsInFlightReservations() {
+        when(memberActivityService.countClasses(memberId, month)).thenReturn(1L);
+        when(memberActivityService.recompute(memberId, month))
+                .thenReturn(MemberActivityCounter.builder().memberId(memberId).classCount(1).build());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            quotaService.reserve(entitlement, scheduledAt);
+
+            assertThat(quotaService.reconcile()).isZero();
+            assertThat(quotaService.usage(memberId, month)).isEqualTo(2);
+            assertThatThrownBy(() -> quotaService.reserve(entitlement, scheduledAt))
+                    .isInstanceOf(ClassQuotaExceededException.class);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(quotaService.usage(memberId, month)).isEqualTo(1);
+    }
+
+    private MemberEntitlement entitlement(boolean groupClasses, Integer maxClassesPerMonth) {
+        return new MemberEntitlement(memberId, "Basic", false, groupClasses, maxClassesPerMonth, LocalDate.now().plusMonths(1));
+    }
+}
@@ -0,0 +1,69 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.requests.CreateClassScheduleRequest;
+import com.gymapp.backend.dtos.responses.ClassScheduleResponse;
+import com.gymapp.backend.enums.ClassType;
+import com.gymapp.backend.repositories.GymClassRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ClassScheduleConcurrencyTest {
+    private static final int RUNS = 4;
+
+    @Autowired
+    private ClassScheduleService scheduleService;
+
+    @Autowired
+    private GymClassRepository classRepository;
+
+    @Test
+    @DisplayName("Should materialize each occurrence once when runs overlap")
+    void materializeOccurrences_ConcurrentRuns() throws Exception {
+        ClassScheduleResponse schedule = scheduleService.createSchedule(CreateClassScheduleRequest.builder()
+                .name("Overlap Spin")
+                .instructor("Coach")
+                .maxCapacity(12)
+                .classType(ClassType.SPINNING)
+                .daysOfWeek(EnumSet.allOf(DayOfWeek.class))
+                .startTime(LocalTime.of(7, 0))
+                .startDate(LocalDate.now().plusDays(1))
+                .build());
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(RUNS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < RUNS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return scheduleService.materializeOccurrences(7);
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(classRepository.findAll())
+                .filteredOn(gymClass -> gymClass.getSchedule() != null
+                        && gymClass.getSchedule().getId().equals(schedule.getId()))
+                .hasSize(7);
+    }
+}
@@ -0,0 +1,197 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.requests.CreateClassScheduleRequest;
+import com.gymapp.backend.dtos.responses.ClassScheduleResponse;
+import com.gymapp.backend.dtos.responses.ScheduleMaterializationResponse;
+import com.gymapp.backend.entities.ClassSchedule;
+import com.gymapp.backend.entities.GymClass;
+import com.gymapp.backend.enums.ClassType;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import com.gymapp.backend.exceptions.InvalidOperationException;
+import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.mappers.ClassScheduleMapper;
+import com.gymapp.backend.mappers.GymClassMapper;
+import com.gymapp.backend.repositories.ClassScheduleRepository;
+import com.gymapp.backend.repositories.GymClassRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClassScheduleServiceTest {
+    @Mock
+    private ClassScheduleRepository scheduleRepository;
+
+    @Mock
+    private GymClassRepository classRepository;
+
+    @Mock
+    private ClassScheduleMapper scheduleMapper;
+
+    @Mock
+    private GymClassMapper classMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ClassScheduleService scheduleService;
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<List<GymClass>> savedClasses = ArgumentCaptor.forClass(List.class);
+
+    private ClassSchedule schedule;
+    private UUID scheduleId;
+    private LocalDate tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        scheduleId = UUID.randomUUID();
+        tomorrow = LocalDate.now().plusDays(1);
+
+        schedule = ClassSchedule.builder()
+                .id(scheduleId)
+                .name("Evening HIIT")
+                .instructor("Jane Doe")
+                .maxCapacity(20)
+                .durationMinutes(45)
+                .classType(ClassType.HIIT)
+                .daysOfWeek(EnumSet.allOf(DayOfWeek.class))
+                .startTime(LocalTime.of(18, 30))
+                .startDate(tomorrow)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should create schedule successfully")
+    void createSchedule_Success() {
+        CreateClassScheduleRequest request = CreateClassScheduleRequest.builder()
+                .name("Evening HIIT")
+                .startDate(tomorrow)
+                .build();
+        ClassScheduleResponse response = ClassScheduleResponse.builder().id(scheduleId).build();
+
+        when(scheduleMapper.toEntity(request)).thenReturn(schedule);
+        when(scheduleRepository.save(schedule)).thenReturn(schedule);
+        when(scheduleMapper.toResponse(schedule)).thenReturn(response);
+
+        assertThat(scheduleService.createSchedule(request).getId()).isEqualTo(scheduleId);
+    }
+
+    @Test
+    @DisplayName("Should reject schedule ending before it starts")
+    void createSchedule_EndBeforeStart() {
+        CreateClassScheduleRequest request = CreateClassScheduleRequest.builder()
+                .name("Evening HIIT")
+                .startDate(tomorrow)
+                .endDate(tomorrow.minusDays(1))
+                .build();
+
+        assertThatThrownBy(() -> scheduleService.createSchedule(request))
+                .isInstanceOf(InvalidOperationException.class);
+
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when schedule not found")
+    void getScheduleById_NotFound() {
+        when(scheduleRepository.findById(scheduleId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> scheduleService.getScheduleById(scheduleId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should materialize missing occurrences in one batch and skip existing ones")
+    void materializeOccurrences_SkipsExisting() {
+        GymClass existing = GymClass.builder()
+                .schedule(schedule)
+                .scheduledAt(tomorrow.atTime(18, 30))
+                .build();
+        when(scheduleRepository.findActiveForUpdate()).thenReturn(List.of(schedule));
+        when(classRepository.findClassesBetweenDates(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(existing));
+
+        ScheduleMaterializationResponse result = scheduleService.materializeOccurrences(6);
+
+        verify(classRepository).saveAll(savedClasses.capture());
+        List<GymClass> created = savedClasses.getValue();
+        assertThat(result.getClassesCreated()).isEqualTo(5);
+        assertThat(created).hasSize(5)
+                .allSatisfy(gymClass -> {
+                    assertThat(gymClass.getSchedule()).isSameAs(schedule);
+                    assertThat(gymClass.getScheduledAt().toLocalTime()).isEqualTo(LocalTime.of(18, 30));
+                    assertThat(gymClass.getCurrentEnrollment()).isZero();
+                });
+        assertThat(created).extracting(GymClass::getScheduledAt)
+                .doesNotContain(tomorrow.atTime(18, 30));
+        assertThat(schedule.getMaterializedThrough()).isEqualTo(LocalDate.now().plusDays(6));
+        verify(eventPublisher, times(5)).publishEvent(any(GymClassChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should only materialize selected weekdays within the schedule end date")
+    void materializeOccurrences_RespectsDaysAndEndDate() {
+        schedule.setDaysOfWeek(Set.of(tomorrow.getDayOfWeek()));
+        schedule.setEndDate(tomorrow.plusDays(10));
+        when(scheduleRepository.findActiveForUpdate()).thenReturn(List.of(schedule));
+        when(classRepository.findClassesBetweenDates(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        scheduleService.materializeOccurrences(28);
+
+        verify(classRepository).saveAll(savedClasses.capture());
+        assertThat(savedClasses.getValue()).extracting(GymClass::getScheduledAt)
+                .containsExactly(tomorrow.atTime(18, 30), tomorrow.plusDays(7).atTime(18, 30));
+        assertThat(schedule.getMaterializedThrough()).isEqualTo(tomorrow.plusDays(10));
+    }
+
+    @Test
+    @DisplayName("Should not recreate occurrences behind the materialization watermark")
+    void materializeOccurrences_ResumesFromWatermark() {
+        schedule.setMaterializedThrough(LocalDate.now().plusDays(6));
+        when(scheduleRepository.findActiveForUpdate()).thenReturn(List.of(schedule));
+        when(classRepository.findClassesBetweenDates(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        ScheduleMaterializationResponse result = scheduleService.materializeOccurrences(7);
+
+        verify(classRepository).saveAll(savedClasses.capture());
+        assertThat(savedClasses.getValue()).extracting(GymClass::getScheduledAt)
+                .containsExactly(LocalDate.now().plusDays(7).atTime(18, 30));
+        assertThat(result.getClassesCreated()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip the range query when there are no active schedules")
+    void materializeOccurrences_NoSchedules() {
+        when(scheduleRepository.findActiveForUpdate()).thenReturn(List.of());
+
+        ScheduleMaterializationResponse result = scheduleService.materializeOccurrences(28);
+
+        assertThat(result.getClassesCreated()).isZero();
+        verifyNoInteractions(classRepository);
+    }
+}
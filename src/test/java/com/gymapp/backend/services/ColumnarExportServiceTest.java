@@ -0,0 +1,127 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.columnar.ColumnarReader;
+import com.gymapp.backend.entities.Attendance;
+import com.gymapp.backend.entities.AttendanceArchive;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ColumnarExportServiceTest {
+
+    @Autowired
+    private ColumnarExportService exportService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceArchiveRepository archiveRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @TempDir
+    private Path directory;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .firstName("Column")
+                .lastName("Store")
+                .email(UUID.randomUUID() + "@columnar.test")
+                .dateOfBirth(LocalDate.of(1991, 9, 9))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should write one file per dataset for the month, covering hot and archived attendance")
+    void exportMonth_WritesMonthFiles() throws IOException {
+        YearMonth month = YearMonth.of(2019, 4);
+        LocalDateTime archivedCheckIn = month.atDay(2).atTime(7, 15);
+        LocalDateTime hotCheckIn = month.atDay(20).atTime(18, 5, 30);
+        AttendanceArchive archived = archiveRepository.save(AttendanceArchive.builder()
+                .id(UUID.randomUUID())
+                .member(member)
+                .checkInTime(archivedCheckIn)
+                .checkOutTime(archivedCheckIn.plusMinutes(75))
+                .visitDate(archivedCheckIn.toLocalDate())
+                .build());
+        Attendance hot = attendanceRepository.save(Attendance.builder()
+                .member(member)
+                .checkInTime(hotCheckIn)
+                .visitDate(hotCheckIn.toLocalDate())
+                .build());
+
+        int written = exportService.exportMonth(month, directory, false);
+
+        assertThat(written).isEqualTo(3);
+        assertThat(ColumnarExportService.monthFile(directory, "enrollments", month)).exists();
+        assertThat(ColumnarExportService.monthFile(directory, "sessions", month)).exists();
+        ColumnarReader reader = new ColumnarReader(ColumnarExportService.monthFile(directory, "attendance", month));
+        List<Object[]> rows = new ArrayList<>();
+        reader.forEachRow(rows::add);
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsExactly(archived.getId(), member.getId(), archivedCheckIn,
+                archivedCheckIn.plusMinutes(75), archivedCheckIn.toLocalDate());
+        assertThat(rows.get(1)).containsExactly(hot.getId(), member.getId(), hotCheckIn, null, hotCheckIn.toLocalDate());
+        try (var files = Files.list(directory.resolve("attendance"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave already exported months untouched")
+    void exportMonth_SkipsExistingFiles() {
+        YearMonth month = YearMonth.of(2019, 5);
+        exportService.exportMonth(month, directory, false);
+
+        assertThat(exportService.exportMonth(month, directory, false)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should replace an exported month with rows that changed after the first export")
+    void exportMonth_RewritesRecentMonth() throws IOException {
+        YearMonth month = YearMonth.of(2019, 6);
+        LocalDateTime checkIn = month.atDay(10).atTime(9, 0);
+        Attendance visit = attendanceRepository.save(Attendance.builder()
+                .member(member)
+                .checkInTime(checkIn)
+                .visitDate(checkIn.toLocalDate())
+                .build());
+        exportService.exportMonth(month, directory, false);
+        visit.setCheckOutTime(checkIn.plusHours(1));
+        attendanceRepository.save(visit);
+
+        assertThat(exportService.exportMonth(month, directory, true)).isEqualTo(3);
+
+        List<Object[]> rows = new ArrayList<>();
+        new ColumnarReader(ColumnarExportService.monthFile(directory, "attendance", month)).forEachRow(rows::add);
+        assertThat(rows).singleElement().satisfies(row -> assertThat(row[3]).isEqualTo(checkIn.plusHours(1)));
+        try (var files = Files.list(directory.resolve("attendance"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+}
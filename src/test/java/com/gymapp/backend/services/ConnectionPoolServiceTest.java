@@ -0,0 +1,83 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.datasource.ConnectionHoldTracker;
+import com.gymapp.backend.dtos.requests.ResizeConnectionPoolRequest;
+import com.gymapp.backend.dtos.responses.ConnectionPoolResponse;
+import com.gymapp.backend.exceptions.InvalidOperationException;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionPoolServiceTest {
+
+    @Mock
+    private ConnectionHoldTracker holdTracker;
+
+    private HikariDataSource dataSource;
+    private ConnectionPoolService connectionPoolService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:pool-" + UUID.randomUUID());
+        dataSource.setPoolName("test-pool");
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setMinimumIdle(1);
+        connectionPoolService = new ConnectionPoolService(dataSource, holdTracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should report pool limits and saturation")
+    void getPoolStatus_ReportsLimits() {
+        ConnectionPoolResponse response = connectionPoolService.getPoolStatus();
+
+        assertThat(response.getPoolName()).isEqualTo("test-pool");
+        assertThat(response.getMaximumPoolSize()).isEqualTo(4);
+        assertThat(response.getMinimumIdle()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should resize the running pool")
+    void resizePool_Success() {
+        ResizeConnectionPoolRequest request = ResizeConnectionPoolRequest.builder()
+                .maximumPoolSize(8)
+                .minimumIdle(2)
+                .connectionTimeoutMs(1000L)
+                .build();
+
+        ConnectionPoolResponse response = connectionPoolService.resizePool(request);
+
+        assertThat(response.getMaximumPoolSize()).isEqualTo(8);
+        assertThat(response.getMinimumIdle()).isEqualTo(2);
+        assertThat(response.getConnectionTimeoutMs()).isEqualTo(1000L);
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should reject a minimum idle above the maximum pool size")
+    void resizePool_MinimumIdleAboveMaximum() {
+        ResizeConnectionPoolRequest request = ResizeConnectionPoolRequest.builder()
+                .minimumIdle(10)
+                .build();
+
+        assertThatThrownBy(() -> connectionPoolService.resizePool(request))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.exports.AttendanceExportRow;
+import com.gymapp.backend.dtos.exports.MemberExportRow;
+import com.gymapp.backend.dtos.exports.TrainingSessionExportRow;
+import com.gymapp.backend.enums.ExportFormat;
+import com.gymapp.backend.enums.SessionStatus;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.TrainingSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceArchiveRepository archiveRepository;
+
+    @Mock
+    private TrainingSessionRepository sessionRepository;
+
+    private ExportService exportService;
+
+    private ByteArrayOutputStream out;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(memberRepository, attendanceRepository, archiveRepository, sessionRepository,
+                JsonMapper.builder().build());
+        out = new ByteArrayOutputStream();
+    }
+
+    @Test
+    @DisplayName("Should stream attendance as one JSON object per line")
+    void exportAttendance_Ndjson() {
+        UUID memberId = UUID.randomUUID();
+        when(archiveRepository.streamAllForExport()).thenReturn(Stream.of(
+                new AttendanceExportRow(UUID.randomUUID(), memberId,
+                        LocalDateTime.of(2025, 3, 1, 8, 0), LocalDateTime.of(2025, 3, 1, 9, 30), LocalDate.of(2025, 3, 1))));
+        when(attendanceRepository.streamAllForExport()).thenReturn(Stream.of(
+                new AttendanceExportRow(UUID.randomUUID(), memberId,
+                        LocalDateTime.of(2025, 3, 2, 8, 0), null, LocalDate.of(2025, 3, 2))));
+
+        long count = exportService.exportAttendance(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"memberId\":\"" + memberId + "\"").contains("2025-03-01T09:30");
+        assertThat(lines[1]).contains("\"checkOutTime\":null");
+    }
+
+    @Test
+    @DisplayName("Should stream members as CSV with header and escaped values")
+    void exportMembers_Csv() {
+        UUID memberId = UUID.randomUUID();
+        when(memberRepository.streamAllForExport()).thenReturn(Stream.of(
+                new MemberExportRow(memberId, "John", "Doe, Jr.", "john@example.com", null,
+                        LocalDate.of(1990, 1, 15), true, LocalDateTime.of(2025, 1, 1, 10, 0))));
+
+        long count = exportService.exportMembers(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(1);
+        assertThat(lines[0]).isEqualTo("id,firstName,lastName,email,phone,dateOfBirth,active,createdAt");
+        assertThat(lines[1]).isEqualTo(memberId + ",John,\"Doe, Jr.\",john@example.com,,1990-01-15,true,2025-01-01T10:00");
+    }
+
+    @Test
+    @DisplayName("Should write only the CSV header when there are no sessions")
+    void exportSessions_Empty() {
+        when(sessionRepository.streamAllForExport()).thenReturn(Stream.<TrainingSessionExportRow>empty());
+
+        long count = exportService.exportSessions(ExportFormat.CSV, out);
+
+        assertThat(count).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("id,memberId,trainerId,scheduledAt,durationMinutes,status,createdAt\n");
+    }
+
+    @Test
+    @DisplayName("Should write session status by name")
+    void exportSessions_Ndjson() {
+        when(sessionRepository.streamAllForExport()).thenReturn(Stream.of(
+                new TrainingSessionExportRow(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                        LocalDateTime.of(2025, 4, 1, 18, 0), 60, SessionStatus.COMPLETED, LocalDateTime.of(2025, 3, 20, 12, 0))));
+
+        exportService.exportSessions(ExportFormat.NDJSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"status\":\"COMPLETED\"").endsWith("}\n");
+    }
+}
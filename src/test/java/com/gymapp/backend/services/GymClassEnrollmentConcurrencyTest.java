@@ -0,0 +1,168 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.requests.UpdateGymClassRequest;
+import com.gymapp.backend.entities.GymClass;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.entities.MembershipPlan;
+import com.gymapp.backend.entities.Subscription;
+import com.gymapp.backend.enums.ClassType;
+import com.gymapp.backend.enums.EnrollmentStatus;
+import com.gymapp.backend.exceptions.ConcurrentUpdateException;
+import com.gymapp.backend.repositories.ClassEnrollmentRepository;
+import com.gymapp.backend.repositories.GymClassRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.MembershipPlanRepository;
+import com.gymapp.backend.repositories.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GymClassEnrollmentConcurrencyTest {
+    private static final int MEMBERS = 40;
+    private static final int THREADS = 8;
+    private static final int MAX_CONTENDED_SLOWDOWN = 3;
+
+    @Autowired
+    private GymClassService gymClassService;
+
+    @Autowired
+    private GymClassRepository classRepository;
+
+    @Autowired
+    private ClassEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipPlanRepository planRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    private MembershipPlan plan;
+
+    @BeforeEach
+    void setUp() {
+        plan = planRepository.save(MembershipPlan.builder()
+                .name("Concurrency " + UUID.randomUUID().toString().substring(0, 8))
+                .price(new BigDecimal("49.99"))
+                .durationMonths(1)
+                .includesGroupClasses(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should not lose enrollments when many members join the same class concurrently")
+    void enrollMember_ConcurrentEnrollmentsAreNotLost() throws Exception {
+        GymClass baselineClass = createClass();
+        List<UUID> baselineMembers = createMembers();
+        long baselineStart = System.nanoTime();
+        for (UUID memberId : baselineMembers) {
+            gymClassService.enrollMember(baselineClass.getId(), memberId);
+        }
+        long baselineNanos = System.nanoTime() - baselineStart;
+
+        GymClass contendedClass = createClass();
+        List<UUID> contendedMembers = createMembers();
+        long contendedStart = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (UUID memberId : contendedMembers) {
+                futures.add(executor.submit(() -> gymClassService.enrollMember(contendedClass.getId(), memberId)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long contendedNanos = System.nanoTime() - contendedStart;
+
+        GymClass reloaded = classRepository.findById(contendedClass.getId()).orElseThrow();
+        assertThat(reloaded.getCurrentEnrollment()).isEqualTo(MEMBERS);
+        assertThat(enrollmentRepository.findByGymClassIdAndStatus(contendedClass.getId(), EnrollmentStatus.ENROLLED))
+                .hasSize(MEMBERS);
+        assertThat(contendedNanos)
+                .as("%d threads enrolling into one class should keep up with the sequential baseline", THREADS)
+                .isLessThan(baselineNanos * MAX_CONTENDED_SLOWDOWN);
+    }
+
+    @Test
+    @DisplayName("Should reject or retry concurrent class edits instead of overwriting the enrollment count")
+    void updateClass_ConcurrentWithEnrollmentsKeepsCount() throws Exception {
+        GymClass gymClass = createClass();
+        List<UUID> members = createMembers();
+        List<Future<?>> enrollments = new ArrayList<>();
+        List<Future<?>> updates = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < members.size(); i++) {
+                UUID memberId = members.get(i);
+                enrollments.add(executor.submit(() -> gymClassService.enrollMember(gymClass.getId(), memberId)));
+                if (i % 10 == 0) {
+                    String description = "Revision " + i;
+                    updates.add(executor.submit(() -> gymClassService.updateClass(gymClass.getId(),
+                            UpdateGymClassRequest.builder().description(description).build())));
+                }
+            }
+            for (Future<?> future : enrollments) {
+                future.get();
+            }
+            for (Future<?> future : updates) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ConcurrentUpdateException.class);
+                }
+            }
+        }
+
+        GymClass reloaded = classRepository.findById(gymClass.getId()).orElseThrow();
+        assertThat(reloaded.getCurrentEnrollment()).isEqualTo(MEMBERS);
+        assertThat(reloaded.getVersion()).isGreaterThanOrEqualTo(MEMBERS);
+    }
+
+    private GymClass createClass() {
+        return classRepository.save(GymClass.builder()
+                .name("HIIT")
+                .instructor("Coach")
+                .maxCapacity(MEMBERS * 2)
+                .scheduledAt(LocalDateTime.now().plusDays(3))
+                .classType(ClassType.HIIT)
+                .build());
+    }
+
+    private List<UUID> createMembers() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .firstName("Member")
+                    .lastName(String.valueOf(i))
+                    .email(UUID.randomUUID() + "@concurrency.test")
+                    .dateOfBirth(LocalDate.of(1990, 1, 1))
+                    .build());
+            subscriptionRepository.save(Subscription.builder()
+                    .member(member)
+                    .membershipPlan(plan)
+                    .startDate(LocalDate.now().minusDays(1))
+                    .endDate(LocalDate.now().plusMonths(1))
+                    .build());
+            ids.add(member.getId());
+        }
+        return ids;
+    }
+}
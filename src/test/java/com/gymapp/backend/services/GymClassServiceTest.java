@@ -1,11 +1,20 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.cache.AvailableClassIndex;
+import com.gymapp.backend.cache.ClassTimetable;
+import com.gymapp.backend.cache.MemberEntitlement;
+import com.gymapp.backend.cache.MemberEntitlementCache;
 import com.gymapp.backend.dtos.requests.CreateGymClassRequest;
 import com.gymapp.backend.dtos.responses.ClassEnrollmentResponse;
 import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.events.GymClassChangedEvent;
 import com.gymapp.backend.exceptions.ClassFullException;
+import com.gymapp.backend.exceptions.ClassQuotaExceededException;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
+import com.gymapp.backend.exceptions.InvalidOperationException;
+import com.gymapp.backend.exceptions.MembershipExpiredException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.logging.HotPathEvents;
 import com.gymapp.backend.mappers.ClassEnrollmentMapper;
 import com.gymapp.backend.mappers.GymClassMapper;
 import com.gymapp.backend.entities.ClassEnrollment;
@@ -15,19 +24,26 @@ import com.gymapp.backend.enums.ClassType;
 import com.gymapp.backend.enums.EnrollmentStatus;
 import com.gymapp.backend.repositories.ClassEnrollmentRepository;
 import com.gymapp.backend.repositories.GymClassRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,11 +65,35 @@ class GymClassServiceTest {
     @Mock
     private ClassEnrollmentMapper enrollmentMapper;
 
+    @Mock
+    private ClassTimetable classTimetable;
+
+    @Mock
+    private AvailableClassIndex availableClassIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private MemberService memberService;
 
     @Mock
-    private SubscriptionService subscriptionService;
+    private MemberEntitlementCache entitlementCache;
+
+    @Mock
+    private MemberActivityService memberActivityService;
+
+    @Mock
+    private ClassQuotaService classQuotaService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private HotPathEvents hotPathEvents = new HotPathEvents(new SimpleMeterRegistry(), 1);
 
     @InjectMocks
     private GymClassService gymClassService;
@@ -62,6 +102,7 @@ class GymClassServiceTest {
     private GymClassResponse gymClassResponse;
     private CreateGymClassRequest createRequest;
     private Member member;
+    private MemberEntitlement entitlement;
     private UUID classId;
     private UUID memberId;
 
@@ -115,6 +156,8 @@ class GymClassServiceTest {
                 .active(true)
                 .build();
         member.setId(memberId);
+
+        entitlement = new MemberEntitlement(memberId, "Premium", true, true, 8, LocalDate.now().plusMonths(1));
     }
 
     @Test
@@ -129,6 +172,7 @@ class GymClassServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo(createRequest.getName());
         verify(classRepository).save(any(GymClass.class));
+        verify(eventPublisher).publishEvent(new GymClassChangedEvent(gymClassResponse));
     }
 
     @Test
@@ -152,15 +196,68 @@ class GymClassServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("Should return last modified timestamp without loading the class")
+    void getClassLastModified_Success() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        when(classRepository.findUpdatedAtById(classId)).thenReturn(Optional.of(updatedAt));
+
+        assertThat(gymClassService.getClassLastModified(classId)).isEqualTo(updatedAt);
+        verify(classRepository, never()).findById(classId);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when looking up last modified of missing class")
+    void getClassLastModified_NotFound() {
+        when(classRepository.findUpdatedAtById(classId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> gymClassService.getClassLastModified(classId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("Should get all active classes")
-    void getAllActiveClasses_Success() {
-        when(classRepository.findByActiveTrue()).thenReturn(List.of(gymClass));
+    void forEachActiveClass_Success() {
+        when(classRepository.streamByActiveTrue()).thenReturn(Stream.of(gymClass));
         when(classMapper.toResponse(gymClass)).thenReturn(gymClassResponse);
 
-        List<GymClassResponse> result = gymClassService.getAllActiveClasses();
+        List<GymClassResponse> result = new ArrayList<>();
+        gymClassService.forEachActiveClass(result::add);
 
-        assertThat(result).hasSize(1);
+        assertThat(result).containsExactly(gymClassResponse);
+    }
+
+    @Test
+    @DisplayName("Should serve available classes from the index")
+    void getAvailableClasses_Success() {
+        when(availableClassIndex.current()).thenReturn(List.of(gymClassResponse));
+
+        List<GymClassResponse> result = gymClassService.getAvailableClasses();
+
+        assertThat(result).containsExactly(gymClassResponse);
+        verifyNoInteractions(classRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve calendar range from the timetable")
+    void getCalendar_Success() {
+        LocalDate from = LocalDate.of(2025, 3, 3);
+        when(classTimetable.between(from.atStartOfDay(), from.plusDays(7).atStartOfDay(), ClassType.YOGA))
+                .thenReturn(List.of(gymClassResponse));
+
+        List<GymClassResponse> result = gymClassService.getCalendar(from, from.plusDays(6), ClassType.YOGA);
+
+        assertThat(result).containsExactly(gymClassResponse);
+        verifyNoInteractions(classRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject calendar range ending before it starts")
+    void getCalendar_InvalidRange() {
+        LocalDate from = LocalDate.of(2025, 3, 3);
+
+        assertThatThrownBy(() -> gymClassService.getCalendar(from, from.minusDays(1), null))
+                .isInstanceOf(InvalidOperationException.class);
     }
 
     @Test
@@ -194,12 +291,12 @@ class GymClassServiceTest {
                 .status(EnrollmentStatus.ENROLLED)
                 .build();
 
-        when(classRepository.findById(classId)).thenReturn(Optional.of(gymClass));
+        when(classRepository.findByIdForUpdate(classId)).thenReturn(Optional.of(gymClass));
         when(memberService.findMemberById(memberId)).thenReturn(member);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(true);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(entitlement));
         when(enrollmentRepository.existsByMemberIdAndGymClassId(memberId, classId)).thenReturn(false);
         when(enrollmentRepository.save(any(ClassEnrollment.class))).thenReturn(enrollment);
-        when(classRepository.save(any(GymClass.class))).thenReturn(gymClass);
+        when(classRepository.saveAndFlush(any(GymClass.class))).thenReturn(gymClass);
         when(enrollmentMapper.toResponse(enrollment)).thenReturn(enrollmentResponse);
 
         ClassEnrollmentResponse result = gymClassService.enrollMember(classId, memberId);
@@ -207,6 +304,38 @@ class GymClassServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getMemberId()).isEqualTo(memberId);
         verify(enrollmentRepository).save(any(ClassEnrollment.class));
+        verify(memberActivityService).recordClassEnrollment(memberId, gymClass.getScheduledAt(), 1);
+        verify(classQuotaService).reserve(entitlement, gymClass.getScheduledAt());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when member has no active subscription")
+    void enrollMember_NoActiveSubscription() {
+        when(classRepository.findByIdForUpdate(classId)).thenReturn(Optional.of(gymClass));
+        when(memberService.findMemberById(memberId)).thenReturn(member);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> gymClassService.enrollMember(classId, memberId))
+                .isInstanceOf(MembershipExpiredException.class);
+
+        verify(enrollmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should not enroll when the monthly class quota is used up")
+    void enrollMember_QuotaExceeded() {
+        when(classRepository.findByIdForUpdate(classId)).thenReturn(Optional.of(gymClass));
+        when(memberService.findMemberById(memberId)).thenReturn(member);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(entitlement));
+        when(enrollmentRepository.existsByMemberIdAndGymClassId(memberId, classId)).thenReturn(false);
+        doThrow(new ClassQuotaExceededException(8, YearMonth.from(gymClass.getScheduledAt())))
+                .when(classQuotaService).reserve(entitlement, gymClass.getScheduledAt());
+
+        assertThatThrownBy(() -> gymClassService.enrollMember(classId, memberId))
+                .isInstanceOf(ClassQuotaExceededException.class);
+
+        verify(enrollmentRepository, never()).save(any());
+        verify(classRepository, never()).save(any());
     }
 
     @Test
@@ -214,9 +343,9 @@ class GymClassServiceTest {
     void enrollMember_ClassFull() {
         gymClass.setCurrentEnrollment(20);
 
-        when(classRepository.findById(classId)).thenReturn(Optional.of(gymClass));
+        when(classRepository.findByIdForUpdate(classId)).thenReturn(Optional.of(gymClass));
         when(memberService.findMemberById(memberId)).thenReturn(member);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(true);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(entitlement));
         when(enrollmentRepository.existsByMemberIdAndGymClassId(memberId, classId)).thenReturn(false);
 
         assertThatThrownBy(() -> gymClassService.enrollMember(classId, memberId))
@@ -226,9 +355,9 @@ class GymClassServiceTest {
     @Test
     @DisplayName("Should throw exception when already enrolled")
     void enrollMember_AlreadyEnrolled() {
-        when(classRepository.findById(classId)).thenReturn(Optional.of(gymClass));
+        when(classRepository.findByIdForUpdate(classId)).thenReturn(Optional.of(gymClass));
         when(memberService.findMemberById(memberId)).thenReturn(member);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(true);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(entitlement));
         when(enrollmentRepository.existsByMemberIdAndGymClassId(memberId, classId)).thenReturn(true);
 
         assertThatThrownBy(() -> gymClassService.enrollMember(classId, memberId))
@@ -0,0 +1,126 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.entities.Attendance;
+import com.gymapp.backend.entities.ClassEnrollment;
+import com.gymapp.backend.entities.GymClass;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.entities.MemberActivityCounter;
+import com.gymapp.backend.enums.ClassType;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.ClassEnrollmentRepository;
+import com.gymapp.backend.repositories.GymClassRepository;
+import com.gymapp.backend.repositories.MemberActivityCounterRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MemberActivityConcurrencyTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private MemberActivityService memberActivityService;
+
+    @Autowired
+    private MemberActivityCounterRepository counterRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GymClassRepository classRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private ClassEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should not lose increments when the first writes for a member's month race")
+    void recordVisits_ConcurrentFirstWrites() throws Exception {
+        Member member = memberRepository.save(Member.builder()
+                .firstName("Count")
+                .lastName("Race")
+                .email(UUID.randomUUID() + "@activity.test")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .build());
+        UUID memberId = member.getId();
+        LocalDate visitDate = LocalDate.of(2020, 6, 15);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                boolean visit = i % 2 == 0;
+                LocalDateTime at = visitDate.atTime(6 + i, 0);
+                GymClass gymClass = visit ? null : classRepository.save(GymClass.builder()
+                        .name("Race " + i)
+                        .instructor("Coach")
+                        .maxCapacity(10)
+                        .scheduledAt(at)
+                        .classType(ClassType.HIIT)
+                        .build());
+                futures.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    // Like the real callers: write the row, then record it in the same transaction.
+                    // H2 emulates the seed upsert with a MERGE that two inserts can race, so a losing
+                    // transaction is retried here; MySQL's ON DUPLICATE KEY UPDATE never raises the conflict.
+                    for (int attempt = 1; ; attempt++) {
+                        try {
+                            transaction.executeWithoutResult(status -> {
+                                if (visit) {
+                                    attendanceRepository.save(Attendance.builder()
+                                            .member(member).checkInTime(at).visitDate(visitDate).build());
+                                    memberActivityService.recordVisits(memberId, visitDate, 1);
+                                } else {
+                                    enrollmentRepository.save(ClassEnrollment.builder()
+                                            .member(member).gymClass(gymClass).build());
+                                    memberActivityService.recordClassEnrollment(memberId, at, 1);
+                                }
+                            });
+                            break;
+                        } catch (DataIntegrityViolationException e) {
+                            if (attempt == THREADS) {
+                                throw e;
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        MemberActivityCounter counter = counterRepository
+                .findByMemberIdAndPeriodStart(memberId, visitDate.withDayOfMonth(1))
+                .orElseThrow();
+        assertThat(counter.getVisitCount()).isEqualTo(THREADS / 2);
+        assertThat(counter.getClassCount()).isEqualTo(THREADS / 2);
+    }
+}
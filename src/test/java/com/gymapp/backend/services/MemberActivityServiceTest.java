@@ -0,0 +1,198 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.entities.MemberActivityCounter;
+import com.gymapp.backend.repositories.AttendanceArchiveRepository;
+import com.gymapp.backend.repositories.AttendanceRepository;
+import com.gymapp.backend.repositories.ClassEnrollmentRepository;
+import com.gymapp.backend.repositories.MemberActivityCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberActivityServiceTest {
+
+    @Mock
+    private MemberActivityCounterRepository counterRepository;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceArchiveRepository archiveRepository;
+
+    @Mock
+    private ClassEnrollmentRepository enrollmentRepository;
+
+    @InjectMocks
+    private MemberActivityService activityService;
+
+    private UUID memberId;
+    private YearMonth lastYear;
+
+    @BeforeEach
+    void setUp() {
+        memberId = UUID.randomUUID();
+        lastYear = YearMonth.now().minusYears(1);
+    }
+
+    @Test
+    @DisplayName("Should increment an existing monthly bucket")
+    void recordVisits_IncrementsBucket() {
+        LocalDate visitDate = lastYear.atDay(10);
+        when(counterRepository.existsByMemberIdAndPeriodStart(memberId, lastYear.atDay(1))).thenReturn(true);
+
+        activityService.recordVisits(memberId, visitDate, 1);
+
+        verify(counterRepository).addVisits(memberId, lastYear.atDay(1), 1);
+        verify(counterRepository, never()).seed(any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong());
+        verifyNoInteractions(attendanceRepository);
+    }
+
+    @Test
+    @DisplayName("Should seed a missing bucket from hot and archived attendance and enrollments")
+    void recordVisits_SeedsMissingBucket() {
+        when(counterRepository.existsByMemberIdAndPeriodStart(memberId, lastYear.atDay(1))).thenReturn(false);
+        when(attendanceRepository.countVisitsByMemberBetweenDates(memberId, lastYear.atDay(1), lastYear.atEndOfMonth()))
+                .thenReturn(5L);
+        when(archiveRepository.countVisitsByMemberBetweenDates(memberId, lastYear.atDay(1), lastYear.atEndOfMonth()))
+                .thenReturn(2L);
+        when(enrollmentRepository.countMemberEnrollmentsBetween(eq(memberId), any(), any())).thenReturn(3L);
+
+        activityService.recordVisits(memberId, lastYear.atDay(10), 1);
+
+        verify(counterRepository).seed(any(UUID.class), eq(memberId), eq(lastYear.atDay(1)), eq(7L), eq(3L), eq(1L), eq(0L));
+        verify(counterRepository, never()).addVisits(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should pass the enrollment delta to the seed in case another transaction created the bucket first")
+    void recordClassEnrollment_SeedsMissingBucket() {
+        when(counterRepository.existsByMemberIdAndPeriodStart(memberId, lastYear.atDay(1))).thenReturn(false);
+
+        activityService.recordClassEnrollment(memberId, lastYear.atDay(10).atTime(18, 0), -1);
+
+        verify(counterRepository).seed(any(UUID.class), eq(memberId), eq(lastYear.atDay(1)), eq(0L), eq(0L), eq(0L), eq(-1L));
+        verify(counterRepository, never()).addClasses(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should increment a chunk's loaded buckets and insert the missing ones seeded from grouped counts")
+    void recordVisits_Batch() {
+        UUID newcomerId = UUID.randomUUID();
+        YearMonth next = lastYear.plusMonths(1);
+        MemberActivityCounter existing = bucket(lastYear, 12);
+        when(counterRepository.findAllForUpdate(Set.of(memberId, newcomerId), Set.of(lastYear.atDay(1), next.atDay(1))))
+                .thenReturn(List.of(existing));
+        when(attendanceRepository.countVisitsByMembersPerMonth(anyCollection(), eq(lastYear.atDay(1)), eq(next.atEndOfMonth())))
+                .thenReturn(List.<Object[]>of(
+                        new Object[]{memberId, next.getYear(), next.getMonthValue(), 2L},
+                        new Object[]{newcomerId, lastYear.getYear(), lastYear.getMonthValue(), 4L}));
+        when(archiveRepository.countVisitsByMembersPerMonth(anyCollection(), any(), any())).thenReturn(List.of());
+        when(enrollmentRepository.countEnrollmentsByMembersPerMonth(anyCollection(), any(), any())).thenReturn(List.<Object[]>of(
+                new Object[]{memberId, next.getYear(), next.getMonthValue(), 1L}));
+
+        activityService.recordVisits(Map.of(
+                memberId, Map.of(lastYear, 3L, next, 2L),
+                newcomerId, Map.of(lastYear, 4L)));
+
+        assertThat(existing.getVisitCount()).isEqualTo(15);
+        ArgumentCaptor<List<MemberActivityCounter>> seeded = captor();
+        verify(counterRepository).saveAll(seeded.capture());
+        assertThat(seeded.getValue())
+                .extracting(MemberActivityCounter::getMemberId, MemberActivityCounter::getPeriodStart,
+                        MemberActivityCounter::getVisitCount, MemberActivityCounter::getClassCount)
+                .containsExactlyInAnyOrder(
+                        tuple(memberId, next.atDay(1), 2L, 1L),
+                        tuple(newcomerId, lastYear.atDay(1), 4L, 0L));
+        verify(counterRepository, never()).addVisits(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should sum full monthly buckets without scanning attendance")
+    void countVisits_FullMonths() {
+        YearMonth next = lastYear.plusMonths(1);
+        when(counterRepository.findByMemberIdAndPeriodStartBetween(memberId, lastYear.atDay(1), next.atDay(1)))
+                .thenReturn(List.of(bucket(lastYear, 12), bucket(next, 8)));
+
+        long visits = activityService.countVisits(memberId, lastYear.atDay(1), next.atEndOfMonth());
+
+        assertThat(visits).isEqualTo(20);
+        verifyNoInteractions(attendanceRepository);
+    }
+
+    @Test
+    @DisplayName("Should correct partial edge months with the shorter day span")
+    void countVisits_EdgeCorrections() {
+        YearMonth next = lastYear.plusMonths(1);
+        LocalDate from = lastYear.atDay(3);
+        LocalDate to = next.atDay(2);
+        when(counterRepository.findByMemberIdAndPeriodStartBetween(memberId, lastYear.atDay(1), next.atDay(1)))
+                .thenReturn(List.of(bucket(lastYear, 12), bucket(next, 8)));
+        when(attendanceRepository.countVisitsByMemberBetweenDates(memberId, lastYear.atDay(1), lastYear.atDay(2)))
+                .thenReturn(1L);
+        when(attendanceRepository.countVisitsByMemberBetweenDates(memberId, next.atDay(1), next.atDay(2)))
+                .thenReturn(2L);
+
+        long visits = activityService.countVisits(memberId, from, to);
+
+        assertThat(visits).isEqualTo(11 + 2);
+    }
+
+    @Test
+    @DisplayName("Should treat days after today as empty when using the current month's bucket")
+    void countVisits_CurrentMonth() {
+        YearMonth current = YearMonth.now();
+        when(counterRepository.findByMemberIdAndPeriodStartBetween(memberId, current.atDay(1), current.atDay(1)))
+                .thenReturn(List.of(bucket(current, 5)));
+
+        long visits = activityService.countVisits(memberId, current.atDay(1), LocalDate.now());
+
+        assertThat(visits).isEqualTo(5);
+        verifyNoInteractions(attendanceRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to counting attendance for months without a bucket")
+    void countVisits_FallsBackWithoutBucket() {
+        when(counterRepository.findByMemberIdAndPeriodStartBetween(memberId, lastYear.atDay(1), lastYear.atDay(1)))
+                .thenReturn(List.of());
+        when(attendanceRepository.countVisitsByMemberBetweenDates(memberId, lastYear.atDay(5), lastYear.atDay(20)))
+                .thenReturn(4L);
+
+        assertThat(activityService.countVisits(memberId, lastYear.atDay(5), lastYear.atDay(20))).isEqualTo(4);
+    }
+
+    private MemberActivityCounter bucket(YearMonth month, long visits) {
+        return MemberActivityCounter.builder()
+                .memberId(memberId)
+                .periodStart(month.atDay(1))
+                .visitCount(visits)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<MemberActivityCounter>> captor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
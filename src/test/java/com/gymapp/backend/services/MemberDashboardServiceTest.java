@@ -0,0 +1,150 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.requests.CheckInRequest;
+import com.gymapp.backend.dtos.requests.CreateSubscriptionRequest;
+import com.gymapp.backend.dtos.responses.ClassEnrollmentResponse;
+import com.gymapp.backend.dtos.responses.MemberDashboardResponse;
+import com.gymapp.backend.entities.GymClass;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.entities.MembershipPlan;
+import com.gymapp.backend.enums.ClassType;
+import com.gymapp.backend.enums.SubscriptionStatus;
+import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.repositories.GymClassRepository;
+import com.gymapp.backend.repositories.MemberDashboardRepository;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.MembershipPlanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class MemberDashboardServiceTest {
+
+    @Autowired
+    private MemberDashboardService dashboardService;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private GymClassService gymClassService;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipPlanRepository planRepository;
+
+    @Autowired
+    private GymClassRepository classRepository;
+
+    @Autowired
+    private MemberDashboardRepository dashboardRepository;
+
+    private Member member;
+
+    private MembershipPlan plan;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .firstName("Dash")
+                .lastName("Board")
+                .email(UUID.randomUUID() + "@dashboard.test")
+                .dateOfBirth(LocalDate.of(1992, 3, 4))
+                .build());
+        plan = planRepository.save(MembershipPlan.builder()
+                .name("Dashboard " + UUID.randomUUID().toString().substring(0, 8))
+                .price(new BigDecimal("39.99"))
+                .durationMonths(1)
+                .includesGroupClasses(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should build the dashboard lazily on first read and serve the stored snapshot afterwards")
+    void getDashboard_BuildsOnFirstRead() {
+        assertThat(dashboardRepository.findById(member.getId())).isEmpty();
+
+        MemberDashboardResponse first = dashboardService.getDashboard(member.getId());
+        MemberDashboardResponse second = dashboardService.getDashboard(member.getId());
+
+        assertThat(first.getFirstName()).isEqualTo("Dash");
+        assertThat(first.getSubscription()).isNull();
+        assertThat(first.getActiveEnrollments()).isEmpty();
+        assertThat(first.getVisitMonth()).isEqualTo(YearMonth.now());
+        assertThat(dashboardRepository.findById(member.getId())).isPresent();
+        assertThat(second.getRefreshedAt()).isEqualTo(first.getRefreshedAt());
+    }
+
+    @Test
+    @DisplayName("Should refresh the dashboard after subscription, enrollment and check-in writes")
+    void getDashboard_ReflectsCommittedWrites() {
+        dashboardService.getDashboard(member.getId());
+
+        subscriptionService.createSubscription(CreateSubscriptionRequest.builder()
+                .memberId(member.getId())
+                .planId(plan.getId())
+                .startDate(LocalDate.now())
+                .build());
+        GymClass gymClass = classRepository.save(GymClass.builder()
+                .name("Spin")
+                .instructor("Coach")
+                .maxCapacity(10)
+                .scheduledAt(LocalDateTime.now().plusDays(2))
+                .classType(ClassType.HIIT)
+                .build());
+        gymClassService.enrollMember(gymClass.getId(), member.getId());
+        attendanceService.checkIn(CheckInRequest.builder().memberId(member.getId()).build());
+
+        MemberDashboardResponse dashboard = dashboardService.getDashboard(member.getId());
+
+        assertThat(dashboard.getSubscription().getStatus()).isEqualTo(SubscriptionStatus.ACTIVE);
+        assertThat(dashboard.getSubscription().getPlanName()).isEqualTo(plan.getName());
+        assertThat(dashboard.getActiveEnrollments())
+                .extracting(ClassEnrollmentResponse::getGymClassId)
+                .containsExactly(gymClass.getId());
+        assertThat(dashboard.getVisitsThisMonth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the snapshot on a write and rebuild it on the next read")
+    void getDashboard_RebuildsAfterInvalidation() {
+        dashboardService.getDashboard(member.getId());
+
+        subscriptionService.createSubscription(CreateSubscriptionRequest.builder()
+                .memberId(member.getId())
+                .planId(plan.getId())
+                .startDate(LocalDate.now())
+                .build());
+
+        assertThat(dashboardRepository.findById(member.getId())).isEmpty();
+        assertThat(dashboardService.getDashboard(member.getId()).getSubscription()).isNotNull();
+        assertThat(dashboardRepository.findById(member.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should return not found for unknown members")
+    void getDashboard_UnknownMember() {
+        UUID unknownId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> dashboardService.getDashboard(unknownId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(dashboardRepository.findById(unknownId)).isEmpty();
+    }
+}
@@ -0,0 +1,192 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.responses.ClassEnrollmentResponse;
+import com.gymapp.backend.dtos.responses.MemberOverviewResponse;
+import com.gymapp.backend.dtos.responses.MemberResponse;
+import com.gymapp.backend.dtos.responses.SubscriptionResponse;
+import com.gymapp.backend.dtos.responses.TrainingSessionResponse;
+import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.exceptions.UpstreamTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberOverviewServiceTest {
+    private static final long BRANCH_LATENCY_MILLIS = 150;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private SubscriptionService subscriptionService;
+
+    @Mock
+    private GymClassService gymClassService;
+
+    @Mock
+    private TrainingSessionService sessionService;
+
+    @Mock
+    private AttendanceService attendanceService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MemberOverviewService overviewService;
+
+    private UUID memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = UUID.randomUUID();
+        overviewService = new MemberOverviewService(memberService, subscriptionService, gymClassService,
+                sessionService, attendanceService, meterRegistry, Duration.ofSeconds(2), Duration.ofMillis(500), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        overviewService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run the sections concurrently so latency tracks the slowest one")
+    void getOverview_RunsBranchesConcurrently() {
+        MemberResponse member = MemberResponse.builder().id(memberId).firstName("John").build();
+        SubscriptionResponse subscription = SubscriptionResponse.builder().memberId(memberId).build();
+        when(memberService.getMemberById(memberId)).thenAnswer(slow(member));
+        when(subscriptionService.getMemberSubscription(memberId)).thenAnswer(slow(subscription));
+        when(gymClassService.getMemberEnrollments(memberId)).thenAnswer(slow(List.of(new ClassEnrollmentResponse())));
+        when(sessionService.getUpcomingMemberSessions(memberId)).thenAnswer(slow(List.of(new TrainingSessionResponse())));
+        when(attendanceService.getMemberVisitCount(eq(memberId), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(slow(4L));
+
+        long start = System.nanoTime();
+        MemberOverviewResponse overview = overviewService.getOverview(memberId);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(overview.getMember()).isEqualTo(member);
+        assertThat(overview.getSubscription()).isEqualTo(subscription);
+        assertThat(overview.getActiveEnrollments()).hasSize(1);
+        assertThat(overview.getUpcomingSessions()).hasSize(1);
+        assertThat(overview.getVisitMonth()).isEqualTo(YearMonth.now());
+        assertThat(overview.getVisitsThisMonth()).isEqualTo(4L);
+        assertThat(overview.getUnavailable()).isEmpty();
+        assertThat(elapsedMillis).isLessThan(BRANCH_LATENCY_MILLIS * 3);
+    }
+
+    @Test
+    @DisplayName("Should return a partial overview when a section misses its timeout")
+    void getOverview_SlowBranchIsDropped() throws Exception {
+        when(memberService.getMemberById(memberId)).thenReturn(MemberResponse.builder().id(memberId).build());
+        when(subscriptionService.getMemberSubscription(memberId))
+                .thenThrow(new ResourceNotFoundException("Subscription", "memberId", memberId));
+        when(gymClassService.getMemberEnrollments(memberId)).thenReturn(List.of());
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(sessionService.getUpcomingMemberSessions(memberId)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return List.of();
+        });
+        when(attendanceService.getMemberVisitCount(eq(memberId), any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new IllegalStateException("replica unavailable"));
+
+        MemberOverviewResponse overview = overviewService.getOverview(memberId);
+
+        assertThat(overview.getSubscription()).isNull();
+        assertThat(overview.getActiveEnrollments()).isEmpty();
+        assertThat(overview.getUpcomingSessions()).isNull();
+        assertThat(overview.getVisitsThisMonth()).isNull();
+        assertThat(overview.getUnavailable()).containsExactly("upcomingSessions", "visitsThisMonth");
+        assertThat(meterRegistry.counter(MemberOverviewService.TIMEOUTS_METRIC, "branch", "upcomingSessions").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter(MemberOverviewService.FAILURES_METRIC, "branch", "visitsThisMonth").count())
+                .isEqualTo(1);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not run more sections at once than the configured limit")
+    void getOverview_LimitsConcurrentBranches() {
+        overviewService.shutdown();
+        overviewService = new MemberOverviewService(memberService, subscriptionService, gymClassService,
+                sessionService, attendanceService, meterRegistry, Duration.ofSeconds(2), Duration.ofSeconds(2), 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(memberService.getMemberById(memberId)).thenAnswer(tracked(running, peak, new MemberResponse()));
+        when(subscriptionService.getMemberSubscription(memberId)).thenAnswer(tracked(running, peak, null));
+        when(gymClassService.getMemberEnrollments(memberId)).thenAnswer(tracked(running, peak, List.of()));
+        when(sessionService.getUpcomingMemberSessions(memberId)).thenAnswer(tracked(running, peak, List.of()));
+        when(attendanceService.getMemberVisitCount(eq(memberId), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(tracked(running, peak, 0L));
+
+        MemberOverviewResponse overview = overviewService.getOverview(memberId);
+
+        assertThat(overview.getUnavailable()).isEmpty();
+        assertThat(peak.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should surface a missing member as not found")
+    void getOverview_MemberNotFound() {
+        when(memberService.getMemberById(memberId)).thenThrow(new ResourceNotFoundException("Member", "id", memberId));
+
+        assertThatThrownBy(() -> overviewService.getOverview(memberId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail with a timeout when the member lookup is too slow")
+    void getOverview_MemberTimeout() {
+        overviewService.shutdown();
+        overviewService = new MemberOverviewService(memberService, subscriptionService, gymClassService,
+                sessionService, attendanceService, meterRegistry, Duration.ofMillis(50), Duration.ofMillis(50), 10);
+        when(memberService.getMemberById(memberId)).thenAnswer(slow(new MemberResponse()));
+
+        assertThatThrownBy(() -> overviewService.getOverview(memberId))
+                .isInstanceOf(UpstreamTimeoutException.class);
+    }
+
+    private static <T> Answer<T> tracked(AtomicInteger running, AtomicInteger peak, T result) {
+        return invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(BRANCH_LATENCY_MILLIS);
+            } finally {
+                running.decrementAndGet();
+            }
+            return result;
+        };
+    }
+
+    private static <T> Answer<T> slow(T result) {
+        return invocation -> {
+            Thread.sleep(BRANCH_LATENCY_MILLIS);
+            return result;
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.gymapp.backend.services;
 import com.gymapp.backend.dtos.requests.CreateMemberRequest;
 import com.gymapp.backend.dtos.requests.UpdateMemberRequest;
 import com.gymapp.backend.dtos.responses.MemberResponse;
+import com.gymapp.backend.events.MemberChangedEvent;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
 import com.gymapp.backend.mappers.MemberMapper;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -39,6 +41,9 @@ class MemberServiceTest {
     @Mock
     private MemberMapper memberMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -130,6 +135,25 @@ class MemberServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("Should return last modified timestamp without loading the member")
+    void getMemberLastModified_Success() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        when(memberRepository.findUpdatedAtById(memberId)).thenReturn(Optional.of(updatedAt));
+
+        assertThat(memberService.getMemberLastModified(memberId)).isEqualTo(updatedAt);
+        verify(memberRepository, never()).findById(memberId);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when looking up last modified of missing member")
+    void getMemberLastModified_NotFound() {
+        when(memberRepository.findUpdatedAtById(memberId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> memberService.getMemberLastModified(memberId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("Should get all members with pagination")
     void getAllMembers_Success() {
@@ -176,6 +200,7 @@ class MemberServiceTest {
         assertThat(result).isNotNull();
         verify(memberMapper).updateEntity(updateRequest, member);
         verify(memberRepository).save(member);
+        verify(eventPublisher).publishEvent(new MemberChangedEvent(memberId));
     }
 
     @Test
@@ -1,13 +1,16 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.cache.PlanCatalog;
 import com.gymapp.backend.dtos.requests.CreateMembershipPlanRequest;
 import com.gymapp.backend.dtos.requests.UpdateMembershipPlanRequest;
 import com.gymapp.backend.dtos.responses.MembershipPlanResponse;
+import com.gymapp.backend.events.MembershipPlanChangedEvent;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
 import com.gymapp.backend.mappers.MembershipPlanMapper;
 import com.gymapp.backend.entities.MembershipPlan;
 import com.gymapp.backend.repositories.MembershipPlanRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -36,6 +40,15 @@ class MembershipPlanServiceTest {
     @Mock
     private MembershipPlanMapper planMapper;
 
+    @Mock
+    private PlanCatalog planCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private MembershipPlanService planService;
 
@@ -132,16 +145,35 @@ class MembershipPlanServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("Should return last modified timestamp without loading the plan")
+    void getPlanLastModified_Success() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        when(planRepository.findUpdatedAtById(planId)).thenReturn(Optional.of(updatedAt));
+
+        assertThat(planService.getPlanLastModified(planId)).isEqualTo(updatedAt);
+        verify(planRepository, never()).findById(planId);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when looking up last modified of missing plan")
+    void getPlanLastModified_NotFound() {
+        when(planRepository.findUpdatedAtById(planId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> planService.getPlanLastModified(planId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("Should get all active plans")
     void getAllActivePlans_Success() {
-        when(planRepository.findByActiveTrueOrderByPriceAsc()).thenReturn(List.of(plan));
-        when(planMapper.toResponse(plan)).thenReturn(planResponse);
+        when(planCatalog.current()).thenReturn(new PlanCatalog.Snapshot(List.of(planResponse), new byte[0], "\"etag\""));
 
         List<MembershipPlanResponse> result = planService.getAllActivePlans();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo(plan.getName());
+        verify(planRepository, never()).findByActiveTrueOrderByPriceAsc();
     }
 
     @Test
@@ -172,5 +204,6 @@ class MembershipPlanServiceTest {
 
         assertThat(plan.isActive()).isFalse();
         verify(planRepository).save(plan);
+        verify(eventPublisher).publishEvent(new MembershipPlanChangedEvent(planId));
     }
 }
@@ -0,0 +1,123 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.responses.SubscriptionResponse;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.entities.MembershipPlan;
+import com.gymapp.backend.entities.Subscription;
+import com.gymapp.backend.enums.SubscriptionStatus;
+import com.gymapp.backend.events.SubscriptionChangedEvent;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.MembershipPlanRepository;
+import com.gymapp.backend.repositories.SubscriptionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SubscriptionConcurrencyTest {
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipPlanRepository planRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Interleaver interleaver;
+
+    @Test
+    @DisplayName("Should retry a cancellation that loses an optimistic lock race with a renewal")
+    void cancelSubscription_RetriesAfterConcurrentRenewal() throws Exception {
+        Subscription subscription = createSubscription(LocalDate.now().minusMonths(1).plusDays(3));
+        double retriedBefore = retried("SubscriptionService.cancelSubscription");
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            // The renewal commits while the cancellation is still inside its transaction
+            interleaver.next.set(() -> executor.submit(() -> subscriptionService.renewSubscription(subscription.getId(), null))
+                    .get(10, TimeUnit.SECONDS));
+
+            SubscriptionResponse cancelled = subscriptionService.cancelSubscription(subscription.getId());
+
+            assertThat(cancelled.getStatus()).isEqualTo(SubscriptionStatus.CANCELLED);
+        }
+
+        Subscription reloaded = subscriptionRepository.findById(subscription.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(SubscriptionStatus.CANCELLED);
+        assertThat(reloaded.getEndDate()).isEqualTo(LocalDate.now().plusMonths(1));
+        assertThat(reloaded.getVersion()).isEqualTo(subscription.getVersion() + 2);
+        assertThat(retried("SubscriptionService.cancelSubscription")).isEqualTo(retriedBefore + 1);
+    }
+
+    private double retried(String operation) {
+        return meterRegistry.counter("gymapp.optimistic.calls", "method", operation, "outcome", "retried").count();
+    }
+
+    private Subscription createSubscription(LocalDate endDate) {
+        MembershipPlan plan = planRepository.save(MembershipPlan.builder()
+                .name("Retry " + UUID.randomUUID().toString().substring(0, 8))
+                .price(new BigDecimal("29.99"))
+                .durationMonths(1)
+                .build());
+        Member member = memberRepository.save(Member.builder()
+                .firstName("Retry")
+                .lastName("Member")
+                .email(UUID.randomUUID() + "@retry.test")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .build());
+        return subscriptionRepository.save(Subscription.builder()
+                .member(member)
+                .membershipPlan(plan)
+                .startDate(endDate.minusMonths(1))
+                .endDate(endDate)
+                .build());
+    }
+
+    @TestConfiguration
+    static class InterleavingConfig {
+        @Bean
+        Interleaver interleaver() {
+            return new Interleaver();
+        }
+    }
+
+    static class Interleaver {
+        private final AtomicReference<ThrowingRunnable> next = new AtomicReference<>();
+
+        @EventListener
+        public void onSubscriptionChanged(SubscriptionChangedEvent event) throws Exception {
+            ThrowingRunnable action = next.getAndSet(null);
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -5,7 +5,9 @@ import com.gymapp.backend.dtos.responses.SubscriptionResponse;
 import com.gymapp.backend.entities.Member;
 import com.gymapp.backend.entities.MembershipPlan;
 import com.gymapp.backend.entities.Subscription;
+import com.gymapp.backend.enums.OutboxEventType;
 import com.gymapp.backend.enums.SubscriptionStatus;
+import com.gymapp.backend.events.SubscriptionChangedEvent;
 import com.gymapp.backend.exceptions.DuplicateResourceException;
 import com.gymapp.backend.exceptions.InvalidOperationException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -46,6 +49,12 @@ class SubscriptionServiceTest {
     @Mock
     private MembershipPlanService planService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private SubscriptionService subscriptionService;
 
@@ -121,6 +130,9 @@ class SubscriptionServiceTest {
         assertThat(result.getMemberId()).isEqualTo(memberId);
         assertThat(result.getStatus()).isEqualTo(SubscriptionStatus.ACTIVE);
         verify(subscriptionRepository).save(any(Subscription.class));
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(memberId));
+        verify(outboxService).append(OutboxEventType.SUBSCRIPTION_CREATED, OutboxService.MEMBER, memberId,
+                subscriptionResponse);
     }
 
     @Test
@@ -194,6 +206,9 @@ class SubscriptionServiceTest {
 
         assertThat(result.getStatus()).isEqualTo(SubscriptionStatus.CANCELLED);
         verify(subscriptionRepository).save(subscription);
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(memberId));
+        verify(outboxService).append(OutboxEventType.SUBSCRIPTION_CANCELLED, OutboxService.MEMBER, memberId,
+                cancelledResponse);
     }
 
     @Test
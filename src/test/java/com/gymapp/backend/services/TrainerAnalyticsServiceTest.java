@@ -0,0 +1,123 @@
+package com.gymapp.backend.services;
+
+import com.gymapp.backend.dtos.responses.TrainerAnalyticsResponse;
+import com.gymapp.backend.dtos.responses.TrainerUtilizationResponse;
+import com.gymapp.backend.entities.Member;
+import com.gymapp.backend.entities.Trainer;
+import com.gymapp.backend.entities.TrainingSession;
+import com.gymapp.backend.enums.SessionStatus;
+import com.gymapp.backend.exceptions.InvalidOperationException;
+import com.gymapp.backend.repositories.MemberRepository;
+import com.gymapp.backend.repositories.TrainerRepository;
+import com.gymapp.backend.repositories.TrainingSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TrainerAnalyticsServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2018, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2018, 3, 31);
+
+    @Autowired
+    private TrainerAnalyticsService analyticsService;
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private TrainingSessionRepository sessionRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .firstName("Analytics")
+                .lastName("Member")
+                .email(UUID.randomUUID() + "@analytics.test")
+                .dateOfBirth(LocalDate.of(1990, 2, 2))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should aggregate booked hours, outcome rates and revenue per trainer within the range")
+    void getAnalytics_AggregatesSessions() {
+        Trainer busy = trainer("Busy", new BigDecimal("60.00"), true);
+        Trainer idle = trainer("Idle", new BigDecimal("45.00"), true);
+        Trainer retired = trainer("Retired", new BigDecimal("40.00"), false);
+        session(busy, FROM.atTime(9, 0), 60, SessionStatus.COMPLETED);
+        session(busy, TO.atTime(23, 0), 90, SessionStatus.COMPLETED);
+        session(busy, FROM.plusDays(3).atTime(10, 0), 60, SessionStatus.NO_SHOW);
+        session(busy, FROM.plusDays(5).atTime(10, 0), 30, SessionStatus.SCHEDULED);
+        session(busy, TO.plusDays(1).atStartOfDay(), 60, SessionStatus.COMPLETED);
+
+        TrainerAnalyticsResponse analytics = analyticsService.getAnalytics(FROM, TO);
+
+        TrainerUtilizationResponse busyStats = find(analytics, busy).orElseThrow();
+        assertThat(busyStats.getSessions()).isEqualTo(4);
+        assertThat(busyStats.getCompletedSessions()).isEqualTo(2);
+        assertThat(busyStats.getNoShowSessions()).isEqualTo(1);
+        assertThat(busyStats.getScheduledSessions()).isEqualTo(1);
+        assertThat(busyStats.getBookedHours()).isEqualByComparingTo("4.00");
+        assertThat(busyStats.getCompletedHours()).isEqualByComparingTo("2.50");
+        assertThat(busyStats.getCompletionRate()).isEqualByComparingTo("0.6667");
+        assertThat(busyStats.getNoShowRate()).isEqualByComparingTo("0.3333");
+        assertThat(busyStats.getRevenue()).isEqualByComparingTo("150.00");
+
+        TrainerUtilizationResponse idleStats = find(analytics, idle).orElseThrow();
+        assertThat(idleStats.getSessions()).isZero();
+        assertThat(idleStats.getCompletionRate()).isNull();
+        assertThat(idleStats.getRevenue()).isEqualByComparingTo("0");
+        assertThat(find(analytics, retired)).isEmpty();
+        assertThat(analytics.getTrainers().getFirst().getTrainerId()).isEqualTo(busy.getId());
+        assertThat(analytics.getTotalRevenue()).isGreaterThanOrEqualTo(new BigDecimal("150.00"));
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void getAnalytics_InvalidRange() {
+        assertThatThrownBy(() -> analyticsService.getAnalytics(TO, FROM))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
+    private Trainer trainer(String firstName, BigDecimal hourlyRate, boolean active) {
+        return trainerRepository.save(Trainer.builder()
+                .firstName(firstName)
+                .lastName("Coach")
+                .email(UUID.randomUUID() + "@trainers.test")
+                .hourlyRate(hourlyRate)
+                .active(active)
+                .build());
+    }
+
+    private void session(Trainer trainer, LocalDateTime scheduledAt, int minutes, SessionStatus status) {
+        sessionRepository.save(TrainingSession.builder()
+                .member(member)
+                .trainer(trainer)
+                .scheduledAt(scheduledAt)
+                .durationMinutes(minutes)
+                .status(status)
+                .build());
+    }
+
+    private static Optional<TrainerUtilizationResponse> find(TrainerAnalyticsResponse analytics, Trainer trainer) {
+        return analytics.getTrainers().stream()
+                .filter(stats -> stats.getTrainerId().equals(trainer.getId()))
+                .findFirst();
+    }
+}
@@ -8,6 +8,7 @@ import com.gymapp.backend.exceptions.ResourceNotFoundException;
 import com.gymapp.backend.mappers.TrainerMapper;
 import com.gymapp.backend.entities.Trainer;
 import com.gymapp.backend.repositories.TrainerRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,9 +23,11 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,6 +43,9 @@ class TrainerServiceTest {
     @Mock
     private TrainerMapper trainerMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private TrainerService trainerService;
 
@@ -136,15 +142,49 @@ class TrainerServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("Should return last modified timestamp without loading the trainer")
+    void getTrainerLastModified_Success() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        when(trainerRepository.findUpdatedAtById(trainerId)).thenReturn(Optional.of(updatedAt));
+
+        assertThat(trainerService.getTrainerLastModified(trainerId)).isEqualTo(updatedAt);
+        verify(trainerRepository, never()).findById(trainerId);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when looking up last modified of missing trainer")
+    void getTrainerLastModified_NotFound() {
+        when(trainerRepository.findUpdatedAtById(trainerId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> trainerService.getTrainerLastModified(trainerId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("Should get all active trainers")
-    void getAllActiveTrainers_Success() {
-        when(trainerRepository.findByActiveTrue()).thenReturn(List.of(trainer));
+    void forEachActiveTrainer_Success() {
+        when(trainerRepository.streamByActiveTrue()).thenReturn(Stream.of(trainer));
         when(trainerMapper.toResponse(trainer)).thenReturn(trainerResponse);
 
-        List<TrainerResponse> result = trainerService.getAllActiveTrainers();
+        List<TrainerResponse> result = new ArrayList<>();
+        trainerService.forEachActiveTrainer(result::add);
 
-        assertThat(result).hasSize(1);
+        assertThat(result).containsExactly(trainerResponse);
+    }
+
+    @Test
+    @DisplayName("Should clear the persistence context periodically while streaming trainers")
+    void forEachActiveTrainer_ClearsPersistenceContext() {
+        int rows = StreamingReads.CLEAR_INTERVAL * 2 + 1;
+        when(trainerRepository.streamByActiveTrue()).thenReturn(Stream.generate(() -> trainer).limit(rows));
+        when(trainerMapper.toResponse(trainer)).thenReturn(trainerResponse);
+
+        List<TrainerResponse> result = new ArrayList<>();
+        trainerService.forEachActiveTrainer(result::add);
+
+        assertThat(result).hasSize(rows);
+        verify(entityManager, times(2)).clear();
     }
 
     @Test
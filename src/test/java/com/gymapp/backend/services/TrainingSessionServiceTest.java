@@ -1,5 +1,7 @@
 package com.gymapp.backend.services;
 
+import com.gymapp.backend.cache.MemberEntitlement;
+import com.gymapp.backend.cache.MemberEntitlementCache;
 import com.gymapp.backend.dtos.requests.BookTrainingSessionRequest;
 import com.gymapp.backend.dtos.responses.TrainingSessionResponse;
 import com.gymapp.backend.entities.Member;
@@ -9,22 +11,28 @@ import com.gymapp.backend.enums.SessionStatus;
 import com.gymapp.backend.exceptions.CancellationNotAllowedException;
 import com.gymapp.backend.exceptions.InvalidOperationException;
 import com.gymapp.backend.exceptions.MembershipExpiredException;
+import com.gymapp.backend.exceptions.PlanNotEntitledException;
 import com.gymapp.backend.exceptions.ResourceNotFoundException;
+import com.gymapp.backend.logging.HotPathEvents;
 import com.gymapp.backend.mappers.TrainingSessionMapper;
 import com.gymapp.backend.repositories.TrainingSessionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -52,7 +60,16 @@ class TrainingSessionServiceTest {
     private TrainerService trainerService;
 
     @Mock
-    private SubscriptionService subscriptionService;
+    private MemberEntitlementCache entitlementCache;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private HotPathEvents hotPathEvents = new HotPathEvents(new SimpleMeterRegistry(), 1);
 
     @InjectMocks
     private TrainingSessionService trainingSessionService;
@@ -65,6 +82,7 @@ class TrainingSessionServiceTest {
     private TrainingSession session;
     private TrainingSessionResponse sessionResponse;
     private BookTrainingSessionRequest bookRequest;
+    private MemberEntitlement entitlement;
 
     @BeforeEach
     void setUp() {
@@ -118,6 +136,8 @@ class TrainingSessionServiceTest {
                 .durationMinutes(60)
                 .notes("Focus on upper body")
                 .build();
+
+        entitlement = new MemberEntitlement(memberId, "Premium", true, true, null, LocalDate.now().plusMonths(1));
     }
 
     @Test
@@ -125,7 +145,7 @@ class TrainingSessionServiceTest {
     void bookSession_Success() {
         when(memberService.findMemberById(memberId)).thenReturn(member);
         when(trainerService.findTrainerById(trainerId)).thenReturn(trainer);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(true);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(entitlement));
         when(sessionRepository.findConflictingSessions(any(), any(), any())).thenReturn(Collections.emptyList());
         when(sessionRepository.save(any(TrainingSession.class))).thenReturn(session);
         when(sessionMapper.toResponse(session)).thenReturn(sessionResponse);
@@ -144,7 +164,7 @@ class TrainingSessionServiceTest {
     void bookSession_NoActiveSubscription() {
         when(memberService.findMemberById(memberId)).thenReturn(member);
         when(trainerService.findTrainerById(trainerId)).thenReturn(trainer);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(false);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> trainingSessionService.bookSession(bookRequest))
                 .isInstanceOf(MembershipExpiredException.class);
@@ -152,12 +172,28 @@ class TrainingSessionServiceTest {
         verify(sessionRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should throw exception when plan does not include personal training")
+    void bookSession_PlanWithoutPersonalTraining() {
+        MemberEntitlement basic = new MemberEntitlement(memberId, "Basic", false, true, 8, LocalDate.now().plusMonths(1));
+        when(memberService.findMemberById(memberId)).thenReturn(member);
+        when(trainerService.findTrainerById(trainerId)).thenReturn(trainer);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(basic));
+
+        assertThatThrownBy(() -> trainingSessionService.bookSession(bookRequest))
+                .isInstanceOf(PlanNotEntitledException.class)
+                .hasMessageContaining("personal training");
+
+        verify(sessionRepository, never()).findConflictingSessions(any(), any(), any());
+        verify(sessionRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should throw exception when trainer has conflicting session")
     void bookSession_TrainerNotAvailable() {
         when(memberService.findMemberById(memberId)).thenReturn(member);
         when(trainerService.findTrainerById(trainerId)).thenReturn(trainer);
-        when(subscriptionService.hasActiveSubscription(memberId)).thenReturn(true);
+        when(entitlementCache.findActive(memberId)).thenReturn(Optional.of(entitlement));
         when(sessionRepository.findConflictingSessions(any(), any(), any())).thenReturn(List.of(session));
 
         assertThatThrownBy(() -> trainingSessionService.bookSession(bookRequest))
@@ -0,0 +1,173 @@
+package com.gymapp.backend.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+    private static final String CHECK_IN = "/api/attendance/check-in";
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(new InMemoryIdempotencyStore(Duration.ofHours(1), DataSize.ofMegabytes(1)),
+                JsonMapper.builder().build(), Duration.ofSeconds(5));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without re-executing the handler")
+    void replaysStoredResponse() throws Exception {
+        FilterChain chain = respond(201);
+
+        MockHttpServletResponse first = perform(CHECK_IN, "key-1", chain);
+        MockHttpServletResponse second = perform(CHECK_IN, "key-1", chain);
+
+        assertThat(executions).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a reused key whose request body differs from the original")
+    void rejectsKeyReusedWithDifferentBody() throws Exception {
+        FilterChain chain = (request, response) -> {
+            assertThat(request.getInputStream().readAllBytes()).isNotEmpty();
+            write((HttpServletResponse) response, 201);
+        };
+
+        perform(CHECK_IN, "key-1", "{\"memberId\":\"m1\"}", chain);
+        MockHttpServletResponse same = perform(CHECK_IN, "key-1", "{\"memberId\":\"m1\"}", chain);
+        MockHttpServletResponse different = perform(CHECK_IN, "key-1", "{\"memberId\":\"m2\"}", chain);
+
+        assertThat(executions).hasValue(1);
+        assertThat(same.getStatus()).isEqualTo(201);
+        assertThat(different.getStatus()).isEqualTo(422);
+        assertThat(different.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    @DisplayName("Should scope keys to the endpoint they were used on")
+    void scopesKeysByPath() throws Exception {
+        FilterChain chain = respond(201);
+
+        perform("/api/classes/c1/enroll", "key-1", chain);
+        perform("/api/classes/c2/enroll", "key-1", chain);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not store error responses so the client can retry")
+    void doesNotStoreErrors() throws Exception {
+        FilterChain chain = respond(400);
+
+        perform(CHECK_IN, "key-1", chain);
+        perform(CHECK_IN, "key-1", chain);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should pass through requests without a key or on other endpoints")
+    void passesThroughUnkeyedRequests() throws Exception {
+        FilterChain chain = respond(201);
+
+        perform(CHECK_IN, null, chain);
+        perform(CHECK_IN, null, chain);
+        perform("/api/members", "key-1", chain);
+        perform("/api/members", "key-1", chain);
+
+        assertThat(executions).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Should reject blank idempotency keys")
+    void rejectsBlankKey() throws Exception {
+        MockHttpServletResponse response = perform(CHECK_IN, "  ", respond(201));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_INVALID");
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent duplicates into a single execution")
+    void coalescesConcurrentDuplicates() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            write((HttpServletResponse) response, 201);
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Future<MockHttpServletResponse> original = executor.submit(() -> perform(CHECK_IN, "key-1", slowChain));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MockHttpServletResponse> duplicateA = executor.submit(() -> perform(CHECK_IN, "key-1", slowChain));
+            Future<MockHttpServletResponse> duplicateB = executor.submit(() -> perform(CHECK_IN, "key-1", slowChain));
+            Thread.sleep(100);
+            release.countDown();
+
+            String body = original.get(5, TimeUnit.SECONDS).getContentAsString();
+            assertThat(duplicateA.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo(body);
+            assertThat(duplicateB.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo(body);
+        }
+        assertThat(executions).hasValue(1);
+    }
+
+    private MockHttpServletResponse perform(String uri, String key, FilterChain chain) throws Exception {
+        return perform(uri, key, "{}", chain);
+    }
+
+    private MockHttpServletResponse perform(String uri, String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain respond(int status) {
+        return (request, response) -> write((HttpServletResponse) response, status);
+    }
+
+    private void write(HttpServletResponse response, int status) throws IOException {
+        int execution = executions.incrementAndGet();
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(("{\"execution\":" + execution + "}").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,66 @@
+package com.gymapp.backend.web;
+
+import com.gymapp.backend.datasource.ReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+    private static final Instant NOW = Instant.parse("2025-03-03T12:00:00Z");
+    private static final Duration STICKY_WINDOW = Duration.ofSeconds(5);
+
+    private ReadYourWritesFilter filter;
+    private AtomicLong pinnedUntil;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ReadYourWritesFilter(STICKY_WINDOW, Clock.fixed(NOW, ZoneOffset.UTC));
+        pinnedUntil = new AtomicLong();
+        chain = (request, response) -> pinnedUntil.set(ReadYourWritesContext.pinnedUntil());
+    }
+
+    @Test
+    @DisplayName("Should issue a pin cookie on writes and honour it on the next read")
+    void pinsReadsAfterWrite() throws Exception {
+        MockHttpServletResponse written = perform("POST", null);
+        Cookie cookie = written.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        perform("GET", cookie);
+
+        assertThat(cookie).isNotNull();
+        assertThat(pinnedUntil).hasValue(NOW.toEpochMilli() + STICKY_WINDOW.toMillis());
+    }
+
+    @Test
+    @DisplayName("Should cap a forged pin cookie at one sticky window")
+    void capsForgedCookie() throws Exception {
+        long forged = NOW.plus(Duration.ofDays(365)).toEpochMilli();
+
+        perform("GET", new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(forged)));
+
+        assertThat(pinnedUntil).hasValue(NOW.toEpochMilli() + STICKY_WINDOW.toMillis());
+    }
+
+    private MockHttpServletResponse perform(String method, Cookie cookie) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/members");
+        if (cookie != null) {
+            request.setCookies(cookie);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
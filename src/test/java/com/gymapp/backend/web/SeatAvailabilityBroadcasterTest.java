@@ -0,0 +1,211 @@
+package com.gymapp.backend.web;
+
+import com.gymapp.backend.dtos.responses.GymClassResponse;
+import com.gymapp.backend.dtos.responses.SeatAvailabilityResponse;
+import com.gymapp.backend.events.GymClassChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatAvailabilityBroadcasterTest {
+    private static final Duration INTERVAL = Duration.ofMillis(150);
+
+    private SeatAvailabilityBroadcaster broadcaster;
+    private RecordingEmitter emitter;
+    private UUID classId;
+
+    @BeforeEach
+    void setUp() {
+        classId = UUID.randomUUID();
+        emitter = new RecordingEmitter();
+        broadcaster = new SeatAvailabilityBroadcaster(INTERVAL, Duration.ofMinutes(1)) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send current availability on subscribe")
+    void subscribe_SendsSnapshot() throws Exception {
+        subscribe(gymClass(5));
+
+        assertThat(emitter.next().getAvailableSpots()).isEqualTo(15);
+        assertThat(broadcaster.subscriberCount(classId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should coalesce bursts of changes into at most one event per interval")
+    void onClassChanged_CoalescesBursts() throws Exception {
+        subscribe(gymClass(5));
+        emitter.next();
+
+        for (int enrolled = 6; enrolled <= 10; enrolled++) {
+            broadcaster.onClassChanged(new GymClassChangedEvent(gymClass(enrolled)));
+        }
+
+        List<SeatAvailabilityResponse> received = new ArrayList<>();
+        received.add(emitter.next());
+        SeatAvailabilityResponse more;
+        while ((more = emitter.events.poll(INTERVAL.toMillis() * 3, TimeUnit.MILLISECONDS)) != null) {
+            received.add(more);
+        }
+
+        assertThat(received).hasSizeLessThanOrEqualTo(2);
+        assertThat(received.getLast().getAvailableSpots()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should space consecutive events by the coalescing interval")
+    void onClassChanged_RespectsInterval() throws Exception {
+        subscribe(gymClass(5));
+        emitter.next();
+
+        broadcaster.onClassChanged(new GymClassChangedEvent(gymClass(6)));
+        emitter.next();
+        long firstDelivered = System.nanoTime();
+        broadcaster.onClassChanged(new GymClassChangedEvent(gymClass(7)));
+
+        assertThat(emitter.next().getAvailableSpots()).isEqualTo(13);
+        assertThat(System.nanoTime() - firstDelivered).isGreaterThanOrEqualTo(INTERVAL.toNanos() / 2);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes for classes nobody is watching")
+    void onClassChanged_NoSubscribers() throws Exception {
+        broadcaster.onClassChanged(new GymClassChangedEvent(gymClass(6)));
+
+        assertThat(broadcaster.subscriberCount(classId)).isZero();
+        assertThat(emitter.events.poll(INTERVAL.toMillis() * 2, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop subscribers whose connection fails")
+    void onClassChanged_DropsBrokenSubscriber() throws Exception {
+        subscribe(gymClass(5));
+        emitter.next();
+        emitter.broken = true;
+
+        broadcaster.onClassChanged(new GymClassChangedEvent(gymClass(6)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (broadcaster.subscriberCount(classId) > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.subscriberCount(classId)).isZero();
+        assertThat(emitter.failure).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Should register the subscriber before its snapshot and fail the emitter if the snapshot cannot be sent")
+    void subscribe_FailsEmitterWhenSnapshotCannotBeSent() throws Exception {
+        emitter.broken = true;
+
+        subscribe(gymClass(5));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (emitter.failure == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(emitter.failure).isInstanceOf(IOException.class);
+        assertThat(broadcaster.subscriberCount(classId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should deliver a change that commits while the snapshot is being read")
+    void subscribe_DeliversChangeRacingSnapshot() throws Exception {
+        broadcaster.subscribe(classId, () -> {
+            broadcaster.onClassChanged(new GymClassChangedEvent(gymClass(6)));
+            return gymClass(5);
+        });
+
+        assertThat(drain().getLast().getAvailableSpots()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("Should ignore updates older than the last one offered")
+    void onClassChanged_DropsStaleUpdates() throws Exception {
+        subscribe(gymClass(5));
+        emitter.next();
+
+        broadcaster.onClassChanged(new GymClassChangedEvent(gymClass(8)));
+        broadcaster.onClassChanged(new GymClassChangedEvent(gymClass(7)));
+
+        assertThat(drain()).extracting(SeatAvailabilityResponse::getAvailableSpots).containsExactly(12);
+    }
+
+    private void subscribe(GymClassResponse gymClass) {
+        broadcaster.subscribe(classId, () -> gymClass);
+    }
+
+    private List<SeatAvailabilityResponse> drain() throws InterruptedException {
+        List<SeatAvailabilityResponse> received = new ArrayList<>();
+        received.add(emitter.next());
+        SeatAvailabilityResponse more;
+        while ((more = emitter.events.poll(INTERVAL.toMillis() * 3, TimeUnit.MILLISECONDS)) != null) {
+            received.add(more);
+        }
+        return received;
+    }
+
+    // Each enrollment bumps the class version, so the enrolled count doubles as the version here.
+    private GymClassResponse gymClass(int enrolled) {
+        return GymClassResponse.builder()
+                .id(classId)
+                .version((long) enrolled)
+                .maxCapacity(20)
+                .currentEnrollment(enrolled)
+                .availableSpots(20 - enrolled)
+                .active(true)
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<SeatAvailabilityResponse> events = new LinkedBlockingQueue<>();
+        private volatile boolean broken;
+        private volatile Throwable failure;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(SeatAvailabilityResponse.class::isInstance)
+                    .map(SeatAvailabilityResponse.class::cast)
+                    .forEach(events::add);
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failure = ex;
+            super.completeWithError(ex);
+        }
+
+        private SeatAvailabilityResponse next() throws InterruptedException {
+            SeatAvailabilityResponse event = events.poll(2, TimeUnit.SECONDS);
+            assertThat(event).as("expected a seat availability event").isNotNull();
+            return event;
+        }
+    }
+}